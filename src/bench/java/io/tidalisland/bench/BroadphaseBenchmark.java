@@ -0,0 +1,78 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.collision.Collider;
+import io.tidalisland.collision.SweepAndPrune;
+import io.tidalisland.utils.Position;
+import io.tidalisland.worldobjects.WorldObject;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks one tick of the {@link SweepAndPrune} broadphase: every mobile entity takes a random
+ * step, then all candidate pairs are collected. A 60 Hz tick leaves about 16.6 ms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadphaseBenchmark {
+
+  private static final int ENTITY_SIZE = 24;
+  private static final int STEP = 4;
+
+  @Param({"200"})
+  private int mapSize;
+
+  @Param({"2000"})
+  private int objectCount;
+
+  @Param({"100", "500"})
+  private int entityCount;
+
+  private SweepAndPrune<Object> broadphase;
+  private Collider[] entities;
+  private Random random;
+  private int pairs;
+
+  @Setup
+  public void setup() {
+    SyntheticWorld world = SyntheticWorld.generate(mapSize, objectCount, SyntheticWorld.SEED);
+    broadphase = new SweepAndPrune<>();
+    for (WorldObject obj : world.getWorldObjectManager().getAll()) {
+      broadphase.add(obj, obj.getCollider(), false);
+    }
+
+    // Entities start on random land tiles
+    List<Position> land = world.getLandPositions();
+    random = new Random(SyntheticWorld.SEED);
+    entities = new Collider[entityCount];
+    for (int i = 0; i < entityCount; i++) {
+      Position pos = land.get(random.nextInt(land.size()));
+      entities[i] = new Collider(pos.getX(), pos.getY(), ENTITY_SIZE, ENTITY_SIZE);
+      broadphase.add(entities[i], entities[i], true);
+    }
+  }
+
+  @Benchmark
+  public int tick() {
+    for (Collider entity : entities) {
+      entity.move(random.nextInt(2 * STEP + 1) - STEP, random.nextInt(2 * STEP + 1) - STEP);
+    }
+    pairs = 0;
+    return broadphase.findPairs((a, b) -> pairs++);
+  }
+}
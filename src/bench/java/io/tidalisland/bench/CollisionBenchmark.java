@@ -0,0 +1,76 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.collision.CollisionManager;
+import io.tidalisland.collision.SweptResolver;
+import io.tidalisland.entities.Player;
+import io.tidalisland.utils.Position;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link CollisionManager#canMove} and {@link SweptResolver} at positions spread over
+ * the island.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+  @Param({"50", "200"})
+  private int mapSize;
+
+  @Param({"100", "2000"})
+  private int objectCount;
+
+  private CollisionManager collisionManager;
+  private SweptResolver sweptResolver;
+  private Player player;
+  private Position[] targets;
+  private int next;
+
+  @Setup
+  public void setup() {
+    SyntheticWorld world = SyntheticWorld.generate(mapSize, objectCount, SyntheticWorld.SEED);
+    collisionManager = world.getCollisionManager();
+    sweptResolver = new SweptResolver(world.getWorldMap(), world.getWorldObjectManager());
+    player = world.getPlayer();
+
+    // Probe near land, off the tile grid so colliders straddle several tiles
+    List<Position> land = world.getLandPositions();
+    Random random = new Random(SyntheticWorld.SEED);
+    targets = new Position[1024];
+    for (int i = 0; i < targets.length; i++) {
+      Position base = land.get(random.nextInt(land.size()));
+      targets[i] = new Position(base.getX() + random.nextInt(32), base.getY() + random.nextInt(32));
+    }
+  }
+
+  @Benchmark
+  public boolean canMove() {
+    Position target = targets[next++ & (targets.length - 1)];
+    return collisionManager.canMove(player, target);
+  }
+
+  @Benchmark
+  public int sweep() {
+    // A long diagonal-ish move, resolved one axis at a time like CollisionManager.move
+    Position target = targets[next++ & (targets.length - 1)];
+    int dx = sweptResolver.resolveX(target.getX(), target.getY(), 24, 24, 96);
+    return dx + sweptResolver.resolveY(target.getX() + dx, target.getY(), 24, 24, -96);
+  }
+}
@@ -0,0 +1,64 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.inventory.Inventory;
+import io.tidalisland.items.Apple;
+import io.tidalisland.items.Item;
+import io.tidalisland.items.Leaf;
+import io.tidalisland.items.Plank;
+import io.tidalisland.items.Stone;
+import io.tidalisland.items.Wood;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Inventory#add} and {@link Inventory#getQuantity} on a partly filled inventory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+
+  /** Number of slots, three quarters of which are filled. */
+  @Param({"16", "256"})
+  private int slots;
+
+  private Inventory inventory;
+  private Item wood;
+
+  @Setup
+  public void setup() {
+    inventory = new Inventory(slots);
+    Item[] items = {new Stone(), new Leaf(), new Plank(), new Apple()};
+    for (int i = 0; i < slots * 3 / 4; i++) {
+      Item item = items[i % items.length];
+      inventory.add(item, item.getMaxStackSize());
+    }
+    wood = new Wood();
+  }
+
+  /** Adds an item and removes it again. */
+  @Benchmark
+  public boolean addRemove() {
+    boolean added = inventory.add(wood, 1);
+    inventory.remove(wood, 1);
+    return added;
+  }
+
+  @Benchmark
+  public int getQuantity() {
+    return inventory.getQuantity(Stone.TYPE);
+  }
+}
@@ -0,0 +1,47 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.spawning.SpawnManager;
+import io.tidalisland.utils.Position;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SpawnManager#findValidSpawnPosition}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchmark {
+
+  @Param({"50", "200"})
+  private int mapSize;
+
+  @Param({"100", "2000"})
+  private int objectCount;
+
+  private SpawnManager spawnManager;
+
+  @Setup
+  public void setup() {
+    spawnManager =
+        SyntheticWorld.generate(mapSize, objectCount, SyntheticWorld.SEED).getSpawnManager();
+  }
+
+  @Benchmark
+  public Position findValidSpawnPosition() {
+    return spawnManager.findValidSpawnPosition();
+  }
+}
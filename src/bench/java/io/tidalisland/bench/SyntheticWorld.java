@@ -0,0 +1,140 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.collision.CollisionManager;
+import io.tidalisland.config.Config;
+import io.tidalisland.entities.Player;
+import io.tidalisland.input.KeyHandler;
+import io.tidalisland.spawning.SpawnManager;
+import io.tidalisland.tiles.TileSet;
+import io.tidalisland.tiles.TileSetLoader;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.utils.Position;
+import io.tidalisland.worldobjects.Bush;
+import io.tidalisland.worldobjects.Rock;
+import io.tidalisland.worldobjects.Tree;
+import io.tidalisland.worldobjects.WorldObject;
+import io.tidalisland.worldobjects.WorldObjectManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A reproducible, randomly shaped island for benchmarks.
+ *
+ * <p>The island is a grass core ringed by sand, surrounded by water, with an irregular coastline.
+ * World objects are scattered over the grass. The same size, object count and seed always produce
+ * the same world.
+ */
+public final class SyntheticWorld {
+
+  /** Default seed used by the benchmarks. */
+  public static final long SEED = 42;
+
+  private final WorldMap worldMap;
+  private final WorldObjectManager worldObjectManager;
+  private final CollisionManager collisionManager;
+  private final SpawnManager spawnManager;
+  private final Player player;
+  private final List<Position> landPositions;
+
+  private SyntheticWorld(WorldMap worldMap, List<WorldObject> objects,
+      List<Position> landPositions) {
+    this.worldMap = worldMap;
+    this.worldObjectManager = new WorldObjectManager(worldMap, objects);
+    this.collisionManager = new CollisionManager(worldMap, worldObjectManager);
+    this.spawnManager = new SpawnManager(worldMap, worldObjectManager);
+    this.landPositions = landPositions;
+    this.player = new Player(new KeyHandler(), spawnManager.findValidSpawnPosition());
+  }
+
+  /**
+   * Generates a square island.
+   *
+   * @param size the width and height of the map (in tiles)
+   * @param objectCount how many world objects to place, up to three quarters of the grass tiles
+   * @param seed the random seed
+   * @return the generated world
+   */
+  public static SyntheticWorld generate(int size, int objectCount, long seed) {
+    Random random = new Random(seed);
+    Config.random().setSeed(seed);
+
+    TileSet tileSet = TileSetLoader.load("/tilesets/tileset.json");
+    short grass = (short) tileSet.get("grass");
+    short sand = (short) tileSet.get("sand");
+    short water = (short) tileSet.get("water");
+
+    // Coastline radius varies with the angle from the center
+    double phase1 = random.nextDouble() * Math.PI * 2;
+    double phase2 = random.nextDouble() * Math.PI * 2;
+    double center = (size - 1) / 2.0;
+
+    short[] tileIds = new short[size * size];
+    List<Position> land = new ArrayList<>();
+    for (int col = 0; col < size; col++) {
+      for (int row = 0; row < size; row++) {
+        double dx = (col - center) / center;
+        double dy = (row - center) / center;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        double angle = Math.atan2(dy, dx);
+        double coast =
+            0.75 + 0.1 * Math.sin(3 * angle + phase1) + 0.05 * Math.sin(7 * angle + phase2);
+
+        if (distance < coast - 0.1) {
+          tileIds[row * size + col] = grass;
+          land.add(new Position(col * Config.tileSize(), row * Config.tileSize()));
+        } else if (distance < coast) {
+          tileIds[row * size + col] = sand;
+        } else {
+          tileIds[row * size + col] = water;
+        }
+      }
+    }
+
+    // Scatter objects over distinct grass tiles, leaving a quarter of them open
+    List<Position> candidates = new ArrayList<>(land);
+    List<WorldObject> objects = new ArrayList<>();
+    int placed = Math.min(objectCount, land.size() * 3 / 4);
+    for (int i = 0; i < placed; i++) {
+      int idx = random.nextInt(candidates.size());
+      Position pos = candidates.get(idx);
+      candidates.set(idx, candidates.get(candidates.size() - 1));
+      candidates.remove(candidates.size() - 1);
+
+      objects.add(switch (random.nextInt(3)) {
+        case 0 -> new Tree(pos);
+        case 1 -> new Rock(pos);
+        default -> new Bush(pos);
+      });
+    }
+
+    return new SyntheticWorld(new WorldMap(size, size, tileIds, tileSet), objects, land);
+  }
+
+  public WorldMap getWorldMap() {
+    return worldMap;
+  }
+
+  public WorldObjectManager getWorldObjectManager() {
+    return worldObjectManager;
+  }
+
+  public CollisionManager getCollisionManager() {
+    return collisionManager;
+  }
+
+  public SpawnManager getSpawnManager() {
+    return spawnManager;
+  }
+
+  public Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Gets the top-left corner of every grass tile, in generation order.
+   */
+  public List<Position> getLandPositions() {
+    return landPositions;
+  }
+}
@@ -0,0 +1,59 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.engine.GameClock;
+import io.tidalisland.tide.TidalManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks flooding a whole island with {@link TidalManager}, one wave per update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TidalBenchmark {
+
+  /** Short enough to truncate to a zero millisecond interval, so every update floods a wave. */
+  private static final double NO_INTERVAL = 1e-6;
+
+  @Param({"50", "200"})
+  private int mapSize;
+
+  @Param({"100", "2000"})
+  private int objectCount;
+
+  private TidalManager tidalManager;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    SyntheticWorld world = SyntheticWorld.generate(mapSize, objectCount, SyntheticWorld.SEED);
+    tidalManager = new TidalManager(world.getWorldMap(), world.getWorldObjectManager(),
+        world.getCollisionManager(), world.getWorldMap().getTileSet(), world.getPlayer(),
+        NO_INTERVAL, NO_INTERVAL);
+    GameClock.getInstance().reset();
+  }
+
+  @Benchmark
+  public int floodIsland() {
+    int waves = 0;
+    while (!tidalManager.isFullyFlooded()) {
+      tidalManager.update();
+      waves++;
+    }
+    return waves;
+  }
+}
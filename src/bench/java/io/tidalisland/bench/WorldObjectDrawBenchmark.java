@@ -0,0 +1,88 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.config.Config;
+import io.tidalisland.graphics.AssetManager;
+import io.tidalisland.graphics.Camera;
+import io.tidalisland.worldobjects.WorldObjectManager;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WorldObjectManager#draw} into an offscreen image of the screen size, with the
+ * sprites loaded one image each or packed into the atlas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WorldObjectDrawBenchmark {
+
+  @Param({"50", "200"})
+  private int mapSize;
+
+  @Param({"100", "2000"})
+  private int objectCount;
+
+  @Param({"false", "true"})
+  private boolean atlas;
+
+  private WorldObjectManager worldObjectManager;
+  private Camera camera;
+  private BufferedImage screen;
+  private Graphics2D g;
+  private int[][] views;
+  private int next;
+
+  @Setup
+  public void setup() {
+    AssetManager.clear();
+    if (atlas) {
+      AssetManager.loadAtlas("/sprites/atlas.json");
+    }
+    SyntheticWorld world = SyntheticWorld.generate(mapSize, objectCount, SyntheticWorld.SEED);
+    worldObjectManager = world.getWorldObjectManager();
+    camera = new Camera();
+    screen =
+        new BufferedImage(Config.screenWidth(), Config.screenHeight(), BufferedImage.TYPE_INT_ARGB);
+    g = screen.createGraphics();
+
+    // Camera positions spread over the whole map
+    int maxX = Math.max(1, mapSize * Config.tileSize() - Config.screenWidth());
+    int maxY = Math.max(1, mapSize * Config.tileSize() - Config.screenHeight());
+    Random random = new Random(SyntheticWorld.SEED);
+    views = new int[64][];
+    for (int i = 0; i < views.length; i++) {
+      views[i] = new int[] {random.nextInt(maxX), random.nextInt(maxY)};
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    g.dispose();
+  }
+
+  /** Draws the objects in a panning view. */
+  @Benchmark
+  public BufferedImage draw() {
+    int[] view = views[next++ & (views.length - 1)];
+    camera.setPosition(view[0], view[1]);
+    worldObjectManager.draw(g, camera);
+    return screen;
+  }
+}
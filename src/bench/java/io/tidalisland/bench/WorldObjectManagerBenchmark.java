@@ -0,0 +1,95 @@
+package io.tidalisland.bench;
+
+import io.tidalisland.config.Config;
+import io.tidalisland.utils.Position;
+import io.tidalisland.worldobjects.Rock;
+import io.tidalisland.worldobjects.WorldObject;
+import io.tidalisland.worldobjects.WorldObjectManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks adding and moving objects in a populated {@link WorldObjectManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldObjectManagerBenchmark {
+
+  @Param({"50", "200"})
+  private int mapSize;
+
+  @Param({"100", "2000"})
+  private int objectCount;
+
+  private WorldObjectManager worldObjectManager;
+  private WorldObject[] free; // objects on free tiles, not yet added
+  private WorldObject[] moving; // added objects that move back and forth
+  private Position[] from;
+  private Position[] to;
+  private int next;
+
+  @Setup
+  public void setup() {
+    SyntheticWorld world = SyntheticWorld.generate(mapSize, objectCount, SyntheticWorld.SEED);
+    worldObjectManager = world.getWorldObjectManager();
+
+    List<Position> open = new ArrayList<>();
+    for (Position pos : world.getLandPositions()) {
+      if (worldObjectManager.getObjectAtTile(
+          pos.getX() / Config.tileSize(), pos.getY() / Config.tileSize()) == null) {
+        open.add(pos);
+      }
+    }
+
+    // Half the open tiles take new objects, the other half are move targets
+    int count = Math.min(256, open.size() / 4);
+    if (count == 0) {
+      throw new IllegalStateException("No open tiles left for " + objectCount + " objects");
+    }
+    free = new WorldObject[count];
+    moving = new WorldObject[count];
+    from = new Position[count];
+    to = new Position[count];
+    for (int i = 0; i < count; i++) {
+      free[i] = new Rock(open.get(4 * i));
+      from[i] = open.get(4 * i + 1);
+      to[i] = open.get(4 * i + 2);
+      moving[i] = new Rock(from[i].copy());
+      worldObjectManager.add(moving[i]);
+    }
+  }
+
+  /** Adds an object to a free tile and removes it again. */
+  @Benchmark
+  public boolean addRemove() {
+    WorldObject obj = free[next++ % free.length];
+    boolean added = worldObjectManager.add(obj);
+    worldObjectManager.remove(obj);
+    return added;
+  }
+
+  /** Moves an object to another free tile and back. */
+  @Benchmark
+  public boolean move() {
+    int i = next++ % moving.length;
+    boolean moved = worldObjectManager.move(moving[i], to[i]);
+    worldObjectManager.move(moving[i], from[i]);
+    return moved;
+  }
+}
@@ -50,6 +50,42 @@ public class Collider {
     return rect.intersects(other.rect);
   }
 
+  /**
+   * Checks if this collider intersects with an area.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @return true if the collider intersects the area, false otherwise
+   * @see #intersects(Collider)
+   */
+  public boolean intersects(int x, int y, int width, int height) {
+    return intersects(rect.x, rect.y, rect.width, rect.height, x, y, width, height);
+  }
+
+  /**
+   * Checks if two areas intersect, without creating colliders for them. Empty areas never
+   * intersect.
+   *
+   * @param ax the x-coordinate of the first area
+   * @param ay the y-coordinate of the first area
+   * @param aw the width of the first area
+   * @param ah the height of the first area
+   * @param bx the x-coordinate of the second area
+   * @param by the y-coordinate of the second area
+   * @param bw the width of the second area
+   * @param bh the height of the second area
+   * @return true if the areas intersect, false otherwise
+   */
+  public static boolean intersects(int ax, int ay, int aw, int ah, int bx, int by, int bw,
+      int bh) {
+    if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) {
+      return false;
+    }
+    return ax < bx + bw && ax + aw > bx && ay < by + bh && ay + ah > by;
+  }
+
   /**
    * Checks if a point is inside this collider.
    *
@@ -68,9 +104,24 @@ public class Collider {
    * @return true if the other collider is inside this collider, false otherwise
    */
   public boolean contains(Collider other, int tolerance) {
-    return other.getX() >= this.getX() - tolerance && other.getY() >= this.getY() - tolerance
-        && other.getX() + other.getWidth() <= this.getX() + this.getWidth() + tolerance
-        && other.getY() + other.getHeight() <= this.getY() + this.getHeight() + tolerance;
+    return contains(other.getX(), other.getY(), other.getWidth(), other.getHeight(), tolerance);
+  }
+
+  /**
+   * Checks if an area is inside this collider.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @param tolerance how far the area can be outside this collider
+   * @return true if the area is inside this collider, false otherwise
+   * @see #contains(Collider, int)
+   */
+  public boolean contains(int x, int y, int width, int height, int tolerance) {
+    return x >= rect.x - tolerance && y >= rect.y - tolerance
+        && x + width <= rect.x + rect.width + tolerance
+        && y + height <= rect.y + rect.height + tolerance;
   }
 
   /**
@@ -315,6 +366,14 @@ public class Collider {
     rect.height = height;
   }
 
+  public int getOffsetX() {
+    return offsetX;
+  }
+
+  public int getOffsetY() {
+    return offsetY;
+  }
+
   public void setOffset(int offsetX, int offsetY) {
     this.offsetX = offsetX;
     this.offsetY = offsetY;
@@ -9,6 +9,7 @@ import io.tidalisland.utils.Position;
 import io.tidalisland.worldobjects.WorldObject;
 import io.tidalisland.worldobjects.WorldObjectManager;
 import io.tidalisland.worldobjects.WorldObjectType;
+import java.util.function.Predicate;
 
 /**
  * Manages collisions between entities and the world.
@@ -17,8 +18,17 @@ public class CollisionManager {
 
   private final WorldMap worldMap;
   private final WorldObjectManager worldObjectManager;
+  private final SweptResolver sweptResolver;
   private int collisionCount;
 
+  // Area of the current tile query, read by a predicate allocated once
+  private int queryX;
+  private int queryY;
+  private int queryWidth;
+  private int queryHeight;
+  private final Predicate<WorldObject> floatableCover = obj -> obj.isFloatable()
+      && obj.getCollider().contains(queryX, queryY, queryWidth, queryHeight, 0);
+
   /**
    * Creates a new collision manager.
    *
@@ -28,34 +38,55 @@ public class CollisionManager {
   public CollisionManager(WorldMap worldMap, WorldObjectManager worldObjectManager) {
     this.worldMap = worldMap;
     this.worldObjectManager = worldObjectManager;
+    this.sweptResolver = new SweptResolver(worldMap, worldObjectManager);
   }
 
   /**
-   * Checks if an entity can move to a new position without colliding.
+   * Moves an entity as far as it can towards a target offset, first horizontally and then
+   * vertically, so a blocked axis does not stop movement along the other one.
    *
    * @param entity the entity
-   * @param nextX the next x-coordinate
-   * @param nextY the next y-coordinate
-   * @return true if the entity can move to the new position, false otherwise
+   * @param dx the horizontal distance to move
+   * @param dy the vertical distance to move
+   * @return true if the entity moved the whole distance, false if it was stopped
    */
-  public boolean canMove(Entity entity, int nextX, int nextY) {
-    // Create a hypothetical collider at the new position
-    Collider future = entity.getCollider().copy();
-    future.updatePosition(nextX, nextY);
+  public boolean move(Entity entity, int dx, int dy) {
+    Collider collider = entity.getCollider();
+    int x = collider.getX();
+    int y = collider.getY();
+    int w = collider.getWidth();
+    int h = collider.getHeight();
+
+    int movedX = sweptResolver.resolveX(x, y, w, h, dx);
+    int movedY = sweptResolver.resolveY(x + movedX, y, w, h, dy);
+    if (movedX != 0 || movedY != 0) {
+      entity.getPosition().move(movedX, movedY);
+      collider.updatePosition(entity.getPosition());
+    }
 
-    // Check collision with world tiles
-    if (getCollidingTile(future) != null) {
+    if (movedX != dx || movedY != dy) {
       collisionCount++;
       return false;
     }
+    return true;
+  }
 
-    // Check collision with world objects
-    WorldObject worldObj = getCollidingObject(future);
-    if (worldObj != null && worldObj.isSolid()) {
+  /**
+   * Checks if an entity can move to a new position without colliding.
+   *
+   * @param entity the entity
+   * @param nextX the next x-coordinate
+   * @param nextY the next y-coordinate
+   * @return true if the entity can move to the new position, false otherwise
+   */
+  public boolean canMove(Entity entity, int nextX, int nextY) {
+    // Test the collider's area at the new position, without moving or copying the collider
+    Collider collider = entity.getCollider();
+    if (isBlocked(nextX + collider.getOffsetX(), nextY + collider.getOffsetY(),
+        collider.getWidth(), collider.getHeight())) {
       collisionCount++;
       return false;
     }
-
     return true;
   }
 
@@ -70,47 +101,68 @@ public class CollisionManager {
     return canMove(entity, nextPosition.getX(), nextPosition.getY());
   }
 
+  /**
+   * Checks if an area intersects any solid tiles or solid world objects.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @return true if the area is blocked, false otherwise
+   */
+  public boolean isBlocked(int x, int y, int width, int height) {
+    return getCollidingTile(x, y, width, height) != null
+        || getCollidingObject(x, y, width, height) != null;
+  }
+
   /**
    * Checks if a collider intersects any solid tiles in the world.
    *
    * @param collider the collider
-   * @return true if the collider intersects a solid tile, false otherwise
+   * @return the colliding tile, or null if none
    */
   public Tile getCollidingTile(Collider collider) {
-    // Check if the player is standing on any floatable object
-    for (WorldObject obj : worldObjectManager.getAll()) {
-      if (obj.isFloatable() && obj.getCollider().contains(collider)) {
-        return null;
-      }
+    return getCollidingTile(collider.getX(), collider.getY(), collider.getWidth(),
+        collider.getHeight());
+  }
+
+  /**
+   * Checks if an area intersects any solid tiles in the world.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @return the colliding tile, or null if none
+   */
+  public Tile getCollidingTile(int x, int y, int width, int height) {
+    // Check if the area is standing on any floatable object
+    queryX = x;
+    queryY = y;
+    queryWidth = width;
+    queryHeight = height;
+    if (worldObjectManager.getSpatialGrid().findFirst(x, y, width, height, floatableCover)
+        != null) {
+      return null;
     }
 
     // Check collisions with solid tiles
-    int startCol = collider.getX() / Config.tileSize();
-    int startRow = collider.getY() / Config.tileSize();
-    int endCol = (collider.getX() + collider.getWidth()) / Config.tileSize();
-    int endRow = (collider.getY() + collider.getHeight()) / Config.tileSize();
+    int tileSize = Config.tileSize();
+    int startCol = x / tileSize;
+    int startRow = y / tileSize;
+    int endCol = (x + width) / tileSize;
+    int endRow = (y + height) / tileSize;
 
     for (int row = startRow; row <= endRow; row++) {
       for (int col = startCol; col <= endCol; col++) {
-        Tile tile = worldMap.getTile(col, row);
-        if (tile == null) {
-          continue;
-        }
-
-        boolean tileIsSolid = tile.isSolid();
-
         // Water is solid if no floatable object covers it
-        if (tile.getName().equals("water")) {
-          tileIsSolid = true;
+        if (!worldMap.isSolid(col, row) && !worldMap.isWater(col, row)) {
+          continue;
         }
 
-        if (tileIsSolid) {
-          Collider tileCollider = new Collider(col * Config.tileSize(), row * Config.tileSize(),
-              Config.tileSize(), Config.tileSize());
-
-          if (collider.intersects(tileCollider)) {
-            return tile;
-          }
+        if (Collider.intersects(x, y, width, height, col * tileSize, row * tileSize, tileSize,
+            tileSize)) {
+          return worldMap.getTile(col, row);
         }
       }
     }
@@ -125,17 +177,21 @@ public class CollisionManager {
    * @return the colliding world object, or null if none
    */
   public WorldObject getCollidingObject(Collider collider) {
-    for (WorldObject obj : worldObjectManager.getAll()) {
-      // Skip non-solid objects
-      if (!obj.isSolid()) {
-        continue;
-      }
+    return worldObjectManager.getSpatialGrid().findFirst(collider, WorldObject::isSolid);
+  }
 
-      if (collider.intersects(obj.getCollider())) {
-        return obj;
-      }
-    }
-    return null;
+  /**
+   * Checks if an area intersects any solid world objects in the world.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @return the colliding world object, or null if none
+   */
+  public WorldObject getCollidingObject(int x, int y, int width, int height) {
+    return worldObjectManager.getSpatialGrid().findFirst(x, y, width, height,
+        WorldObject::isSolid);
   }
 
   /**
@@ -146,12 +202,8 @@ public class CollisionManager {
    * @return the world object in front of the collider, or null if none
    */
   public WorldObject getObjectInFront(Collider collider, Direction direction, int range) {
-    for (WorldObject obj : worldObjectManager.getAll()) {
-      if (collider.isInFrontOf(obj.getCollider(), direction, range)) {
-        return obj;
-      }
-    }
-    return null;
+    return worldObjectManager.getSpatialGrid().findInFront(collider, direction, range,
+        obj -> true);
   }
 
   /**
@@ -162,14 +214,8 @@ public class CollisionManager {
    * @return true if the collider is on the world object, false otherwise
    */
   public boolean isOnObject(Collider collider, WorldObjectType objectType) {
-    for (WorldObject obj : worldObjectManager.getAll()) {
-      if (obj.getType() == objectType) {
-        if (obj.getCollider().contains(collider)) {
-          return true;
-        }
-      }
-    }
-    return false;
+    return worldObjectManager.getSpatialGrid().findFirst(collider,
+        obj -> obj.getType() == objectType && obj.getCollider().contains(collider)) != null;
   }
 
   /**
@@ -189,7 +235,7 @@ public class CollisionManager {
     for (int i = startRow; i <= endRow; i++) {
       for (int j = startCol; j <= endCol; j++) {
         // Only include valid map positions
-        if (j >= 0 && j < Config.mapWidth() && i >= 0 && i < Config.mapHeight()) {
+        if (j >= 0 && j < worldMap.getWidth() && i >= 0 && i < worldMap.getHeight()) {
           if (i == row && j == col) {
             return true;
           }
@@ -0,0 +1,372 @@
+package io.tidalisland.collision;
+
+import io.tidalisland.utils.Direction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A uniform grid that indexes items by the cells their {@link Collider}s overlap.
+ *
+ * <p>Each item is registered in every cell its collider covers, so range, point and directional
+ * queries only visit the items near the queried area instead of the whole collection. Items
+ * outside the grid are clamped into the border cells.
+ *
+ * <p>Cells are grouped in 16x16 pages, and a page is only allocated once an item lands on it, so a
+ * large, mostly empty grid costs little memory.
+ *
+ * @param <T> the type of indexed items
+ */
+public class SpatialGrid<T> {
+
+  private static final int PAGE_SHIFT = 4;
+  private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  private final int cellSize;
+  private final int cols;
+  private final int rows;
+  private final int pageCols;
+  private final List<Entry<T>>[][] pages; // cells of each page, or null until used
+  private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+  /** Incremented per range query to skip items registered in several visited cells. */
+  private int queryStamp = 0;
+
+  /**
+   * Creates a new spatial grid.
+   *
+   * @param cols the number of columns
+   * @param rows the number of rows
+   * @param cellSize the width and height of a cell (in pixels)
+   * @throws IllegalArgumentException if any dimension is less than 1
+   */
+  @SuppressWarnings("unchecked")
+  public SpatialGrid(int cols, int rows, int cellSize) {
+    if (cols < 1 || rows < 1 || cellSize < 1) {
+      throw new IllegalArgumentException("Grid dimensions must be at least 1");
+    }
+    this.cols = cols;
+    this.rows = rows;
+    this.cellSize = cellSize;
+    this.pageCols = (cols + PAGE_MASK) >> PAGE_SHIFT;
+    int pageRows = (rows + PAGE_MASK) >> PAGE_SHIFT;
+    this.pages = new List[pageCols * pageRows][];
+  }
+
+  /**
+   * Adds an item to the grid. If the item is already indexed, it is re-indexed.
+   *
+   * @param item the item
+   * @param collider the collider that bounds the item
+   */
+  public void insert(T item, Collider collider) {
+    Entry<T> entry = entries.get(item);
+    if (entry != null) {
+      unlink(entry);
+      entry.collider = collider;
+    } else {
+      entry = new Entry<>(item, collider);
+      entries.put(item, entry);
+    }
+    link(entry);
+  }
+
+  /**
+   * Removes an item from the grid.
+   *
+   * @param item the item
+   * @return true if the item was indexed, false otherwise
+   */
+  public boolean remove(T item) {
+    Entry<T> entry = entries.remove(item);
+    if (entry == null) {
+      return false;
+    }
+    unlink(entry);
+    return true;
+  }
+
+  /**
+   * Re-indexes an item after its collider has moved.
+   *
+   * @param item the item
+   */
+  public void update(T item) {
+    Entry<T> entry = entries.get(item);
+    if (entry == null) {
+      return;
+    }
+    Collider c = entry.collider;
+    if (entry.minCol == colOf(c.left()) && entry.maxCol == lastColOf(c)
+        && entry.minRow == rowOf(c.top()) && entry.maxRow == lastRowOf(c)) {
+      return; // still covers the same cells
+    }
+    unlink(entry);
+    link(entry);
+  }
+
+  /**
+   * Checks if an item is indexed.
+   */
+  public boolean contains(T item) {
+    return entries.containsKey(item);
+  }
+
+  /**
+   * Number of indexed items.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Removes every item from the grid.
+   */
+  public void clear() {
+    entries.clear();
+    Arrays.fill(pages, null);
+  }
+
+  /**
+   * Collects every item whose collider intersects an area.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @param out the list to fill; it is cleared first
+   */
+  public void query(int x, int y, int width, int height, List<T> out) {
+    out.clear();
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    int stamp = ++queryStamp;
+    int minCol = colOf(x);
+    int maxCol = colOf(x + width - 1);
+    int minRow = rowOf(y);
+    int maxRow = rowOf(y + height - 1);
+
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int col = minCol; col <= maxCol; col++) {
+        List<Entry<T>> cell = cell(col, row);
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size(); i++) {
+          Entry<T> entry = cell.get(i);
+          if (entry.stamp != stamp) {
+            entry.stamp = stamp;
+            if (entry.collider.intersects(x, y, width, height)) {
+              out.add(entry.item);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the first item whose collider intersects an area and matches a filter.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @param filter the filter
+   * @return the matching item, or null if none
+   */
+  public T findFirst(int x, int y, int width, int height, Predicate<? super T> filter) {
+    if (width <= 0 || height <= 0) {
+      return null;
+    }
+    int minCol = colOf(x);
+    int maxCol = colOf(x + width - 1);
+    int minRow = rowOf(y);
+    int maxRow = rowOf(y + height - 1);
+
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int col = minCol; col <= maxCol; col++) {
+        List<Entry<T>> cell = cell(col, row);
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size(); i++) {
+          Entry<T> entry = cell.get(i);
+          if (entry.collider.intersects(x, y, width, height) && filter.test(entry.item)) {
+            return entry.item;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the first item whose collider intersects a collider and matches a filter.
+   *
+   * @param collider the collider
+   * @param filter the filter
+   * @return the matching item, or null if none
+   * @see #findFirst(int, int, int, int, Predicate)
+   */
+  public T findFirst(Collider collider, Predicate<? super T> filter) {
+    return findFirst(collider.getX(), collider.getY(), collider.getWidth(), collider.getHeight(),
+        filter);
+  }
+
+  /**
+   * Finds the first item whose collider contains a point and matches a filter.
+   *
+   * @param px the x-coordinate of the point
+   * @param py the y-coordinate of the point
+   * @param filter the filter
+   * @return the matching item, or null if none
+   */
+  public T findAt(int px, int py, Predicate<? super T> filter) {
+    return findFirst(px, py, 1, 1, filter);
+  }
+
+  /**
+   * Finds the first item in front of a collider within a range that matches a filter.
+   *
+   * @param collider the collider
+   * @param direction the direction to look in
+   * @param range the maximum distance allowed to consider "in front"
+   * @param filter the filter
+   * @return the matching item, or null if none
+   * @see Collider#isInFrontOf(Collider, Direction, int)
+   */
+  public T findInFront(Collider collider, Direction direction, int range,
+      Predicate<? super T> filter) {
+    int reach = range + 1;
+    int x = collider.getX();
+    int y = collider.getY();
+    int width = collider.getWidth();
+    int height = collider.getHeight();
+
+    // Search the strip directly ahead of the collider, including touching items
+    switch (direction) {
+      case UP -> {
+        y -= reach;
+        height = reach + 1;
+      }
+      case DOWN -> {
+        y += height - 1;
+        height = reach + 1;
+      }
+      case LEFT -> {
+        x -= reach;
+        width = reach + 1;
+      }
+      case RIGHT -> {
+        x += width - 1;
+        width = reach + 1;
+      }
+      default -> {
+        return null;
+      }
+    }
+
+    int minCol = colOf(x);
+    int maxCol = colOf(x + width - 1);
+    int minRow = rowOf(y);
+    int maxRow = rowOf(y + height - 1);
+
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int col = minCol; col <= maxCol; col++) {
+        List<Entry<T>> cell = cell(col, row);
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size(); i++) {
+          Entry<T> entry = cell.get(i);
+          if (collider.isInFrontOf(entry.collider, direction, range)
+              && filter.test(entry.item)) {
+            return entry.item;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /** Registers an entry in every cell its collider covers. */
+  @SuppressWarnings("unchecked")
+  private void link(Entry<T> entry) {
+    Collider c = entry.collider;
+    entry.minCol = colOf(c.left());
+    entry.maxCol = lastColOf(c);
+    entry.minRow = rowOf(c.top());
+    entry.maxRow = lastRowOf(c);
+
+    for (int row = entry.minRow; row <= entry.maxRow; row++) {
+      for (int col = entry.minCol; col <= entry.maxCol; col++) {
+        int pageIdx = (row >> PAGE_SHIFT) * pageCols + (col >> PAGE_SHIFT);
+        if (pages[pageIdx] == null) {
+          pages[pageIdx] = new List[PAGE_SIZE * PAGE_SIZE];
+        }
+        List<Entry<T>>[] page = pages[pageIdx];
+        int idx = ((row & PAGE_MASK) << PAGE_SHIFT) | (col & PAGE_MASK);
+        if (page[idx] == null) {
+          page[idx] = new ArrayList<>(2);
+        }
+        page[idx].add(entry);
+      }
+    }
+  }
+
+  /** Removes an entry from every cell it was registered in. */
+  private void unlink(Entry<T> entry) {
+    for (int row = entry.minRow; row <= entry.maxRow; row++) {
+      for (int col = entry.minCol; col <= entry.maxCol; col++) {
+        List<Entry<T>> cell = cell(col, row);
+        if (cell != null) {
+          cell.remove(entry);
+        }
+      }
+    }
+  }
+
+  /** Gets the items registered in a cell, or null if none ever were. */
+  private List<Entry<T>> cell(int col, int row) {
+    List<Entry<T>>[] page = pages[(row >> PAGE_SHIFT) * pageCols + (col >> PAGE_SHIFT)];
+    return page == null ? null : page[((row & PAGE_MASK) << PAGE_SHIFT) | (col & PAGE_MASK)];
+  }
+
+  private int lastColOf(Collider c) {
+    return colOf(Math.max(c.left(), c.right() - 1));
+  }
+
+  private int lastRowOf(Collider c) {
+    return rowOf(Math.max(c.top(), c.bottom() - 1));
+  }
+
+  private int colOf(int x) {
+    return Math.max(0, Math.min(cols - 1, Math.floorDiv(x, cellSize)));
+  }
+
+  private int rowOf(int y) {
+    return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+  }
+
+  /** An indexed item with the cell range it is registered in. */
+  private static class Entry<T> {
+    final T item;
+    Collider collider;
+    int minCol;
+    int maxCol;
+    int minRow;
+    int maxRow;
+    int stamp;
+
+    Entry(T item, Collider collider) {
+      this.item = item;
+      this.collider = collider;
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package io.tidalisland.collision;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A sweep-and-prune broadphase that finds the pairs of items whose {@link Collider}s overlap.
+ *
+ * <p>Items are kept sorted by the left edge of their collider. Each call to {@link #findPairs}
+ * re-sorts them with an insertion sort, which is close to linear because items only move a little
+ * between ticks, and then sweeps from left to right, comparing each item only with the items whose
+ * horizontal span it overlaps.
+ *
+ * <p>Items are either dynamic (entities that move every tick) or static (world objects). Pairs of
+ * two static items are never reported or even compared, so a large number of world objects costs
+ * little more than sorting them.
+ *
+ * @param <T> the type of indexed items
+ */
+public class SweepAndPrune<T> {
+
+  private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+  // Entries sorted by the left edge of their collider
+  private Entry<T>[] sorted = newArray(16);
+  private int size = 0;
+
+  // Reusable sweep workspace: entries whose horizontal span is still open
+  private Entry<T>[] activeDynamic = newArray(16);
+  private Entry<T>[] activeStatic = newArray(16);
+
+  /**
+   * Adds an item. If the item is already indexed, it is re-indexed.
+   *
+   * @param item the item
+   * @param collider the collider that bounds the item
+   * @param dynamic true if the item moves every tick, false if it mostly stays put
+   */
+  public void add(T item, Collider collider, boolean dynamic) {
+    remove(item);
+
+    Entry<T> entry = new Entry<>(item, collider, dynamic);
+    entries.put(item, entry);
+
+    // Insert at its sorted position
+    int index = size;
+    while (index > 0 && sorted[index - 1].minX > entry.minX) {
+      index--;
+    }
+    if (size == sorted.length) {
+      sorted = Arrays.copyOf(sorted, size * 2);
+    }
+    System.arraycopy(sorted, index, sorted, index + 1, size - index);
+    sorted[index] = entry;
+    size++;
+  }
+
+  /**
+   * Removes an item.
+   *
+   * @param item the item
+   * @return true if the item was indexed, false otherwise
+   */
+  public boolean remove(T item) {
+    Entry<T> entry = entries.remove(item);
+    if (entry == null) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (sorted[i] == entry) {
+        System.arraycopy(sorted, i + 1, sorted, i, size - i - 1);
+        sorted[--size] = null;
+        break;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if an item is indexed.
+   */
+  public boolean contains(T item) {
+    return entries.containsKey(item);
+  }
+
+  /**
+   * Number of indexed items.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Finds every pair of overlapping items where at least one is dynamic. Colliders are read at the
+   * time of the call, so items can move freely in between.
+   *
+   * @param listener receives each pair once
+   * @return the number of pairs found
+   */
+  public int findPairs(BiConsumer<? super T, ? super T> listener) {
+    sort();
+
+    int pairs = 0;
+    int dynamicCount = 0;
+    int staticCount = 0;
+    for (int i = 0; i < size; i++) {
+      Entry<T> entry = sorted[i];
+      Collider collider = entry.collider;
+      int minX = entry.minX;
+
+      // Close the spans that end before this one starts, and test the rest
+      for (int j = dynamicCount - 1; j >= 0; j--) {
+        Entry<T> other = activeDynamic[j];
+        if (other.collider.right() <= minX) {
+          activeDynamic[j] = activeDynamic[--dynamicCount];
+        } else if (other.collider.intersects(collider)) {
+          listener.accept(other.item, entry.item);
+          pairs++;
+        }
+      }
+      for (int j = staticCount - 1; j >= 0; j--) {
+        Entry<T> other = activeStatic[j];
+        if (other.collider.right() <= minX) {
+          activeStatic[j] = activeStatic[--staticCount];
+        } else if (entry.dynamic && other.collider.intersects(collider)) {
+          listener.accept(other.item, entry.item);
+          pairs++;
+        }
+      }
+
+      if (entry.dynamic) {
+        if (dynamicCount == activeDynamic.length) {
+          activeDynamic = Arrays.copyOf(activeDynamic, dynamicCount * 2);
+        }
+        activeDynamic[dynamicCount++] = entry;
+      } else {
+        if (staticCount == activeStatic.length) {
+          activeStatic = Arrays.copyOf(activeStatic, staticCount * 2);
+        }
+        activeStatic[staticCount++] = entry;
+      }
+    }
+
+    // Drop references so removed items can be collected
+    Arrays.fill(activeDynamic, 0, dynamicCount, null);
+    Arrays.fill(activeStatic, 0, staticCount, null);
+    return pairs;
+  }
+
+  /**
+   * Refreshes the left edges and restores the order with an insertion sort.
+   */
+  private void sort() {
+    for (int i = 0; i < size; i++) {
+      sorted[i].minX = sorted[i].collider.left();
+    }
+    for (int i = 1; i < size; i++) {
+      Entry<T> entry = sorted[i];
+      int j = i - 1;
+      while (j >= 0 && sorted[j].minX > entry.minX) {
+        sorted[j + 1] = sorted[j];
+        j--;
+      }
+      sorted[j + 1] = entry;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Entry<T>[] newArray(int length) {
+    return new Entry[length];
+  }
+
+  private static final class Entry<T> {
+    final T item;
+    final Collider collider;
+    final boolean dynamic;
+    int minX; // cached left edge, refreshed before each sort
+
+    Entry(T item, Collider collider, boolean dynamic) {
+      this.item = item;
+      this.collider = collider;
+      this.dynamic = dynamic;
+      this.minX = collider.left();
+    }
+  }
+}
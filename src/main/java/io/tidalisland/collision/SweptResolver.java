@@ -0,0 +1,225 @@
+package io.tidalisland.collision;
+
+import io.tidalisland.config.Config;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.worldobjects.WorldObject;
+import io.tidalisland.worldobjects.WorldObjectManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves movement along one axis against the tile grid and the world objects.
+ *
+ * <p>Each call gathers every blocker in the area swept by the move with one pass over the tiles
+ * and one spatial grid query, turns each into the range of steps during which it is touched, and
+ * returns the furthest distance reachable without touching one. The result does not depend on the
+ * speed, so fast movers cannot tunnel through thin obstacles, and a blocked mover ends flush
+ * against the obstacle instead of stopping short.
+ *
+ * <p>The rules match {@link CollisionManager#isBlocked}: solid world objects always block, and
+ * solid or water tiles block unless the area is inside a floatable object.
+ */
+public class SweptResolver {
+
+  private final WorldMap worldMap;
+  private final SpatialGrid<WorldObject> spatialGrid;
+
+  // Reusable workspace: step ranges as {lo, hi} pairs, and the objects found by the query
+  private final List<WorldObject> objects = new ArrayList<>();
+  private int[] blocked = new int[16];
+  private int[] tiles = new int[16];
+  private int[] floats = new int[16];
+  private int blockedCount;
+  private int tileCount;
+  private int floatCount;
+
+  /**
+   * Creates a new swept resolver.
+   *
+   * @param worldMap the world map
+   * @param worldObjectManager the world object manager
+   */
+  public SweptResolver(WorldMap worldMap, WorldObjectManager worldObjectManager) {
+    this.worldMap = worldMap;
+    this.spatialGrid = worldObjectManager.getSpatialGrid();
+  }
+
+  /**
+   * Resolves a horizontal move of an area.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @param dx the distance to move
+   * @return the distance the area can move, between 0 and {@code dx}
+   */
+  public int resolveX(int x, int y, int width, int height, int dx) {
+    return resolve(x, width, y, height, dx, true);
+  }
+
+  /**
+   * Resolves a vertical move of an area.
+   *
+   * @param x the x-coordinate of the area
+   * @param y the y-coordinate of the area
+   * @param width the width of the area
+   * @param height the height of the area
+   * @param dy the distance to move
+   * @return the distance the area can move, between 0 and {@code dy}
+   */
+  public int resolveY(int x, int y, int width, int height, int dy) {
+    return resolve(y, height, x, width, dy, false);
+  }
+
+  /**
+   * Resolves a move along one axis. {@code p} and {@code len} describe the area along the axis of
+   * movement, {@code q} and {@code qlen} across it.
+   */
+  private int resolve(int p, int len, int q, int qlen, int d, boolean horizontal) {
+    if (d == 0 || len <= 0 || qlen <= 0) {
+      return d;
+    }
+    int sign = d > 0 ? 1 : -1;
+    int dist = Math.abs(d);
+    blockedCount = 0;
+    tileCount = 0;
+    floatCount = 0;
+
+    // Swept area along the axis
+    int sweepStart = d > 0 ? p : p + d;
+    int sweepLength = len + dist;
+
+    // Blocking tiles
+    int tileSize = Config.tileSize();
+    int first = Math.floorDiv(sweepStart, tileSize);
+    int last = Math.floorDiv(sweepStart + sweepLength - 1, tileSize);
+    int firstAcross = Math.floorDiv(q, tileSize);
+    int lastAcross = Math.floorDiv(q + qlen - 1, tileSize);
+    for (int across = firstAcross; across <= lastAcross; across++) {
+      for (int along = first; along <= last; along++) {
+        int col = horizontal ? along : across;
+        int row = horizontal ? across : along;
+        if (worldMap.isSolid(col, row) || worldMap.isWater(col, row)) {
+          tiles = addOverlap(tiles, tileCount++, p, len, along * tileSize, tileSize, sign);
+        }
+      }
+    }
+
+    // Solid and floatable objects
+    if (horizontal) {
+      spatialGrid.query(sweepStart, q, sweepLength, qlen, objects);
+    } else {
+      spatialGrid.query(q, sweepStart, qlen, sweepLength, objects);
+    }
+    for (int i = 0; i < objects.size(); i++) {
+      Collider c = objects.get(i).getCollider();
+      int op = horizontal ? c.getX() : c.getY();
+      int olen = horizontal ? c.getWidth() : c.getHeight();
+      int oq = horizontal ? c.getY() : c.getX();
+      int oqlen = horizontal ? c.getHeight() : c.getWidth();
+      if (objects.get(i).isSolid()) {
+        blocked = addOverlap(blocked, blockedCount++, p, len, op, olen, sign);
+      } else if (objects.get(i).isFloatable() && q >= oq && q + qlen <= oq + oqlen) {
+        floats = addContainment(floats, floatCount++, p, len, op, olen, sign);
+      }
+    }
+    objects.clear();
+
+    // Already blocked at the start: only allow the move if it ends somewhere free
+    if (isBlockedAt(0)) {
+      return isBlockedAt(dist) ? 0 : d;
+    }
+    return sign * (firstBlockedStep(dist) - 1);
+  }
+
+  /**
+   * Finds the first step between 1 and {@code dist} at which the area is blocked.
+   *
+   * @return the step, or {@code dist + 1} if the whole move is free
+   */
+  private int firstBlockedStep(int dist) {
+    int result = dist + 1;
+    for (int i = 0; i < blockedCount; i++) {
+      int lo = Math.max(1, blocked[2 * i]);
+      if (lo <= blocked[2 * i + 1]) {
+        result = Math.min(result, lo);
+      }
+    }
+    for (int i = 0; i < tileCount; i++) {
+      int hi = Math.min(tiles[2 * i + 1], result - 1);
+      int step = Math.max(1, tiles[2 * i]);
+      // Skip over the steps where a floatable object covers the area
+      while (step <= hi) {
+        int covered = coveredUntil(step);
+        if (covered < step) {
+          result = step;
+          break;
+        }
+        step = covered + 1;
+      }
+    }
+    return result;
+  }
+
+  private boolean isBlockedAt(int step) {
+    for (int i = 0; i < blockedCount; i++) {
+      if (step >= blocked[2 * i] && step <= blocked[2 * i + 1]) {
+        return true;
+      }
+    }
+    for (int i = 0; i < tileCount; i++) {
+      if (step >= tiles[2 * i] && step <= tiles[2 * i + 1]) {
+        return coveredUntil(step) < step;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the last step of the floatable coverage that includes a step.
+   *
+   * @return the last covered step, or -1 if the step is not covered
+   */
+  private int coveredUntil(int step) {
+    int until = -1;
+    for (int i = 0; i < floatCount; i++) {
+      if (step >= floats[2 * i] && step <= floats[2 * i + 1]) {
+        until = Math.max(until, floats[2 * i + 1]);
+      }
+    }
+    return until;
+  }
+
+  /**
+   * Adds the steps at which the area overlaps an obstacle spanning {@code [b, b + blen)}.
+   */
+  private static int[] addOverlap(int[] ranges, int index, int p, int len, int b, int blen,
+      int sign) {
+    // The area at offset s overlaps when p + s < b + blen and p + s + len > b
+    int lo = b - p - len + 1;
+    int hi = b + blen - p - 1;
+    return addRange(ranges, index, sign > 0 ? lo : -hi, sign > 0 ? hi : -lo);
+  }
+
+  /**
+   * Adds the steps at which the area lies inside a floatable object spanning {@code [f, f + flen)}.
+   */
+  private static int[] addContainment(int[] ranges, int index, int p, int len, int f, int flen,
+      int sign) {
+    // The area at offset s is inside when p + s >= f and p + s + len <= f + flen
+    int lo = f - p;
+    int hi = f + flen - p - len;
+    return addRange(ranges, index, sign > 0 ? lo : -hi, sign > 0 ? hi : -lo);
+  }
+
+  private static int[] addRange(int[] ranges, int index, int lo, int hi) {
+    if (2 * index + 1 >= ranges.length) {
+      ranges = Arrays.copyOf(ranges, ranges.length * 2);
+    }
+    ranges[2 * index] = lo;
+    ranges[2 * index + 1] = hi;
+    return ranges;
+  }
+}
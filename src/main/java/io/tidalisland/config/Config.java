@@ -150,10 +150,30 @@ public final class Config {
     return get().data.mapHeight;
   }
 
+  public static int chunkCacheSize() {
+    return get().data.chunkCacheSize;
+  }
+
+  public static int updateChunkRadius() {
+    return get().data.updateChunkRadius;
+  }
+
+  public static int tideChunkRadius() {
+    return get().data.tideChunkRadius;
+  }
+
+  public static int tickRate() {
+    return get().data.tickRate;
+  }
+
   public static int fps() {
     return get().data.fps;
   }
 
+  public static int lowPowerFps() {
+    return get().data.lowPowerFps;
+  }
+
   /**
    * Updates viewport to maintain aspect ratio with letterboxing.
    */
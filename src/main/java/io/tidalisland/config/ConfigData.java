@@ -14,22 +14,33 @@ public final class ConfigData {
   // World map
   public final int mapWidth;
   public final int mapHeight;
+  public final int chunkCacheSize;
+  public final int updateChunkRadius;
+  public final int tideChunkRadius;
 
   // Game loop
+  public final int tickRate;
   public final int fps;
+  public final int lowPowerFps;
 
   /**
    * Creates a new config data object.
    */
   public ConfigData(int pixelScale, int baseTileSize, int colTiles, int rowTiles, int mapWidth,
-      int mapHeight, int fps) {
+      int mapHeight, int chunkCacheSize, int updateChunkRadius, int tideChunkRadius, int tickRate,
+      int fps, int lowPowerFps) {
     this.pixelScale = pixelScale;
     this.baseTileSize = baseTileSize;
     this.colTiles = colTiles;
     this.rowTiles = rowTiles;
     this.mapWidth = mapWidth;
     this.mapHeight = mapHeight;
+    this.chunkCacheSize = chunkCacheSize;
+    this.updateChunkRadius = updateChunkRadius;
+    this.tideChunkRadius = tideChunkRadius;
+    this.tickRate = tickRate;
     this.fps = fps;
+    this.lowPowerFps = lowPowerFps;
   }
 
   public int getTileSize() {
@@ -27,7 +27,10 @@ public final class ConfigLoader {
           new ObjectMapper().readValue(is, new TypeReference<Map<String, Integer>>() {});
 
       return new ConfigData(map.get("pixelScale"), map.get("baseTileSize"), map.get("colTiles"),
-          map.get("rowTiles"), map.get("mapWidth"), map.get("mapHeight"), map.get("fps"));
+          map.get("rowTiles"), map.get("mapWidth"), map.get("mapHeight"),
+          map.getOrDefault("chunkCacheSize", 64), map.getOrDefault("updateChunkRadius", 0),
+          map.getOrDefault("tideChunkRadius", 2), map.getOrDefault("tickRate", 60), map.get("fps"),
+          map.getOrDefault("lowPowerFps", map.get("fps")));
     } catch (Exception e) {
       throw new RuntimeException("Failed to load configuration", e);
     }
@@ -2,10 +2,13 @@ package io.tidalisland.debug;
 
 import io.tidalisland.collision.CollisionManager;
 import io.tidalisland.config.Config;
+import io.tidalisland.debug.FrameProfiler.Phase;
+import io.tidalisland.engine.FramePacer;
 import io.tidalisland.engine.GameClock;
 import io.tidalisland.entities.Player;
 import io.tidalisland.graphics.Camera;
 import io.tidalisland.input.MouseHandler;
+import io.tidalisland.tide.TidalManager;
 import io.tidalisland.ui.UiManager;
 import io.tidalisland.ui.components.UiComponent;
 import io.tidalisland.ui.styles.UiStyle;
@@ -27,18 +30,21 @@ public class DebugRenderer {
   private CollisionManager collisionManager;
   private Camera camera;
   private Player player;
+  private TidalManager tidalManager;
+  private final long[] percentiles = new long[3]; // reused every frame
 
   /**
    * Creates a new debug renderer.
    */
   public DebugRenderer(MouseHandler mouse, UiManager ui, WorldObjectManager wom,
-      CollisionManager cm, Camera camera, Player player) {
+      CollisionManager cm, Camera camera, Player player, TidalManager tidalManager) {
     this.mouse = mouse;
     this.ui = ui;
     this.worldObjectManager = wom;
     this.collisionManager = cm;
     this.camera = camera;
     this.player = player;
+    this.tidalManager = tidalManager;
   }
 
   /**
@@ -57,8 +63,8 @@ public class DebugRenderer {
     int y = padding;
 
     // Clock info
-    long delta = GameClock.getInstance().getDeltaMillis();
-    g.drawString("Delta ms: " + delta, x, y);
+    double delta = GameClock.getInstance().getDeltaNanos() / 1_000_000.0;
+    g.drawString(String.format("Delta ms: %.2f", delta), x, y);
     y += spacing;
 
     long totalElapsed = GameClock.getInstance().getTotalElapsedMillis();
@@ -66,7 +72,13 @@ public class DebugRenderer {
     y += spacing;
 
     // FPS
-    g.drawString("FPS: " + Config.fps(), x, y);
+    FramePacer pacer = FramePacer.getInstance();
+    g.drawString(String.format("FPS: %.1f / %d%s", pacer.getMeasuredFps(),
+        pacer.isLowPower() ? pacer.getLowPowerFps() : pacer.getTargetFps(),
+        pacer.isLowPower() ? " (low power)" : ""), x, y);
+    y += spacing;
+    g.drawString(String.format("CPU ms/frame: %.2f (%.0f%%)", pacer.getCpuMillisPerFrame(),
+        pacer.getCpuUsage() * 100), x, y);
     y += spacing;
 
     // Resolution info
@@ -103,6 +115,18 @@ public class DebugRenderer {
     g.drawString("Collisions: " + collisionManager.getCollisionCount(), x, y);
     y += spacing;
 
+    // Tide info
+    int playerCol = player.getPosition().getX() / Config.tileSize();
+    int playerRow = player.getPosition().getY() / Config.tileSize();
+    g.drawString("Wave: " + tidalManager.getCurrentWave() + ", player tile floods in: "
+        + tidalManager.getWavesUntilFlood(playerCol, playerRow), x, y);
+    y += spacing;
+
+    // Profiler
+    if (FrameProfiler.isEnabled()) {
+      renderProfiler(g, padding + 320, padding, spacing);
+    }
+
     // Colliders
     renderColliderDebug(g);
 
@@ -110,6 +134,16 @@ public class DebugRenderer {
     renderUiDebug(g, ui.getRoot());
   }
 
+  private void renderProfiler(Graphics g, int x, int y, int spacing) {
+    g.drawString("Phase ms: p50 / p95 / p99", x, y);
+    for (Phase phase : Phase.values()) {
+      y += spacing;
+      FrameProfiler.getPercentiles(phase, percentiles);
+      g.drawString(String.format("%s: %.2f / %.2f / %.2f", phase.getLabel(),
+          percentiles[0] / 1e6, percentiles[1] / 1e6, percentiles[2] / 1e6), x, y);
+    }
+  }
+
   private void renderColliderDebug(Graphics g) {
     worldObjectManager.getAll().forEach(obj -> obj.getCollider().draw(g, camera));
     player.getCollider().draw(g, camera);
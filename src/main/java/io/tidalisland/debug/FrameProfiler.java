@@ -0,0 +1,138 @@
+package io.tidalisland.debug;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Times the phases of each frame.
+ *
+ * <p>Wrap a phase in a scope to record how long it takes:
+ *
+ * <pre>{@code
+ * try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.TIDE)) {
+ *   tidalManager.update();
+ * }
+ * }</pre>
+ *
+ * <p>Samples go into a {@link SampleRing} per phase, from which percentiles are computed for the
+ * debug overlay. Profiling is enabled by setting the {@code PROFILE} environment variable to
+ * {@code true}, or {@code PROFILE_CSV} to a file that every sample is streamed to. When disabled,
+ * a scope is a shared no-op object. Scopes are reused and must only be opened from the game
+ * thread.
+ */
+public final class FrameProfiler {
+
+  /**
+   * A timed phase of a frame.
+   */
+  public enum Phase {
+    FRAME("Frame"),
+    TICK("Tick"),
+    TIDE("Tide"),
+    WORLD_OBJECTS("World objects"),
+    PLAYER("Player"),
+    UI_UPDATE("UI update"),
+    RENDER("Render"),
+    WORLD_MAP_DRAW("World map draw"),
+    WORLD_OBJECTS_DRAW("Objects draw"),
+    PLAYER_DRAW("Player draw"),
+    UI_RENDER("UI render"),
+    PRESENT("Present");
+
+    private final String label;
+
+    Phase(String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  /** Samples kept per phase. */
+  private static final int CAPACITY = 512;
+
+  /** Percentiles reported for each phase. */
+  private static final double[] PERCENTILES = {50, 95, 99};
+
+  private static final String CSV_PATH = System.getenv("PROFILE_CSV");
+  private static final boolean ENABLED =
+      CSV_PATH != null || Boolean.parseBoolean(System.getenv().getOrDefault("PROFILE", "false"));
+
+  private static final SampleRing[] rings = new SampleRing[Phase.values().length];
+  private static final Scope[] scopes = new Scope[Phase.values().length];
+  private static final Scope NOOP = new Scope(null);
+
+  static {
+    if (ENABLED) {
+      for (Phase phase : Phase.values()) {
+        rings[phase.ordinal()] = new SampleRing(CAPACITY);
+        scopes[phase.ordinal()] = new Scope(rings[phase.ordinal()]);
+      }
+      if (CSV_PATH != null) {
+        ProfilerCsvWriter.start(Path.of(CSV_PATH), rings);
+      }
+    }
+  }
+
+  private FrameProfiler() {}
+
+  /**
+   * Starts timing a phase. The phase ends when the scope is closed.
+   *
+   * @param phase the phase
+   * @return the scope to close
+   */
+  public static Scope scope(Phase phase) {
+    if (!ENABLED) {
+      return NOOP;
+    }
+    Scope scope = scopes[phase.ordinal()];
+    scope.start = System.nanoTime();
+    return scope;
+  }
+
+  /**
+   * Checks if profiling is enabled.
+   */
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Gets the 50th, 95th and 99th percentile of a phase's recent samples, without allocating. Must
+   * only be called from one thread, usually the game thread.
+   *
+   * @param phase the phase
+   * @param out receives the three percentiles (in nanoseconds), or zeros if profiling is disabled
+   */
+  public static void getPercentiles(Phase phase, long[] out) {
+    if (!ENABLED) {
+      Arrays.fill(out, 0, PERCENTILES.length, 0);
+      return;
+    }
+    rings[phase.ordinal()].percentiles(PERCENTILES, out);
+  }
+
+  /**
+   * A running timer for one phase.
+   */
+  public static final class Scope implements AutoCloseable {
+
+    private final SampleRing ring;
+    private long start;
+
+    private Scope(SampleRing ring) {
+      this.ring = ring;
+    }
+
+    @Override
+    public void close() {
+      if (ring != null) {
+        long end = System.nanoTime();
+        ring.add(end, end - start);
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package io.tidalisland.debug;
+
+import io.tidalisland.debug.FrameProfiler.Phase;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams profiler samples to a CSV file from a background thread.
+ *
+ * <p>Each row is {@code timestamp_ns,phase,duration_ns}. The writer drains every ring ten times a
+ * second; samples a ring overwrites before then are lost.
+ */
+class ProfilerCsvWriter implements Runnable {
+
+  private static final long DRAIN_INTERVAL_MILLIS = 100;
+
+  private final BufferedWriter writer;
+  private final SampleRing[] rings;
+  private final long[] cursors;
+  private final long[] durations;
+  private final long[] timestamps;
+
+  private ProfilerCsvWriter(BufferedWriter writer, SampleRing[] rings) {
+    this.writer = writer;
+    this.rings = rings;
+    this.cursors = new long[rings.length];
+    this.durations = new long[rings[0].capacity()];
+    this.timestamps = new long[rings[0].capacity()];
+  }
+
+  /**
+   * Starts streaming samples to a file.
+   *
+   * @param path the path to the file
+   * @param rings the rings to drain, indexed by phase ordinal
+   */
+  static void start(Path path, SampleRing[] rings) {
+    try {
+      BufferedWriter writer = Files.newBufferedWriter(path);
+      writer.write("timestamp_ns,phase,duration_ns");
+      writer.newLine();
+
+      ProfilerCsvWriter csv = new ProfilerCsvWriter(writer, rings);
+      Thread thread = new Thread(csv, "profiler-csv");
+      thread.setDaemon(true);
+      thread.start();
+      Runtime.getRuntime().addShutdownHook(new Thread(csv::close));
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        Thread.sleep(DRAIN_INTERVAL_MILLIS);
+        drain();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /** Writes every sample recorded since the last drain. */
+  private synchronized void drain() throws IOException {
+    Phase[] phases = Phase.values();
+    for (int i = 0; i < rings.length; i++) {
+      long head = rings[i].head();
+      int count = rings[i].read(cursors[i], head, durations, timestamps);
+      cursors[i] = head;
+
+      for (int j = 0; j < count; j++) {
+        writer.write(Long.toString(timestamps[j]));
+        writer.write(',');
+        writer.write(phases[i].name());
+        writer.write(',');
+        writer.write(Long.toString(durations[j]));
+        writer.newLine();
+      }
+    }
+    writer.flush();
+  }
+
+  private synchronized void close() {
+    try {
+      drain();
+      writer.close();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+}
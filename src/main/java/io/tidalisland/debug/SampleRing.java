@@ -0,0 +1,146 @@
+package io.tidalisland.debug;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A fixed-size ring of timed samples with a single writer and any number of readers.
+ *
+ * <p>The writer never blocks: it fills the next slot and publishes it by advancing the head with
+ * release semantics. Readers copy slots by sequence number and discard any that the writer lapped
+ * while they were reading.
+ */
+public class SampleRing {
+
+  private static final VarHandle HEAD;
+
+  static {
+    try {
+      HEAD = MethodHandles.lookup().findVarHandle(SampleRing.class, "head", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final int mask;
+  private final long[] durations;
+  private final long[] timestamps;
+  private long[] scratch; // sorted copy for percentiles, made on first use
+
+  @SuppressWarnings("unused") // accessed through HEAD
+  private volatile long head = 0; // sequence number of the next sample
+
+  /**
+   * Creates a new sample ring.
+   *
+   * @param capacity the number of samples kept, a power of two
+   * @throws IllegalArgumentException if the capacity is not a positive power of two
+   */
+  public SampleRing(int capacity) {
+    if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+    }
+    this.mask = capacity - 1;
+    this.durations = new long[capacity];
+    this.timestamps = new long[capacity];
+  }
+
+  /**
+   * Records a sample. Must only be called from the writer thread.
+   *
+   * @param timestamp when the sample ended (in nanoseconds)
+   * @param duration how long the sample took (in nanoseconds)
+   */
+  public void add(long timestamp, long duration) {
+    long seq = (long) HEAD.getOpaque(this);
+    int idx = (int) seq & mask;
+    durations[idx] = duration;
+    timestamps[idx] = timestamp;
+    HEAD.setRelease(this, seq + 1);
+  }
+
+  /**
+   * Gets the sequence number of the next sample to be written.
+   */
+  public long head() {
+    return (long) HEAD.getAcquire(this);
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Copies the samples with sequence numbers in {@code [from, to)}, oldest first. Samples that
+   * were overwritten before they could be read, or that do not fit, are skipped from the start.
+   *
+   * @param from the first sequence number
+   * @param to the sequence number after the last one, usually {@link #head()}
+   * @param outDurations receives the durations
+   * @param outTimestamps receives the timestamps, or null if not needed
+   * @return the number of samples copied
+   */
+  public int read(long from, long to, long[] outDurations, long[] outTimestamps) {
+    long start = Math.max(from, Math.max(to - capacity(), to - outDurations.length));
+
+    int count = 0;
+    for (long seq = start; seq < to; seq++) {
+      int idx = (int) seq & mask;
+      outDurations[count] = durations[idx];
+      if (outTimestamps != null) {
+        outTimestamps[count] = timestamps[idx];
+      }
+      count++;
+    }
+
+    // Drop the slots the writer reused, or may be reusing, while we were copying. The fence keeps
+    // the plain slot reads above from moving below the second read of the head.
+    VarHandle.acquireFence();
+    int skip = (int) Math.max(0, Math.min(count, head() - capacity() + 1 - start));
+    if (skip > 0) {
+      count -= skip;
+      System.arraycopy(outDurations, skip, outDurations, 0, count);
+      if (outTimestamps != null) {
+        System.arraycopy(outTimestamps, skip, outTimestamps, 0, count);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Computes percentiles of the samples currently in the ring.
+   *
+   * @param percentiles the percentiles to compute (0 to 100)
+   * @return the value at each percentile (in nanoseconds), or all zeros if there are no samples
+   */
+  public long[] percentiles(double... percentiles) {
+    long[] result = new long[percentiles.length];
+    percentiles(percentiles, result);
+    return result;
+  }
+
+  /**
+   * Computes percentiles of the samples currently in the ring without allocating. The samples are
+   * sorted in a buffer owned by the ring, so only one thread may call this at a time.
+   *
+   * @param percentiles the percentiles to compute (0 to 100)
+   * @param out receives the value at each percentile (in nanoseconds), or zeros if there are no
+   *     samples
+   */
+  public void percentiles(double[] percentiles, long[] out) {
+    if (scratch == null) {
+      scratch = new long[capacity()];
+    }
+    int n = read(0, head(), scratch, null);
+    if (n == 0) {
+      Arrays.fill(out, 0, percentiles.length, 0);
+      return;
+    }
+    Arrays.sort(scratch, 0, n);
+    for (int i = 0; i < percentiles.length; i++) {
+      int rank = (int) Math.ceil(percentiles[i] / 100.0 * n); // nearest rank
+      out[i] = scratch[Math.max(0, Math.min(n - 1, rank - 1))];
+    }
+  }
+}
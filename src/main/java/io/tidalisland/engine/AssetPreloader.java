@@ -0,0 +1,160 @@
+package io.tidalisland.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tidalisland.entities.Player;
+import io.tidalisland.graphics.AssetManager;
+import io.tidalisland.graphics.sprites.AtlasPage;
+import io.tidalisland.graphics.sprites.Sprite;
+import io.tidalisland.graphics.sprites.SpriteFrame;
+import io.tidalisland.graphics.sprites.SpriteSet;
+import io.tidalisland.items.ItemRegistry;
+import io.tidalisland.items.ItemType;
+import io.tidalisland.tiles.Tile;
+import io.tidalisland.tiles.TileSet;
+import io.tidalisland.tiles.TileSetLoader;
+import io.tidalisland.worldobjects.WorldObjectLoader;
+import io.tidalisland.worldobjects.WorldObjectRegistry;
+import io.tidalisland.worldobjects.WorldObjectType;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Loads the game's sprites on a thread pool ahead of time, so starting a game does not stall.
+ *
+ * <p>The sprite atlas is packed first. Assets are then discovered from the same data the game
+ * loads: the tile set, the world object file and the item and world object registries, plus the
+ * player. Each becomes a task that builds its sprites from the paths its type names, without
+ * creating any objects, through the shared asset caches and pre-scales the pages their frames are
+ * drawn from, so nothing is decoded or scaled on the game thread afterwards.
+ */
+public class AssetPreloader {
+
+  private final String atlasPath;
+  private final List<Supplier<List<Sprite>>> tasks = new ArrayList<>();
+  private final Set<AtlasPage> scaledPages = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger completed = new AtomicInteger();
+
+  /**
+   * Creates a preloader for the assets referenced by the given data files.
+   *
+   * @param atlasPath the resource path of the atlas manifest
+   * @param tileSetPath the resource path of the tile set
+   * @param worldObjectsPath the resource path of the world object file
+   */
+  public AssetPreloader(String atlasPath, String tileSetPath, String worldObjectsPath) {
+    this.atlasPath = atlasPath;
+    tasks.add(() -> tileSprites(tileSetPath));
+    tasks.add(() -> spritesOf(Player.createSpriteSet()));
+
+    Set<WorldObjectType> objectTypes = new LinkedHashSet<>(readObjectTypes(worldObjectsPath));
+    objectTypes.addAll(WorldObjectRegistry.getAllTypes());
+    for (WorldObjectType type : objectTypes) {
+      tasks.add(() -> spritesOf(type.createSpriteSet()));
+    }
+    for (ItemType type : ItemRegistry.getAllTypes()) {
+      tasks.add(() -> {
+        Sprite sprite = type.createSprite();
+        return sprite == null ? List.of() : List.of(sprite);
+      });
+    }
+  }
+
+  /**
+   * Runs every task on an executor. The atlas is packed first, so that the other tasks build their
+   * sprites from its pages.
+   *
+   * @param executor the executor, usually a pool with a thread per core
+   * @return a future that completes once every asset is loaded
+   */
+  public CompletableFuture<Void> start(Executor executor) {
+    CompletableFuture<Void> atlas = CompletableFuture.runAsync(() -> {
+      AssetManager.loadAtlas(atlasPath);
+      completed.incrementAndGet();
+    }, executor);
+
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+    for (int i = 0; i < futures.length; i++) {
+      Supplier<List<Sprite>> task = tasks.get(i);
+      futures[i] = atlas.thenRunAsync(() -> {
+        prescale(task.get());
+        completed.incrementAndGet();
+      }, executor);
+    }
+    return futures.length == 0 ? atlas : CompletableFuture.allOf(futures);
+  }
+
+  /**
+   * Gets the fraction of tasks that have finished.
+   *
+   * @return the progress, from 0 to 1
+   */
+  public double getProgress() {
+    return (double) completed.get() / getTaskCount();
+  }
+
+  /**
+   * Number of loading tasks.
+   */
+  public int getTaskCount() {
+    return tasks.size() + 1; // and the atlas
+  }
+
+  /** Makes the scaled image of every page that no other task has scaled yet. */
+  private void prescale(List<Sprite> sprites) {
+    for (Sprite sprite : sprites) {
+      for (SpriteFrame frame : sprite.getFrames()) {
+        if (scaledPages.add(frame.getPage())) {
+          frame.getPage().getScaledImage(false, false);
+        }
+      }
+    }
+  }
+
+  private static List<Sprite> tileSprites(String path) {
+    TileSet tileSet = TileSetLoader.load(path);
+    List<Sprite> sprites = new ArrayList<>();
+    if (tileSet != null) {
+      for (Tile tile : tileSet.getAll()) {
+        if (tile != null) {
+          sprites.add(tile.getSprite());
+        }
+      }
+    }
+    return sprites;
+  }
+
+  private static List<Sprite> spritesOf(SpriteSet spriteSet) {
+    return spriteSet == null ? List.of() : List.copyOf(spriteSet.getSprites());
+  }
+
+  /** Reads the types of the world objects placed in a world object file. */
+  private static List<WorldObjectType> readObjectTypes(String path) {
+    try (InputStream is = AssetPreloader.class.getResourceAsStream(path)) {
+      if (is == null) {
+        return List.of();
+      }
+      WorldObjectLoader.WorldObjectData data =
+          new ObjectMapper().readValue(is, WorldObjectLoader.WorldObjectData.class);
+      List<WorldObjectType> types = new ArrayList<>();
+      if (data.objects != null) {
+        for (WorldObjectLoader.ObjectEntry entry : data.objects) {
+          if (WorldObjectRegistry.has(entry.id)) {
+            types.add(WorldObjectRegistry.getTypeById(entry.id));
+          }
+        }
+      }
+      return types;
+    } catch (Exception e) {
+      e.printStackTrace();
+      return List.of();
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package io.tidalisland.engine;
+
+import io.tidalisland.config.Config;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A singleton FramePacer that holds the game loop to a target frame rate without busy-waiting.
+ *
+ * <p>The pacer parks the game thread for most of each frame budget and spin-waits only for the
+ * final stretch, whose length adapts to how late the scheduler wakes the thread. A target rate of
+ * 0 leaves the frame rate uncapped. It also measures the frame rate and the CPU time the game
+ * thread spends per frame.
+ */
+public class FramePacer {
+
+  private static final FramePacer instance = new FramePacer();
+
+  /**
+   * Get the singleton instance.
+   */
+  public static FramePacer getInstance() {
+    return instance;
+  }
+
+  /** Bounds for the spin-wait window at the end of each frame. */
+  private static final long MIN_SPIN_NANOS = 200_000;
+  private static final long MAX_SPIN_NANOS = 2_000_000;
+
+  /** Weight of the newest sample in the moving averages. */
+  private static final double SMOOTHING = 0.1;
+
+  private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+  private final boolean cpuTimeSupported;
+
+  private int targetFps; // frame rate while active
+  private int lowPowerFps; // frame rate while paused or unfocused
+  private boolean lowPower; // low-power flag
+
+  private long nextFrameTime; // deadline of the next frame
+  private long spinNanos = MAX_SPIN_NANOS / 2; // current spin-wait window
+
+  // Measurements
+  private long lastFrameTime;
+  private long lastCpuTime;
+  private double averageFrameNanos;
+  private double averageCpuNanos;
+
+  private FramePacer() {
+    targetFps = Config.fps();
+    lowPowerFps = Config.lowPowerFps();
+    cpuTimeSupported = threadBean.isCurrentThreadCpuTimeSupported();
+    if (cpuTimeSupported && !threadBean.isThreadCpuTimeEnabled()) {
+      threadBean.setThreadCpuTimeEnabled(true);
+    }
+    reset();
+  }
+
+  /**
+   * Waits until the next frame is due and records the measurements of the frame that just ended.
+   * Must be called once per frame from the game thread.
+   */
+  public void sync() {
+    long interval = getFrameIntervalNanos();
+    if (interval == 0) {
+      measure(); // uncapped
+      return;
+    }
+    long now = System.nanoTime();
+
+    nextFrameTime += interval;
+    if (now - nextFrameTime > interval) {
+      // Too far behind to catch up, start pacing from now
+      nextFrameTime = now;
+    }
+
+    // Sleep for most of the remaining budget
+    long remaining = nextFrameTime - now;
+    while (remaining > spinNanos) {
+      long parkStart = System.nanoTime();
+      long requested = remaining - spinNanos;
+      LockSupport.parkNanos(requested);
+      long overshoot = System.nanoTime() - parkStart - requested;
+      adaptSpin(overshoot);
+      remaining = nextFrameTime - System.nanoTime();
+    }
+
+    // Spin for the final stretch
+    while (System.nanoTime() < nextFrameTime) {
+      Thread.onSpinWait();
+    }
+
+    measure();
+  }
+
+  /**
+   * Resets the pacing deadline and the measurements.
+   */
+  public void reset() {
+    nextFrameTime = System.nanoTime();
+    lastFrameTime = nextFrameTime;
+    lastCpuTime = cpuTime();
+    averageFrameNanos = getFrameIntervalNanos();
+    averageCpuNanos = 0;
+  }
+
+  /**
+   * Gets the time budget of one frame at the current rate.
+   *
+   * @return the frame interval (in nanoseconds)
+   */
+  public long getFrameIntervalNanos() {
+    int fps = lowPower ? lowPowerFps : targetFps;
+    return fps > 0 ? 1_000_000_000L / fps : 0;
+  }
+
+  /**
+   * Gets the measured frame rate.
+   *
+   * @return the frames per second, averaged over recent frames
+   */
+  public double getMeasuredFps() {
+    return averageFrameNanos > 0 ? 1_000_000_000.0 / averageFrameNanos : 0;
+  }
+
+  /**
+   * Gets the CPU time the game thread spends per frame, including any spin-wait.
+   *
+   * @return the CPU time per frame (in milliseconds), or -1 if unsupported
+   */
+  public double getCpuMillisPerFrame() {
+    return cpuTimeSupported ? averageCpuNanos / 1_000_000.0 : -1;
+  }
+
+  /**
+   * Gets the share of one core used by the game thread.
+   *
+   * @return the CPU usage (0.0 to 1.0), or -1 if unsupported
+   */
+  public double getCpuUsage() {
+    if (!cpuTimeSupported || averageFrameNanos <= 0) {
+      return -1;
+    }
+    return Math.min(1.0, averageCpuNanos / averageFrameNanos);
+  }
+
+  public int getTargetFps() {
+    return targetFps;
+  }
+
+  /**
+   * Sets the frame rate while active, or 0 to leave it uncapped.
+   */
+  public void setTargetFps(int targetFps) {
+    if (targetFps < 0) {
+      throw new IllegalArgumentException("Target FPS must not be negative");
+    }
+    this.targetFps = targetFps;
+  }
+
+  public int getLowPowerFps() {
+    return lowPowerFps;
+  }
+
+  /**
+   * Sets the frame rate while in low-power mode.
+   */
+  public void setLowPowerFps(int lowPowerFps) {
+    if (lowPowerFps < 1) {
+      throw new IllegalArgumentException("Low-power FPS must be at least 1");
+    }
+    this.lowPowerFps = lowPowerFps;
+  }
+
+  public boolean isLowPower() {
+    return lowPower;
+  }
+
+  public void setLowPower(boolean lowPower) {
+    this.lowPower = lowPower;
+  }
+
+  /** Widens the spin window after late wake-ups and slowly narrows it after punctual ones. */
+  private void adaptSpin(long overshoot) {
+    if (overshoot > spinNanos) {
+      spinNanos = Math.min(MAX_SPIN_NANOS, overshoot);
+    } else {
+      spinNanos = Math.max(MIN_SPIN_NANOS, spinNanos - (spinNanos - overshoot) / 16);
+    }
+  }
+
+  /** Updates the moving averages with the frame that just ended. */
+  private void measure() {
+    long now = System.nanoTime();
+    long cpu = cpuTime();
+
+    averageFrameNanos += SMOOTHING * ((now - lastFrameTime) - averageFrameNanos);
+    averageCpuNanos += SMOOTHING * ((cpu - lastCpuTime) - averageCpuNanos);
+
+    lastFrameTime = now;
+    lastCpuTime = cpu;
+  }
+
+  private long cpuTime() {
+    return cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : 0;
+  }
+}
@@ -1,6 +1,9 @@
 package io.tidalisland.engine;
 
 import io.tidalisland.config.Config;
+import io.tidalisland.debug.FrameProfiler;
+import io.tidalisland.debug.FrameProfiler.Phase;
+import io.tidalisland.graphics.CompatibleImages;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -13,9 +16,13 @@ import java.awt.image.BufferedImage;
  */
 public class Game implements Runnable {
 
+  /** Longest stretch of real time simulated after a single frame. */
+  private static final long MAX_FRAME_NANOS = 250_000_000;
+
   private GameCanvas gamePanel;
   private Thread gameThread;
-  private boolean running;
+  private volatile boolean running;
+  private volatile boolean focused = true;
 
   /** Off-screen buffer for rendering at native resolution. */
   private BufferedImage gameBuffer;
@@ -25,8 +32,7 @@ public class Game implements Runnable {
    */
   public Game(GameCanvas gamePanel) {
     this.gamePanel = gamePanel;
-    this.gameBuffer = new BufferedImage(
-        Config.screenWidth(), Config.screenHeight(), BufferedImage.TYPE_INT_ARGB);
+    this.gameBuffer = CompatibleImages.create(Config.screenWidth(), Config.screenHeight());
   }
 
   /**
@@ -61,30 +67,52 @@ public class Game implements Runnable {
     gamePanel.createBufferStrategy(2);
     BufferStrategy bs = gamePanel.getBufferStrategy();
 
-    double interval = 1_000_000_000 / Config.fps(); // nanoseconds per frame
-    double delta = 0;
+    GameClock clock = GameClock.getInstance();
+    FramePacer pacer = FramePacer.getInstance();
+    pacer.reset();
+
+    long tickNanos = 1_000_000_000L / Config.tickRate(); // nanoseconds per simulation tick
+    long accumulator = 0;
     long lastTime = System.nanoTime();
-    long currentTime;
 
     while (running) {
       if (!gamePanel.isDisplayable()) {
         break;
       }
 
-      currentTime = System.nanoTime();
-      delta += (currentTime - lastTime) / interval;
-      lastTime = currentTime;
+      try (FrameProfiler.Scope frame = FrameProfiler.scope(Phase.FRAME)) {
+        long currentTime = System.nanoTime();
+        // Drop time beyond a stall instead of simulating it all at once
+        accumulator += Math.min(currentTime - lastTime, MAX_FRAME_NANOS);
+        lastTime = currentTime;
+
+        // Simulate in fixed ticks, independent of the render rate
+        while (accumulator >= tickNanos) {
+          try (FrameProfiler.Scope tick = FrameProfiler.scope(Phase.TICK)) {
+            clock.update(tickNanos);
+            gamePanel.update();
+            gamePanel.endFrame();
+          }
+          accumulator -= tickNanos;
+        }
 
-      if (delta >= 1) {
-        GameClock.getInstance().update();
-        gamePanel.update();
-        gamePanel.endFrame();
+        clock.setInterpolation((double) accumulator / tickNanos);
         render(bs);
-        delta--;
       }
+
+      // Drop to the low-power rate while paused or in the background
+      pacer.setLowPower(!focused || gamePanel.isLowPower());
+      pacer.sync();
     }
   }
 
+  /**
+   * Sets whether the game window has focus.
+   */
+  public void setFocused(boolean focused) {
+    this.focused = focused;
+  }
+
   /**
    * Renders the game.
    */
@@ -97,13 +125,24 @@ public class Game implements Runnable {
       bufferGraphics.fillRect(0, 0, Config.screenWidth(), Config.screenHeight());
 
       // Render game to buffer
-      gamePanel.render(bufferGraphics);
+      try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.RENDER)) {
+        gamePanel.render(bufferGraphics);
+      }
 
     } finally {
       bufferGraphics.dispose();
     }
 
     // Scale buffer to screen with letterboxing
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.PRESENT)) {
+      present(bs);
+    }
+  }
+
+  /**
+   * Scales the off-screen buffer to the window and shows it.
+   */
+  private void present(BufferStrategy bs) {
     do {
       do {
         Graphics g = bs.getDrawGraphics();
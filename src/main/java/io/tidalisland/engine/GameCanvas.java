@@ -74,6 +74,13 @@ public class GameCanvas extends Canvas {
     mouse.endFrame();
   }
 
+  /**
+   * Checks if the game can run at a reduced frame rate.
+   */
+  public boolean isLowPower() {
+    return gsm.isLowPower();
+  }
+
   public void setOnToggleFullscreen(Runnable callback) {
     this.onToggleFullscreen = callback;
   }
@@ -2,6 +2,10 @@ package io.tidalisland.engine;
 
 /**
  * A singleton GameClock that provides game-time delta for all systems.
+ *
+ * <p>The clock advances in fixed simulation ticks, so every system sees the same delta each update
+ * regardless of the render rate. Between ticks it holds the interpolation factor used to draw
+ * moving things between their last two simulated positions.
  */
 public class GameClock {
 
@@ -14,39 +18,54 @@ public class GameClock {
     return instance;
   }
 
-  private long deltaMillis; // time elapsed this frame
-  private long totalElapsed; // total time elapsed
-  private long lastUpdateTime; // real time of last update
+  private long deltaNanos; // time elapsed this tick
+  private long totalElapsed; // total time elapsed (in nanoseconds)
+  private long uptime; // total time ticked, including while paused (in nanoseconds)
+  private double interpolation; // progress from the last tick to the next
   private boolean paused; // pause flag
 
   private GameClock() {
-    deltaMillis = 0;
-    lastUpdateTime = System.nanoTime();
+    deltaNanos = 0;
+    interpolation = 1.0;
     paused = false;
   }
 
   /**
-   * Computes the delta time since the last frame and updates internal state.
+   * Advances the clock by one simulation tick.
+   *
+   * @param tickNanos the length of the tick (in nanoseconds)
    */
-  public void update() {
-    long now = System.nanoTime();
-    long delta = (now - lastUpdateTime) / 1_000_000; // convert ns -> ms
-    lastUpdateTime = now;
+  public void update(long tickNanos) {
+    deltaNanos = paused ? 0 : tickNanos;
+    totalElapsed += deltaNanos;
+    uptime += tickNanos;
+  }
 
-    deltaMillis = paused ? 0 : delta;
+  /**
+   * Gets the delta time for the current tick.
+   *
+   * @return the delta time (in nanoseconds)
+   */
+  public long getDeltaNanos() {
+    return deltaNanos;
+  }
 
-    if (!paused) {
-      totalElapsed += deltaMillis;
-    }
+  /**
+   * Gets the delta time for the current tick.
+   *
+   * @return the delta time (in seconds)
+   */
+  public double getDeltaSeconds() {
+    return deltaNanos / 1_000_000_000.0;
   }
 
   /**
-   * Gets the delta time for the current frame.
+   * Gets the delta time for the current tick, truncated to whole milliseconds.
    *
    * @return the delta time (in milliseconds)
    */
   public long getDeltaMillis() {
-    return deltaMillis;
+    return deltaNanos / 1_000_000;
   }
 
   /**
@@ -55,7 +74,36 @@ public class GameClock {
    * @return the total elapsed time (in milliseconds)
    */
   public long getTotalElapsedMillis() {
-    return totalElapsed;
+    return totalElapsed / 1_000_000;
+  }
+
+  /**
+   * Gets the total time ticked, including while paused. Used for animations, which keep playing
+   * on paused screens.
+   *
+   * @return the uptime (in milliseconds)
+   */
+  public long getUptimeMillis() {
+    return uptime / 1_000_000;
+  }
+
+  /**
+   * Gets how far rendering is between the last tick and the next one. While paused the last tick
+   * is shown as is.
+   *
+   * @return the interpolation factor (0.0 to 1.0)
+   */
+  public double getInterpolation() {
+    return paused ? 1.0 : interpolation;
+  }
+
+  /**
+   * Sets how far rendering is between the last tick and the next one.
+   *
+   * @param interpolation the interpolation factor (0.0 to 1.0)
+   */
+  public void setInterpolation(double interpolation) {
+    this.interpolation = Math.max(0.0, Math.min(1.0, interpolation));
   }
 
   /**
@@ -63,11 +111,6 @@ public class GameClock {
    */
   public void setPaused(boolean paused) {
     this.paused = paused;
-
-    // Reset lastUpdateTime to prevent a big delta when resuming
-    if (!paused) {
-      lastUpdateTime = System.nanoTime();
-    }
   }
 
   /**
@@ -80,11 +123,13 @@ public class GameClock {
   }
 
   /**
-   * Resets the clock to default values.
+   * Resets the clock to default values and the game time to zero. The uptime keeps counting so
+   * running animations are not disturbed.
    */
   public void reset() {
-    deltaMillis = 0;
-    lastUpdateTime = System.nanoTime();
+    deltaNanos = 0;
+    totalElapsed = 0;
+    interpolation = 1.0;
     paused = false;
   }
 }
@@ -1,6 +1,7 @@
 package io.tidalisland.engine;
 
 import io.tidalisland.config.Config;
+import io.tidalisland.graphics.CompatibleImages;
 import java.awt.Frame;
 import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
@@ -47,6 +48,20 @@ public class GameWindow extends Frame {
 
     // Handle closing the window
     addWindowListener(new WindowAdapter() {
+      @Override
+      public void windowActivated(WindowEvent e) {
+        if (game != null) {
+          game.setFocused(true);
+        }
+      }
+
+      @Override
+      public void windowDeactivated(WindowEvent e) {
+        if (game != null) {
+          game.setFocused(false);
+        }
+      }
+
       @Override
       public void windowClosing(WindowEvent e) {
         exitFullscreen();
@@ -66,6 +81,12 @@ public class GameWindow extends Frame {
           Config.get().updateScreenDimensions(canvas.getWidth(), canvas.getHeight());
         }
       }
+
+      @Override
+      public void componentMoved(ComponentEvent e) {
+        // Sprites are converted for the display; remake them if the window moved to another one
+        CompatibleImages.setConfiguration(getGraphicsConfiguration());
+      }
     });
   }
 
@@ -3,6 +3,7 @@ package io.tidalisland.entities;
 import io.tidalisland.collision.Collider;
 import io.tidalisland.collision.CollisionManager;
 import io.tidalisland.config.Config;
+import io.tidalisland.engine.GameClock;
 import io.tidalisland.graphics.Camera;
 import io.tidalisland.graphics.sprites.SpriteSet;
 import io.tidalisland.utils.Direction;
@@ -16,6 +17,8 @@ import java.awt.Graphics;
 public abstract class Entity {
 
   protected Position position;
+  protected final Position previousPosition;
+  private final Position renderPosition = new Position(0, 0); // reused every frame
   protected Direction direction = Direction.NONE;
   protected Collider collider;
   protected SpriteSet spriteSet;
@@ -31,6 +34,7 @@ public abstract class Entity {
    */
   public Entity(Position position, Direction direction, int speed) {
     this.position = position;
+    this.previousPosition = position.copy();
     this.speed = speed;
     this.direction = direction;
   }
@@ -56,6 +60,38 @@ public abstract class Entity {
    */
   public abstract void draw(Graphics g, Camera camera);
 
+  /**
+   * Remembers the current position as the start of the next tick. Called at the start of each
+   * update so rendering can interpolate towards the new position.
+   */
+  public void savePreviousPosition() {
+    previousPosition.setPosition(position);
+  }
+
+  /**
+   * Moves the entity straight to a position, without interpolating from where it was.
+   *
+   * @param target the new position
+   */
+  public void teleport(Position target) {
+    position.setPosition(target);
+    previousPosition.setPosition(target);
+    if (collider != null) {
+      collider.updatePosition(position);
+    }
+  }
+
+  /**
+   * Gets the position to draw at, interpolated between the last two ticks.
+   *
+   * @return the entity's render position, updated in place on every call; do not keep it
+   * @see GameClock#getInterpolation()
+   */
+  public Position getRenderPosition() {
+    return renderPosition.setLerp(previousPosition, position,
+        GameClock.getInstance().getInterpolation());
+  }
+
   /**
    * Gets the tile the entity is facing.
    *
@@ -36,8 +36,7 @@ public abstract class LivingEntity extends Entity {
    * Updates hunger based on the given delta time.
    */
   public void updateHunger() {
-    long deltaMillis = GameClock.getInstance().getDeltaMillis();
-    double deltaSeconds = deltaMillis / 1000.0;
+    double deltaSeconds = GameClock.getInstance().getDeltaSeconds();
 
     // decrease hunger gradually
     if (hungerRate > 0) {
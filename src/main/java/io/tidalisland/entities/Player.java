@@ -3,9 +3,10 @@ package io.tidalisland.entities;
 import io.tidalisland.collision.ColliderAnchor;
 import io.tidalisland.collision.ColliderBuilder;
 import io.tidalisland.collision.CollisionManager;
+import io.tidalisland.engine.GameClock;
 import io.tidalisland.graphics.Camera;
 import io.tidalisland.graphics.sprites.Sprite;
-import io.tidalisland.graphics.sprites.SpriteFrame;
+import io.tidalisland.graphics.sprites.SpriteSet;
 import io.tidalisland.graphics.sprites.SpriteSetBuilder;
 import io.tidalisland.input.Action;
 import io.tidalisland.input.KeyHandler;
@@ -29,6 +30,15 @@ public class Player extends LivingEntity {
   private long lastInteractTime = 0;
   private boolean interacting = false; // for animation
 
+  /**
+   * Builds the player's sprite set. The images are shared, so this does not need a player.
+   *
+   * @return the new sprite set
+   */
+  public static SpriteSet createSpriteSet() {
+    return SpriteSetBuilder.build("/sprites/entities/player.png", "/sprites/entities/player.json");
+  }
+
   /**
    * Creates a new player entity.
    */
@@ -41,8 +51,7 @@ public class Player extends LivingEntity {
     this.keys = keys;
 
     // Import sprites
-    spriteSet =
-        SpriteSetBuilder.build("/sprites/entities/player.png", "/sprites/entities/player.json");
+    spriteSet = createSpriteSet();
 
     // Create collider
     collider = new ColliderBuilder().size(spriteSet.getFrame().getSize()).scale(0.6)
@@ -52,7 +61,9 @@ public class Player extends LivingEntity {
 
   @Override
   public void update(CollisionManager collisionManager, InteractionManager interactionManager) {
-    long now = System.currentTimeMillis();
+    savePreviousPosition();
+
+    long now = GameClock.getInstance().getTotalElapsedMillis();
 
     if (keys.isJustPressed(Action.INTERACT) && now - lastInteractTime >= interactCooldown) {
       String tag = switch (direction) {
@@ -74,7 +85,8 @@ public class Player extends LivingEntity {
       lastInteractTime = now;
     }
 
-    Position nextPosition = position.copy();
+    int dx = 0;
+    int dy = 0;
     if (!interacting) {
       if (keys.anyDown(Action.UP, Action.DOWN, Action.LEFT, Action.RIGHT)) {
         if (keys.isDown(Action.UP)) {
@@ -90,7 +102,8 @@ public class Player extends LivingEntity {
           direction = Direction.RIGHT;
           spriteSet.setTag("walk_side");
         }
-        nextPosition.move(direction, speed);
+        dx = direction.getDx() * speed;
+        dy = direction.getDy() * speed;
       } else {
         switch (direction) {
           case UP -> spriteSet.setTag("idle_up");
@@ -102,10 +115,7 @@ public class Player extends LivingEntity {
       }
     }
 
-    if (collisionManager.canMove(this, nextPosition)) {
-      position.setPosition(nextPosition);
-      collider.updatePosition(position);
-    }
+    collisionManager.move(this, dx, dy);
 
     updateHunger();
 
@@ -123,12 +133,11 @@ public class Player extends LivingEntity {
       return;
     }
 
-    Position screenPos = position.subtract(camera.getPosition());
-
-    SpriteFrame currentFrame = spriteSet.getFrame();
-    currentFrame.setFlipX(direction == Direction.LEFT);
+    Position renderPos = getRenderPosition();
+    int screenX = renderPos.getX() - camera.getPosition().getX();
+    int screenY = renderPos.getY() - camera.getPosition().getY();
 
-    currentFrame.draw(g, screenPos);
+    spriteSet.getFrame().draw(g, screenX, screenY, direction == Direction.LEFT, false);
   }
 
   public Inventory getInventory() {
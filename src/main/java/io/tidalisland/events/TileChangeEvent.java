@@ -0,0 +1,43 @@
+package io.tidalisland.events;
+
+/**
+ * Event triggered when a tile of the world map changes.
+ */
+public class TileChangeEvent implements Event {
+
+  private final int col;
+  private final int row;
+  private final int oldTileId;
+  private final int newTileId;
+
+  /**
+   * Creates a new tile change event.
+   *
+   * @param col the column of the tile
+   * @param row the row of the tile
+   * @param oldTileId the id of the tile before the change
+   * @param newTileId the id of the tile after the change
+   */
+  public TileChangeEvent(int col, int row, int oldTileId, int newTileId) {
+    this.col = col;
+    this.row = row;
+    this.oldTileId = oldTileId;
+    this.newTileId = newTileId;
+  }
+
+  public int getCol() {
+    return col;
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getOldTileId() {
+    return oldTileId;
+  }
+
+  public int getNewTileId() {
+    return newTileId;
+  }
+}
@@ -0,0 +1,47 @@
+package io.tidalisland.events;
+
+import io.tidalisland.collision.Collider;
+import io.tidalisland.worldobjects.WorldObject;
+
+/**
+ * Event triggered when a world object is added, removed or moved.
+ */
+public class WorldObjectChangeEvent implements Event {
+
+  private final WorldObject object;
+  private final Collider oldCollider;
+  private final Collider newCollider;
+
+  /**
+   * Creates a new world object change event.
+   *
+   * @param object the world object
+   * @param oldCollider the area the object covered before the change, or null if it was added
+   * @param newCollider the area the object covers after the change, or null if it was removed
+   */
+  public WorldObjectChangeEvent(WorldObject object, Collider oldCollider, Collider newCollider) {
+    this.object = object;
+    this.oldCollider = oldCollider;
+    this.newCollider = newCollider;
+  }
+
+  public WorldObject getObject() {
+    return object;
+  }
+
+  public Collider getOldCollider() {
+    return oldCollider;
+  }
+
+  public Collider getNewCollider() {
+    return newCollider;
+  }
+
+  public boolean wasAdded() {
+    return oldCollider == null;
+  }
+
+  public boolean wasRemoved() {
+    return newCollider == null;
+  }
+}
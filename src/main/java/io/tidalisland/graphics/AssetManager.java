@@ -0,0 +1,180 @@
+package io.tidalisland.graphics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tidalisland.graphics.sprites.AtlasPacker;
+import io.tidalisland.graphics.sprites.AtlasPage;
+import io.tidalisland.graphics.sprites.SpriteAtlas;
+import io.tidalisland.graphics.sprites.SpriteFrame;
+import io.tidalisland.graphics.sprites.SpriteSet;
+import io.tidalisland.graphics.sprites.SpriteSetBuilder;
+import io.tidalisland.graphics.sprites.SpriteSheet;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+/**
+ * Central cache for decoded assets.
+ *
+ * <p>Images, sprite sheets and sprite frames are loaded once per path and shared by every caller.
+ * Sprite sets are built once per atlas and sheet pair; each caller gets its own {@link SpriteSet}
+ * whose sprites track their own animation state over the shared frames.
+ *
+ * <p>Images listed in an atlas manifest can be packed into a few large pages up front with
+ * {@link #loadAtlas}; every image and frame taken from them is then a region of a page, and frames
+ * draw straight from the page.
+ */
+public final class AssetManager {
+
+  /** Maps image path -> decoded image. */
+  private static final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+
+  /** Maps sheet path -> parsed sprite sheet. */
+  private static final Map<String, SpriteSheet> sheets = new ConcurrentHashMap<>();
+
+  /** Maps image path -> single-image frame. */
+  private static final Map<String, SpriteFrame> frames = new ConcurrentHashMap<>();
+
+  /** Maps atlas and sheet path -> prototype sprite set. */
+  private static final Map<String, SpriteSet> spriteSets = new ConcurrentHashMap<>();
+
+  /** Maps manifest path -> number of pages of an atlas that is already packed. */
+  private static final Map<String, Integer> atlases = new ConcurrentHashMap<>();
+
+  private AssetManager() {}
+
+  /**
+   * Gets a decoded image, loading it on first use.
+   *
+   * @param path the resource path of the image
+   * @return the shared image
+   * @throws IllegalArgumentException if the image cannot be loaded
+   */
+  public static BufferedImage getImage(String path) {
+    return images.computeIfAbsent(path, AssetManager::readImage);
+  }
+
+  /**
+   * Decodes every image listed in an atlas manifest and packs them into shared pages. Afterwards
+   * {@link #getImage} returns the region of a page that holds the image, instead of decoding it on
+   * its own, and {@link #getFrame} returns a frame that draws that region from the page. An atlas
+   * is only packed once; loading it again returns right away.
+   *
+   * @param manifestPath the resource path of the manifest
+   * @return the number of pages
+   * @throws IllegalArgumentException if the manifest or one of its images cannot be loaded
+   */
+  public static int loadAtlas(String manifestPath) {
+    return atlases.computeIfAbsent(manifestPath, AssetManager::packAtlas);
+  }
+
+  private static int packAtlas(String manifestPath) {
+    AtlasManifest manifest;
+    try (InputStream is = AssetManager.class.getResourceAsStream(manifestPath)) {
+      if (is == null) {
+        throw new IllegalArgumentException("Atlas manifest not found: " + manifestPath);
+      }
+      manifest = new ObjectMapper().readValue(is, AtlasManifest.class);
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "Failed to load atlas manifest: " + manifestPath + " " + e.getMessage(), e);
+    }
+
+    // Decode on every core, then pack in manifest order
+    List<BufferedImage> decoded =
+        manifest.images.parallelStream().map(AssetManager::readImage).toList();
+    AtlasPacker packer = new AtlasPacker(manifest.pageSize);
+    for (int i = 0; i < decoded.size(); i++) {
+      packer.add(manifest.images.get(i), decoded.get(i));
+    }
+    Map<String, AtlasPacker.Region> regions = packer.pack();
+    List<AtlasPage> pages = packer.getPages().stream().map(AtlasPage::new).toList();
+    regions.forEach((path, region) -> {
+      images.put(path, region.getImage());
+      frames.put(path, new SpriteFrame(pages.get(region.pageIndex), region.x, region.y,
+          region.width, region.height, 0));
+    });
+    return pages.size();
+  }
+
+  /**
+   * Gets a parsed sprite sheet, loading it on first use.
+   *
+   * @param path the resource path of the sheet
+   * @return the shared sprite sheet
+   */
+  public static SpriteSheet getSheet(String path) {
+    return sheets.computeIfAbsent(path, SpriteSheet::load);
+  }
+
+  /**
+   * Gets a frame that covers a whole image, loading it on first use.
+   *
+   * @param path the resource path of the image
+   * @return the shared frame
+   */
+  public static SpriteFrame getFrame(String path) {
+    return frames.computeIfAbsent(path, p -> new SpriteFrame(getImage(p)));
+  }
+
+  /**
+   * Gets a new sprite set over frames shared with every other sprite set of the same atlas and
+   * sheet.
+   *
+   * @param atlasPath the resource path of the atlas image
+   * @param sheetPath the resource path of the sheet
+   * @return a new sprite set with its own animation state
+   */
+  public static SpriteSet getSpriteSet(String atlasPath, String sheetPath) {
+    SpriteSet prototype = spriteSets.computeIfAbsent(atlasPath + "|" + sheetPath,
+        key -> SpriteSetBuilder.build(new SpriteAtlas(getFrame(atlasPath)), getSheet(sheetPath)));
+    return prototype.copy();
+  }
+
+  /**
+   * Checks if an image has been loaded.
+   *
+   * @param path the resource path of the image
+   * @return true if the image is cached
+   */
+  public static boolean hasImage(String path) {
+    return images.containsKey(path);
+  }
+
+  /**
+   * Removes every cached asset.
+   */
+  public static void clear() {
+    images.clear();
+    sheets.clear();
+    frames.clear();
+    spriteSets.clear();
+    atlases.clear();
+  }
+
+  private static class AtlasManifest {
+    public int pageSize = 1024;
+    public List<String> images = List.of();
+  }
+
+  private static BufferedImage readImage(String path) {
+    try (InputStream is = AssetManager.class.getResourceAsStream(path)) {
+      if (is == null) {
+        throw new IllegalArgumentException("Image not found: " + path);
+      }
+      BufferedImage image = ImageIO.read(is);
+      if (image == null) {
+        throw new IllegalArgumentException("Unsupported image format: " + path);
+      }
+      return image;
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to load image: " + path + " " + e.getMessage(), e);
+    }
+  }
+}
@@ -6,11 +6,18 @@ import io.tidalisland.utils.Position;
 
 /**
  * The game camera.
+ *
+ * <p>The camera is moved once per simulation tick and drawn at a position interpolated between its
+ * last two ticks; see {@link #interpolate(double)}.
  */
 public class Camera {
 
-  private Position position = new Position(0, 0);
+  private final Position position = new Position(0, 0); // position at the last tick
+  private final Position previousPosition = new Position(0, 0); // position at the tick before
+  private final Position renderPosition = new Position(0, 0); // position to draw at
   private int speed = 1;
+  private int boundsWidth = Config.mapWidth() * Config.tileSize();
+  private int boundsHeight = Config.mapHeight() * Config.tileSize();
 
   /**
    * Updates the camera to follow a target entity.
@@ -33,8 +40,17 @@ public class Camera {
     int clampedX = getClampedX(centerX);
     int clampedY = getClampedY(centerY);
 
-    position.setX(clampedX);
-    position.setY(clampedY);
+    moveTo(clampedX, clampedY);
+  }
+
+  /**
+   * Centers the camera on a target entity without interpolating from the previous position.
+   *
+   * @param target the target entity to focus on
+   */
+  public void focus(Entity target) {
+    update(target);
+    setPosition(position.getX(), position.getY());
   }
 
   /**
@@ -50,32 +66,69 @@ public class Camera {
     newX = getClampedX(newX);
     newY = getClampedY(newY);
 
-    position.setX(newX);
-    position.setY(newY);
+    moveTo(newX, newY);
   }
 
+  /**
+   * Sets the position to draw at between the last two ticks.
+   *
+   * @param alpha the interpolation factor (0.0 to 1.0)
+   */
+  public void interpolate(double alpha) {
+    renderPosition.setLerp(previousPosition, position, alpha);
+  }
+
+  /**
+   * Gets the position to draw at.
+   *
+   * @return the interpolated position, updated in place by the camera; do not keep it
+   * @see #interpolate(double)
+   */
   public Position getPosition() {
-    return position;
+    return renderPosition;
   }
 
   public void setPosition(Position position) {
-    this.position.setPosition(position);
+    setPosition(position.getX(), position.getY());
   }
 
+  /**
+   * Sets the position without interpolating from the previous one.
+   */
   public void setPosition(int x, int y) {
     position.setX(x);
     position.setY(y);
+    previousPosition.setPosition(position);
+    renderPosition.setPosition(position);
+  }
+
+  private void moveTo(int x, int y) {
+    previousPosition.setPosition(position);
+    position.setX(x);
+    position.setY(y);
+    renderPosition.setPosition(position);
   }
 
   public void setSpeed(int speed) {
     this.speed = speed;
   }
 
+  /**
+   * Sets the size of the area the camera is kept inside. Defaults to the configured map size.
+   *
+   * @param width the width of the area (in pixels)
+   * @param height the height of the area (in pixels)
+   */
+  public void setBounds(int width, int height) {
+    this.boundsWidth = width;
+    this.boundsHeight = height;
+  }
+
   private int getClampedX(int x) {
-    return Math.max(0, Math.min(x, Config.mapWidth() * Config.tileSize() - Config.screenWidth()));
+    return Math.max(0, Math.min(x, boundsWidth - Config.screenWidth()));
   }
 
   private int getClampedY(int y) {
-    return Math.max(0, Math.min(y, Config.mapHeight() * Config.tileSize() - Config.screenHeight()));
+    return Math.max(0, Math.min(y, boundsHeight - Config.screenHeight()));
   }
 }
@@ -0,0 +1,115 @@
+package io.tidalisland.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Creates images in the pixel format of the display, so drawing them needs no conversion.
+ *
+ * <p>Images made for one display may draw slowly on another. When the game window moves to a new
+ * display, {@link #setConfiguration} bumps a generation counter, which tells caches of converted
+ * images to rebuild them.
+ */
+public final class CompatibleImages {
+
+  private static volatile GraphicsConfiguration configuration = defaultConfiguration();
+  private static volatile int generation = 0;
+
+  private CompatibleImages() {}
+
+  /**
+   * Sets the configuration of the display the game is drawn on. Does nothing if it is unchanged.
+   *
+   * @param configuration the display configuration, or null to keep the current one
+   */
+  public static synchronized void setConfiguration(GraphicsConfiguration configuration) {
+    if (configuration == null || configuration == CompatibleImages.configuration) {
+      return;
+    }
+    CompatibleImages.configuration = configuration;
+    generation++;
+  }
+
+  /**
+   * Number of times the display configuration has changed. Images made in an earlier generation
+   * are outdated.
+   */
+  public static int getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Creates a transparent image in the display's pixel format, or in ARGB when there is no display.
+   *
+   * @param width the width of the image
+   * @param height the height of the image
+   * @return a new, fully transparent image
+   */
+  public static BufferedImage create(int width, int height) {
+    GraphicsConfiguration gc = configuration;
+    if (gc == null) {
+      return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+    return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+  }
+
+  /**
+   * Creates a compatible copy of an image scaled up by a whole factor, keeping pixels sharp.
+   *
+   * @param source the image to copy
+   * @param scale the scale factor
+   * @return the scaled copy
+   * @throws IllegalArgumentException if the scale is less than 1
+   */
+  public static BufferedImage scale(BufferedImage source, int scale) {
+    if (scale < 1) {
+      throw new IllegalArgumentException("Scale must be at least 1");
+    }
+    int width = source.getWidth() * scale;
+    int height = source.getHeight() * scale;
+    BufferedImage scaled = create(width, height);
+    Graphics2D g = scaled.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+      g.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+    return scaled;
+  }
+
+  /**
+   * Creates a compatible, mirrored copy of an image.
+   *
+   * @param source the image to copy
+   * @param flipX whether to mirror the image horizontally
+   * @param flipY whether to mirror the image vertically
+   * @return the mirrored copy
+   */
+  public static BufferedImage flip(BufferedImage source, boolean flipX, boolean flipY) {
+    int width = source.getWidth();
+    int height = source.getHeight();
+    BufferedImage flipped = create(width, height);
+    Graphics2D g = flipped.createGraphics();
+    try {
+      g.drawImage(source, flipX ? width : 0, flipY ? height : 0, flipX ? -width : width,
+          flipY ? -height : height, null);
+    } finally {
+      g.dispose();
+    }
+    return flipped;
+  }
+
+  private static GraphicsConfiguration defaultConfiguration() {
+    if (GraphicsEnvironment.isHeadless()) {
+      return null;
+    }
+    return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+        .getDefaultConfiguration();
+  }
+}
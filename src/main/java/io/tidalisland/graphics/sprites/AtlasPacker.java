@@ -0,0 +1,157 @@
+package io.tidalisland.graphics.sprites;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs many small images into a few large atlas pages.
+ *
+ * <p>Images are placed on shelves: sorted from tallest to shortest, they fill rows left to right,
+ * and a new row starts below the tallest image of the previous one. A new page starts when a page
+ * is full, and an image larger than a page gets a page of its own. Each page is only as large as
+ * the images on it.
+ */
+public class AtlasPacker {
+
+  private final int pageSize;
+  private final Map<String, BufferedImage> images = new LinkedHashMap<>();
+  private final List<BufferedImage> pages = new ArrayList<>();
+
+  /**
+   * Creates a new packer.
+   *
+   * @param pageSize the largest width and height of a page (in pixels)
+   * @throws IllegalArgumentException if the page size is less than 1
+   */
+  public AtlasPacker(int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be at least 1");
+    }
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Adds an image to pack.
+   *
+   * @param name the name of the image's region
+   * @param image the image
+   * @throws IllegalArgumentException if an image with the same name was already added
+   */
+  public void add(String name, BufferedImage image) {
+    if (images.putIfAbsent(name, image) != null) {
+      throw new IllegalArgumentException("Duplicate atlas image: " + name);
+    }
+  }
+
+  /**
+   * Packs the added images into pages.
+   *
+   * @return the region of each image, by name
+   */
+  public Map<String, Region> pack() {
+    List<String> names = new ArrayList<>(images.keySet());
+    names.sort(Comparator.<String>comparingInt(name -> images.get(name).getHeight())
+        .thenComparingInt(name -> images.get(name).getWidth()).reversed()
+        .thenComparing(Comparator.naturalOrder()));
+
+    // Lay out the regions first, tracking the extent of each page
+    Map<String, int[]> placements = new LinkedHashMap<>(); // name -> page, x, y
+    List<int[]> extents = new ArrayList<>(); // page -> width, height
+    int page = -1;
+    int shelfY = 0;
+    int shelfHeight = 0;
+    int cursorX = 0;
+    for (String name : names) {
+      BufferedImage image = images.get(name);
+      int width = image.getWidth();
+      int height = image.getHeight();
+
+      if (width > pageSize || height > pageSize) {
+        extents.add(new int[] {width, height});
+        placements.put(name, new int[] {extents.size() - 1, 0, 0});
+        page = -1; // an oversized page is never shared
+        continue;
+      }
+      if (page >= 0 && cursorX + width > pageSize) {
+        shelfY += shelfHeight;
+        shelfHeight = 0;
+        cursorX = 0;
+      }
+      if (page < 0 || shelfY + height > pageSize) {
+        extents.add(new int[] {0, 0});
+        page = extents.size() - 1;
+        shelfY = 0;
+        shelfHeight = 0;
+        cursorX = 0;
+      }
+
+      placements.put(name, new int[] {page, cursorX, shelfY});
+      int[] extent = extents.get(page);
+      extent[0] = Math.max(extent[0], cursorX + width);
+      extent[1] = Math.max(extent[1], shelfY + height);
+      cursorX += width;
+      shelfHeight = Math.max(shelfHeight, height);
+    }
+
+    // Then copy the images onto their pages
+    pages.clear();
+    for (int[] extent : extents) {
+      pages.add(new BufferedImage(extent[0], extent[1], BufferedImage.TYPE_INT_ARGB));
+    }
+    Map<String, Region> regions = new LinkedHashMap<>();
+    for (Map.Entry<String, int[]> entry : placements.entrySet()) {
+      BufferedImage image = images.get(entry.getKey());
+      int[] placement = entry.getValue();
+      BufferedImage target = pages.get(placement[0]);
+      Graphics2D g = target.createGraphics();
+      try {
+        g.drawImage(image, placement[1], placement[2], null);
+      } finally {
+        g.dispose();
+      }
+      regions.put(entry.getKey(), new Region(target, placement[0], placement[1], placement[2],
+          image.getWidth(), image.getHeight()));
+    }
+    return regions;
+  }
+
+  /**
+   * Gets the pages made by the last call to {@link #pack()}.
+   */
+  public List<BufferedImage> getPages() {
+    return Collections.unmodifiableList(pages);
+  }
+
+  /** The area of a page that holds one packed image. */
+  public static class Region {
+    public final BufferedImage page;
+    public final int pageIndex;
+    public final int x;
+    public final int y;
+    public final int width;
+    public final int height;
+
+    /** Creates a new region. */
+    public Region(BufferedImage page, int pageIndex, int x, int y, int width, int height) {
+      this.page = page;
+      this.pageIndex = pageIndex;
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+    }
+
+    /**
+     * Gets a view of the region that shares the page's pixels.
+     */
+    public BufferedImage getImage() {
+      return page.getSubimage(x, y, width, height);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package io.tidalisland.graphics.sprites;
+
+import io.tidalisland.config.Config;
+import io.tidalisland.graphics.CompatibleImages;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An image that sprite frames are cut from, usually a page of a packed atlas.
+ *
+ * <p>Frames draw from a copy of the whole page that is already scaled by the pixel scale and in the
+ * display's pixel format, so drawing a frame at its normal size copies a rectangle with no scaling
+ * or format conversion. Mirrored copies of the page are made the same way on first use. The copies
+ * are remade if the pixel scale or the display changes. Looking a copy up takes no lock, since it
+ * happens for every frame drawn.
+ */
+public class AtlasPage {
+
+  private final BufferedImage image;
+
+  private volatile Variants variants; // replaced as a whole when the scale or display changes
+
+  /**
+   * Creates a new page.
+   *
+   * @param image the source image, at its original size
+   */
+  public AtlasPage(BufferedImage image) {
+    this.image = image;
+  }
+
+  /**
+   * Gets the source image, at its original size.
+   */
+  public BufferedImage getImage() {
+    return image;
+  }
+
+  /**
+   * Width of the source image (in pixels).
+   */
+  public int getWidth() {
+    return image.getWidth();
+  }
+
+  /**
+   * Height of the source image (in pixels).
+   */
+  public int getHeight() {
+    return image.getHeight();
+  }
+
+  /**
+   * Gets the page scaled by the pixel scale in the display's pixel format, optionally mirrored,
+   * making it if needed. A region at {@code x} of the source is at {@code width - x - regionWidth}
+   * in a horizontally mirrored copy, and likewise vertically.
+   *
+   * @param flipX whether the page is mirrored horizontally
+   * @param flipY whether the page is mirrored vertically
+   * @return the shared image; callers must not modify it
+   */
+  public BufferedImage getScaledImage(boolean flipX, boolean flipY) {
+    int pixelScale = Config.pixelScale();
+    int generation = CompatibleImages.getGeneration();
+    Variants current = variants;
+    if (current == null || current.pixelScale() != pixelScale
+        || current.generation() != generation) {
+      // Two threads may both make the copies; either result is correct
+      current = new Variants(pixelScale, generation, new AtomicReferenceArray<>(4));
+      current.images().set(0, CompatibleImages.scale(image, pixelScale));
+      variants = current;
+    }
+
+    int variant = (flipX ? 1 : 0) | (flipY ? 2 : 0);
+    BufferedImage scaled = current.images().get(variant);
+    if (scaled == null) {
+      scaled = CompatibleImages.flip(current.images().get(0), flipX, flipY);
+      if (!current.images().compareAndSet(variant, null, scaled)) {
+        scaled = current.images().get(variant); // keep the copy another thread made first
+      }
+    }
+    return scaled;
+  }
+
+  /**
+   * The copies of the page for one pixel scale and display: the page pre-scaled, then its mirrored
+   * copies. Index bit 0 is a horizontal flip and bit 1 a vertical one; mirrored copies are made on
+   * first use.
+   */
+  private record Variants(int pixelScale, int generation,
+      AtomicReferenceArray<BufferedImage> images) {}
+}
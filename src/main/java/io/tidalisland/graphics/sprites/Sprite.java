@@ -1,6 +1,9 @@
 package io.tidalisland.graphics.sprites;
 
+import io.tidalisland.engine.GameClock;
+import io.tidalisland.graphics.AssetManager;
 import java.awt.image.BufferedImage;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -30,12 +33,13 @@ public class Sprite {
   }
 
   /**
-   * Creates a new sprite with a single frame from a path.
+   * Creates a new sprite with a single frame from a path. The frame is shared with every other
+   * sprite of the same path.
    *
    * @param path the path
    */
   public Sprite(String path) {
-    this(new SpriteFrame(path));
+    this(AssetManager.getFrame(path));
   }
 
   /**
@@ -48,7 +52,7 @@ public class Sprite {
     this.frames = frames;
     this.repeat = repeat;
     animated = frames.size() > 1;
-    lastTime = System.currentTimeMillis();
+    lastTime = GameClock.getInstance().getUptimeMillis();
   }
 
   /**
@@ -60,6 +64,17 @@ public class Sprite {
     this(frames, -1);
   }
 
+  /**
+   * Creates a copy of this sprite that shares its frames but has its own animation state.
+   *
+   * @return a new sprite at the first frame
+   */
+  public Sprite copy() {
+    Sprite copy = new Sprite(frames, repeat);
+    copy.speedMultiplier = speedMultiplier;
+    return copy;
+  }
+
   /**
    * Starts the animation.
    */
@@ -80,7 +95,7 @@ public class Sprite {
   public void reset() {
     frameIdx = 0;
     repeatsDone = 0;
-    lastTime = System.currentTimeMillis();
+    lastTime = GameClock.getInstance().getUptimeMillis();
   }
 
   /**
@@ -113,7 +128,7 @@ public class Sprite {
     }
 
     SpriteFrame current = frames.get(frameIdx);
-    long now = System.currentTimeMillis();
+    long now = GameClock.getInstance().getUptimeMillis();
     long delta = now - lastTime;
 
     long frameDuration = (long) (current.getDuration() / speedMultiplier);
@@ -145,6 +160,11 @@ public class Sprite {
     this.speedMultiplier = multiplier;
   }
 
+  /** Returns every frame, in order. */
+  public List<SpriteFrame> getFrames() {
+    return Collections.unmodifiableList(frames);
+  }
+
   /** Returns the current frame. */
   public SpriteFrame getFrame() {
     if (frames == null || frames.isEmpty()) {
@@ -1,15 +1,38 @@
 package io.tidalisland.graphics.sprites;
 
+import io.tidalisland.graphics.AssetManager;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import javax.imageio.ImageIO;
 
 /**
  * A sprite atlas.
+ *
+ * <p>Frames made with {@link #createFrame} draw from the page the atlas image lies on, so the
+ * frames of every sprite packed into the same page share one pre-scaled image.
  */
 public class SpriteAtlas {
 
   private BufferedImage atlas;
+  private SpriteFrame source;
+
+  /**
+   * Creates a new sprite atlas from an image.
+   *
+   * @param atlas the atlas image
+   */
+  public SpriteAtlas(BufferedImage atlas) {
+    this(new SpriteFrame(atlas));
+  }
+
+  /**
+   * Creates a new sprite atlas over a frame, sharing its page.
+   *
+   * @param source the frame that covers the whole atlas
+   */
+  public SpriteAtlas(SpriteFrame source) {
+    this.source = source;
+    this.atlas = source.getImage();
+  }
 
   /**
    * Creates a new sprite atlas.
@@ -18,7 +41,8 @@ public class SpriteAtlas {
    */
   public SpriteAtlas(String path) {
     try {
-      atlas = ImageIO.read(getClass().getResourceAsStream(path));
+      source = AssetManager.getFrame(path);
+      atlas = source.getImage();
     } catch (Exception e) {
       e.printStackTrace();
       throw new RuntimeException("Failed to load atlas: " + path + " " + e.getMessage(), e);
@@ -38,6 +62,20 @@ public class SpriteAtlas {
     return atlas.getSubimage(x, y, width, height);
   }
 
+  /**
+   * Creates a sprite frame that draws a part of the atlas from the atlas's page.
+   *
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @param width the width
+   * @param height the height
+   * @param duration the duration of the frame
+   * @return the frame
+   */
+  public SpriteFrame createFrame(int x, int y, int width, int height, int duration) {
+    return source.region(x, y, width, height, duration);
+  }
+
   /**
    * Gets a number of frames from the atlas in a given direction.
    *
@@ -1,34 +1,67 @@
 package io.tidalisland.graphics.sprites;
 
 import io.tidalisland.config.Config;
+import io.tidalisland.graphics.AssetManager;
 import io.tidalisland.utils.Position;
 import io.tidalisland.utils.Size;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 
 /**
- * A frame of a sprite.
+ * A frame of a sprite: a rectangle of an {@link AtlasPage}.
+ *
+ * <p>The source art is drawn at {@link Config#pixelScale()} times its size. Frames draw their
+ * rectangle straight from the page's pre-scaled copy, so drawing at the normal size is a plain copy
+ * and every frame on a page shares one converted image. Mirrored frames draw from the page's
+ * mirrored copies, so frames are never changed by drawing and can be shared.
  */
 public class SpriteFrame {
 
-  private BufferedImage image;
+  private final AtlasPage page;
+  private final int x;
+  private final int y;
+  private final int width;
+  private final int height;
+  private final BufferedImage image;
+  private final int duration;
+
   private Size size;
-  private int duration;
-  private boolean flipX;
-  private boolean flipY;
+  private int sizePixelScale;
 
   /**
-   * Creates a new sprite frame from an image.
+   * Creates a new sprite frame from a rectangle of a page.
+   *
+   * @param page the page
+   * @param x the x-coordinate of the rectangle on the page
+   * @param y the y-coordinate of the rectangle on the page
+   * @param width the width of the rectangle
+   * @param height the height of the rectangle
+   * @param duration the duration
+   * @throws IllegalArgumentException if the rectangle is empty or not inside the page
+   */
+  public SpriteFrame(AtlasPage page, int x, int y, int width, int height, int duration) {
+    if (width < 1 || height < 1 || x < 0 || y < 0 || x + width > page.getWidth()
+        || y + height > page.getHeight()) {
+      throw new IllegalArgumentException("Frame must lie inside its page");
+    }
+    this.page = page;
+    this.x = x;
+    this.y = y;
+    this.width = width;
+    this.height = height;
+    this.duration = duration;
+    this.image = x == 0 && y == 0 && width == page.getWidth() && height == page.getHeight()
+        ? page.getImage() : page.getImage().getSubimage(x, y, width, height);
+  }
+
+  /**
+   * Creates a new sprite frame from an image, on a page of its own.
    *
    * @param image the image
    * @param duration the duration
    */
   public SpriteFrame(BufferedImage image, int duration) {
-    this.image = image;
-    this.duration = duration;
-    size =
-        new Size(image.getWidth() * Config.pixelScale(), image.getHeight() * Config.pixelScale());
+    this(new AtlasPage(image), 0, 0, image.getWidth(), image.getHeight(), duration);
   }
 
   /**
@@ -41,20 +74,14 @@ public class SpriteFrame {
   }
 
   /**
-   * Creates a new sprite frame from a path.
+   * Creates a new sprite frame from a path. The frame shares the page of the image's atlas region
+   * if it has one.
    *
    * @param path the path
    * @param duration the duration
    */
   public SpriteFrame(String path, int duration) {
-    try {
-      this.image = ImageIO.read(SpriteFrame.class.getResourceAsStream(path));
-      this.duration = duration;
-      size =
-          new Size(image.getWidth() * Config.pixelScale(), image.getHeight() * Config.pixelScale());
-    } catch (Exception e) {
-      throw new RuntimeException("Failed to load sprite: " + path + " " + e.getMessage(), e);
-    }
+    this(load(path), duration);
   }
 
   /**
@@ -66,6 +93,28 @@ public class SpriteFrame {
     this(path, 0);
   }
 
+  private SpriteFrame(SpriteFrame source, int duration) {
+    this(source.page, source.x, source.y, source.width, source.height, duration);
+  }
+
+  /**
+   * Creates a frame from a rectangle of this one, on the same page.
+   *
+   * @param x the x-coordinate of the rectangle within this frame
+   * @param y the y-coordinate of the rectangle within this frame
+   * @param width the width of the rectangle
+   * @param height the height of the rectangle
+   * @param duration the duration of the new frame
+   * @return the new frame
+   * @throws IllegalArgumentException if the rectangle is empty or not inside this frame
+   */
+  public SpriteFrame region(int x, int y, int width, int height, int duration) {
+    if (x < 0 || y < 0 || x + width > this.width || y + height > this.height) {
+      throw new IllegalArgumentException("Region must lie inside the frame");
+    }
+    return new SpriteFrame(page, this.x + x, this.y + y, width, height, duration);
+  }
+
   /**
    * Draws the frame.
    *
@@ -73,23 +122,39 @@ public class SpriteFrame {
    * @param position the position
    */
   public void draw(Graphics g, Position position) {
-    int x = position.getX();
-    int y = position.getY();
-    int w = size.getWidth();
-    int h = size.getHeight();
-
-    // Flip horizontally
-    if (flipX) {
-      x += w;
-      w = -w;
-    }
-    // Flip vertically
-    if (flipY) {
-      y += h;
-      h = -h;
-    }
+    draw(g, position.getX(), position.getY(), false, false);
+  }
+
+  /**
+   * Draws the frame, optionally mirrored.
+   *
+   * @param g the graphics context
+   * @param position the position
+   * @param flipX whether to mirror the frame horizontally
+   * @param flipY whether to mirror the frame vertically
+   */
+  public void draw(Graphics g, Position position, boolean flipX, boolean flipY) {
+    draw(g, position.getX(), position.getY(), flipX, flipY);
+  }
 
-    g.drawImage(image, x, y, w, h, null);
+  /**
+   * Draws the frame at its normal size, optionally mirrored, by copying its rectangle from the
+   * page's pre-scaled copy. A mirrored frame draws as fast as the original.
+   *
+   * @param g the graphics context
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @param flipX whether to mirror the frame horizontally
+   * @param flipY whether to mirror the frame vertically
+   */
+  public void draw(Graphics g, int x, int y, boolean flipX, boolean flipY) {
+    BufferedImage scaled = page.getScaledImage(flipX, flipY);
+    int scale = Config.pixelScale();
+    int sx = (flipX ? page.getWidth() - this.x - width : this.x) * scale;
+    int sy = (flipY ? page.getHeight() - this.y - height : this.y) * scale;
+    int w = width * scale;
+    int h = height * scale;
+    g.drawImage(scaled, x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
   }
 
   /**
@@ -102,31 +167,38 @@ public class SpriteFrame {
    * @param height the height
    */
   public void drawScaled(Graphics g, int x, int y, int width, int height) {
-    int drawX = x;
-    int drawY = y;
-    int drawW = width;
-    int drawH = height;
-
-    // Flip horizontally
-    if (flipX) {
-      drawX += drawW;
-      drawW = -drawW;
+    int scale = Config.pixelScale();
+    if (width == this.width * scale && height == this.height * scale) {
+      draw(g, x, y, false, false);
+    } else {
+      g.drawImage(page.getImage(), x, y, x + width, y + height, this.x, this.y,
+          this.x + this.width, this.y + this.height, null);
     }
-
-    // Flip vertically
-    if (flipY) {
-      drawY += drawH;
-      drawH = -drawH;
-    }
-
-    g.drawImage(image, drawX, drawY, drawW, drawH, null);
   }
 
+  /**
+   * Gets the source image, at its original size. It shares the page's pixels.
+   */
   public BufferedImage getImage() {
     return image;
   }
 
+  /**
+   * Gets the page the frame is drawn from.
+   */
+  public AtlasPage getPage() {
+    return page;
+  }
+
+  /**
+   * Gets the size the frame is drawn at, its source size times the pixel scale.
+   */
   public Size getSize() {
+    int pixelScale = Config.pixelScale();
+    if (size == null || sizePixelScale != pixelScale) {
+      size = new Size(width * pixelScale, height * pixelScale);
+      sizePixelScale = pixelScale;
+    }
     return size;
   }
 
@@ -134,19 +206,11 @@ public class SpriteFrame {
     return duration;
   }
 
-  public boolean isFlipX() {
-    return flipX;
-  }
-
-  public boolean isFlipY() {
-    return flipY;
-  }
-
-  public void setFlipX(boolean flipX) {
-    this.flipX = flipX;
-  }
-
-  public void setFlipY(boolean flipY) {
-    this.flipY = flipY;
+  private static SpriteFrame load(String path) {
+    try {
+      return AssetManager.getFrame(path);
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to load sprite: " + path + " " + e.getMessage(), e);
+    }
   }
 }
@@ -1,7 +1,9 @@
 package io.tidalisland.graphics.sprites;
 
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -9,7 +11,7 @@ import java.util.Map;
  */
 public class SpriteSet {
 
-  private final Map<String, Sprite> sprites = new HashMap<>();
+  private final Map<String, Sprite> sprites = new LinkedHashMap<>();
   private Sprite current;
 
   /**
@@ -25,6 +27,20 @@ public class SpriteSet {
     }
   }
 
+  /**
+   * Creates a copy of this set whose sprites share frames with this set but have their own
+   * animation state. The first added sprite is current in the copy.
+   *
+   * @return the new sprite set
+   */
+  public SpriteSet copy() {
+    SpriteSet copy = new SpriteSet();
+    for (Map.Entry<String, Sprite> entry : sprites.entrySet()) {
+      copy.addSprite(entry.getKey(), entry.getValue().copy());
+    }
+    return copy;
+  }
+
   /**
    * Sets the current sprite by tag.
    *
@@ -59,6 +75,11 @@ public class SpriteSet {
     }
   }
 
+  /** Returns every sprite in the set. */
+  public Collection<Sprite> getSprites() {
+    return Collections.unmodifiableCollection(sprites.values());
+  }
+
   /** Returns the current sprite. */
   public Sprite getCurrent() {
     return current;
@@ -1,5 +1,6 @@
 package io.tidalisland.graphics.sprites;
 
+import io.tidalisland.graphics.AssetManager;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,8 +20,7 @@ public class SpriteSetBuilder {
       // No tags, create one sprite assuming all frames are in under one tag
       List<SpriteFrame> frames = new ArrayList<>();
       for (SpriteSheet.FrameData fd : sheet.frames) {
-        frames.add(new SpriteFrame(atlas.getFrame(fd.frame.x, fd.frame.y, fd.frame.w, fd.frame.h),
-            fd.duration));
+        frames.add(atlas.createFrame(fd.frame.x, fd.frame.y, fd.frame.w, fd.frame.h, fd.duration));
       }
       spriteSet.addSprite("default", new Sprite(frames));
     } else {
@@ -28,8 +28,8 @@ public class SpriteSetBuilder {
         List<SpriteFrame> frames = new ArrayList<>();
         for (int i = tag.from; i <= tag.to; i++) {
           SpriteSheet.FrameData fd = sheet.frames.get(i);
-          frames.add(new SpriteFrame(atlas.getFrame(fd.frame.x, fd.frame.y, fd.frame.w, fd.frame.h),
-              fd.duration));
+          frames.add(
+              atlas.createFrame(fd.frame.x, fd.frame.y, fd.frame.w, fd.frame.h, fd.duration));
         }
         int repeat = tag.repeat == null ? -1 : Integer.parseInt(tag.repeat);
         Sprite sprite = new Sprite(frames, repeat);
@@ -39,10 +39,11 @@ public class SpriteSetBuilder {
     return spriteSet;
   }
 
-  /** Builds a sprite set from a sprite sheet. */
+  /**
+   * Builds a sprite set from a sprite sheet. Frames are decoded once per atlas and sheet and shared
+   * through the {@link AssetManager}.
+   */
   public static SpriteSet build(String atlasPath, String sheetPath) {
-    SpriteAtlas atlas = new SpriteAtlas(atlasPath);
-    SpriteSheet sheet = SpriteSheet.load(sheetPath);
-    return build(atlas, sheet);
+    return AssetManager.getSpriteSet(atlasPath, sheetPath);
   }
 }
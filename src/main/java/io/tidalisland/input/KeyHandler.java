@@ -60,6 +60,20 @@ public class KeyHandler implements KeyListener {
     justPressed.clear();
   }
 
+  /**
+   * Presses an action without a key event, e.g. from scripted input.
+   */
+  public void press(Action action) {
+    markPressed(action);
+  }
+
+  /**
+   * Releases an action without a key event, e.g. from scripted input.
+   */
+  public void release(Action action) {
+    markReleased(action);
+  }
+
   @Override
   public void keyPressed(KeyEvent e) {
     for (Action action : keyBindings.getActions()) {
@@ -1,13 +1,11 @@
 package io.tidalisland.items;
 
-import io.tidalisland.graphics.sprites.Sprite;
-
 /**
  * An apple.
  */
 public class Apple extends Food {
 
-  public static final ItemType TYPE = new ItemType("apple");
+  public static final ItemType TYPE = new ItemType("apple", "/sprites/items/apple.png");
 
   /**
    * Creates a new apple.
@@ -15,6 +13,6 @@ public class Apple extends Food {
   public Apple() {
     super(TYPE, 8, 10);
     this.description = "A delicious fruit.";
-    this.sprite = new Sprite("/sprites/items/apple.png");
+    this.sprite = TYPE.createSprite();
   }
 }
@@ -1,7 +1,6 @@
 package io.tidalisland.items;
 
 import io.tidalisland.entities.Player;
-import io.tidalisland.graphics.sprites.Sprite;
 import io.tidalisland.worldobjects.Tree;
 import io.tidalisland.worldobjects.WorldObject;
 
@@ -10,7 +9,7 @@ import io.tidalisland.worldobjects.WorldObject;
  */
 public class Axe extends Tool {
 
-  public static final ItemType TYPE = new ItemType("axe");
+  public static final ItemType TYPE = new ItemType("axe", "/sprites/items/axe.png");
 
   /**
    * Creates a new axe.
@@ -18,7 +17,7 @@ public class Axe extends Tool {
   public Axe() {
     super(TYPE, 50, 2.0);
     this.description = "A sharp axe for chopping wood.";
-    this.sprite = new Sprite("/sprites/items/axe.png");
+    this.sprite = TYPE.createSprite();
   }
 
   @Override
@@ -1,22 +1,50 @@
 package io.tidalisland.items;
 
+import io.tidalisland.graphics.sprites.Sprite;
 import java.util.Objects;
 
 /**
- * Type of an item.
+ * Type of an item, and the sprite its items are drawn with.
  */
 public final class ItemType {
 
   private final String id;
+  private final String spritePath;
 
+  /**
+   * Creates a type whose items have no sprite.
+   *
+   * @param id the id
+   */
   public ItemType(String id) {
+    this(id, null);
+  }
+
+  /**
+   * Creates a type whose items are drawn with a sprite.
+   *
+   * @param id the id
+   * @param spritePath the resource path of the sprite image, or null if there is no sprite
+   */
+  public ItemType(String id, String spritePath) {
     this.id = Objects.requireNonNull(id);
+    this.spritePath = spritePath;
   }
 
   public String id() {
     return id;
   }
 
+  /**
+   * Creates the sprite of an item of this type. The image is shared with every other item of the
+   * type, so this does not need an item.
+   *
+   * @return the new sprite, or null if the type has no sprite
+   */
+  public Sprite createSprite() {
+    return spritePath == null ? null : new Sprite(spritePath);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
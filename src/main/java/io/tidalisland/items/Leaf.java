@@ -1,13 +1,11 @@
 package io.tidalisland.items;
 
-import io.tidalisland.graphics.sprites.Sprite;
-
 /**
  * Represents a leaf item.
  */
 public class Leaf extends Item {
 
-  public static final ItemType TYPE = new ItemType("leaf");
+  public static final ItemType TYPE = new ItemType("leaf", "/sprites/items/leaf.png");
 
   /**
    * Creates a new leaf item.
@@ -15,6 +13,6 @@ public class Leaf extends Item {
   public Leaf() {
     super(TYPE, 32);
     this.description = "A leaf is a common plant.";
-    this.sprite = new Sprite("/sprites/items/leaf.png");
+    this.sprite = TYPE.createSprite();
   }
 }
@@ -1,13 +1,11 @@
 package io.tidalisland.items;
 
-import io.tidalisland.graphics.sprites.Sprite;
-
 /**
  * Represents a plank.
  */
 public class Plank extends Item {
 
-  public static final ItemType TYPE = new ItemType("plank");
+  public static final ItemType TYPE = new ItemType("plank", "/sprites/items/plank.png");
 
   /**
    * Creates a new plank.
@@ -15,6 +13,6 @@ public class Plank extends Item {
   public Plank() {
     super(TYPE, 8);
     this.description = "A plank is a common material.";
-    this.sprite = new Sprite("/sprites/items/plank.png");
+    this.sprite = TYPE.createSprite();
   }
 }
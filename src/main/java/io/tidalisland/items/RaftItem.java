@@ -1,7 +1,6 @@
 package io.tidalisland.items;
 
 import io.tidalisland.entities.Player;
-import io.tidalisland.graphics.sprites.Sprite;
 import io.tidalisland.worldobjects.Raft;
 import io.tidalisland.worldobjects.WorldObjectManager;
 
@@ -10,7 +9,7 @@ import io.tidalisland.worldobjects.WorldObjectManager;
  */
 public class RaftItem extends Item implements Placeable {
 
-  public static final ItemType TYPE = new ItemType("raft");
+  public static final ItemType TYPE = new ItemType("raft", "/sprites/items/raft.png");
 
   /**
    * Creates a new raft item.
@@ -18,7 +17,7 @@ public class RaftItem extends Item implements Placeable {
   public RaftItem() {
     super(TYPE, 1);
     this.description = "A raft is a large wooden boat.";
-    this.sprite = new Sprite("/sprites/items/raft.png");
+    this.sprite = TYPE.createSprite();
   }
 
   @Override
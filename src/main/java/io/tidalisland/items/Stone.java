@@ -1,13 +1,11 @@
 package io.tidalisland.items;
 
-import io.tidalisland.graphics.sprites.Sprite;
-
 /**
  * Represents a stone item.
  */
 public class Stone extends Item {
 
-  public static final ItemType TYPE = new ItemType("stone");
+  public static final ItemType TYPE = new ItemType("stone", "/sprites/items/stone.png");
 
   /**
    * Creates a stone item.
@@ -15,6 +13,6 @@ public class Stone extends Item {
   public Stone() {
     super(TYPE, 16);
     this.description = "Stone is a common material.";
-    this.sprite = new Sprite("/sprites/items/stone.png");
+    this.sprite = TYPE.createSprite();
   }
 }
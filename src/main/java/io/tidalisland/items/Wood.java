@@ -1,13 +1,11 @@
 package io.tidalisland.items;
 
-import io.tidalisland.graphics.sprites.Sprite;
-
 /**
  * Represents a wood item.
  */
 public class Wood extends Item {
 
-  public static final ItemType TYPE = new ItemType("wood");
+  public static final ItemType TYPE = new ItemType("wood", "/sprites/items/wood.png");
 
   /**
    * Creates a new wood item.
@@ -15,6 +13,6 @@ public class Wood extends Item {
   public Wood() {
     super(TYPE, 8);
     this.description = "Wood is a common material.";
-    this.sprite = new Sprite("/sprites/items/wood.png");
+    this.sprite = TYPE.createSprite();
   }
 }
@@ -0,0 +1,122 @@
+package io.tidalisland.simulation;
+
+import io.tidalisland.config.Config;
+import io.tidalisland.engine.GameClock;
+import io.tidalisland.input.KeyHandler;
+import io.tidalisland.tiles.WorldMap;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Runs a {@link Simulation} without a window, as fast as the CPU allows.
+ *
+ * <p>Input comes from an {@link InputScript}. Every tick advances the {@link GameClock} by the
+ * length of a tick, so the simulation behaves as it would at real speed. Seeding
+ * {@link Config#random()} makes a run reproducible; a recorded script carries the seed and tick
+ * rate it was played with.
+ */
+public class HeadlessRunner {
+
+  private final KeyHandler keys;
+  private final InputScript script;
+  private final Simulation simulation;
+  private final int tickRate;
+  private final long tickNanos;
+
+  /**
+   * Creates a new headless runner with the script's seed, or 0 if it has none.
+   *
+   * @param script the input to replay
+   */
+  public HeadlessRunner(InputScript script) {
+    this(script, script.getSeed().orElse(0));
+  }
+
+  /**
+   * Creates a new headless runner. Ticks are as long as the script's tick rate says, or the
+   * configured tick rate if it has none.
+   *
+   * @param script the input to replay
+   * @param seed the random seed
+   */
+  public HeadlessRunner(InputScript script, long seed) {
+    this(script, seed, null);
+  }
+
+  /**
+   * Creates a new headless runner on a world map that is already loaded.
+   *
+   * @param script the input to replay
+   * @param seed the random seed
+   * @param worldMap the world map, which the simulation now owns, or null for a fresh world
+   */
+  public HeadlessRunner(InputScript script, long seed, WorldMap worldMap) {
+    Config.random().setSeed(seed);
+    GameClock.getInstance().reset();
+
+    this.keys = new KeyHandler();
+    this.script = script;
+    this.simulation = worldMap != null ? new Simulation(keys, worldMap) : new Simulation(keys);
+    this.tickRate = script.getTickRate().orElse(Config.tickRate());
+    this.tickNanos = 1_000_000_000L / tickRate;
+  }
+
+  /**
+   * Advances the simulation by one tick.
+   */
+  public void step() {
+    script.apply(simulation.getTick(), keys);
+    GameClock.getInstance().update(tickNanos);
+    simulation.update();
+    keys.endFrame();
+  }
+
+  /**
+   * Steps the simulation until the game is over or a number of ticks has passed.
+   *
+   * @param maxTicks the maximum number of ticks
+   * @return the number of ticks run
+   */
+  public long run(long maxTicks) {
+    long start = simulation.getTick();
+    while (!simulation.isOver() && simulation.getTick() - start < maxTicks) {
+      step();
+    }
+    return simulation.getTick() - start;
+  }
+
+  public Simulation getSimulation() {
+    return simulation;
+  }
+
+  /**
+   * Runs a headless simulation and prints a summary.
+   *
+   * @param args [ticks] [seed] [script path]; a script's own seed replaces the seed argument
+   */
+  public static void main(String[] args) throws IOException {
+    System.setProperty("java.awt.headless", "true");
+
+    long maxTicks = args.length > 0 ? Long.parseLong(args[0]) : 36_000;
+    InputScript script = args.length > 2 ? InputScript.load(Path.of(args[2])) : new InputScript();
+    long seed = script.getSeed().orElse(args.length > 1 ? Long.parseLong(args[1]) : 0);
+
+    long loadStart = System.nanoTime();
+    HeadlessRunner runner = new HeadlessRunner(script, seed);
+    long runStart = System.nanoTime();
+    long ticks = runner.run(maxTicks);
+    long runEnd = System.nanoTime();
+    runner.getSimulation().close();
+
+    Simulation simulation = runner.getSimulation();
+    double seconds = (runEnd - runStart) / 1_000_000_000.0;
+    System.out.printf("Outcome: %s%n", simulation.getOutcome());
+    System.out.printf("Ticks: %d (%.1f s of game time)%n", ticks,
+        ticks / (double) runner.tickRate);
+    System.out.printf("Player: health=%d hunger=%d position=%s%n",
+        simulation.getPlayer().getCurrentHealth(), simulation.getPlayer().getCurrentHunger(),
+        simulation.getPlayer().getPosition());
+    System.out.printf("Load: %.0f ms%n", (runStart - loadStart) / 1_000_000.0);
+    System.out.printf("Run: %.0f ms (%.0f ticks/s)%n", seconds * 1000, ticks / seconds);
+  }
+}
@@ -0,0 +1,269 @@
+package io.tidalisland.simulation;
+
+import io.tidalisland.input.Action;
+import io.tidalisland.input.KeyHandler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * A timeline of presses and releases, keyed by simulation tick.
+ *
+ * <p>Scripts are written by hand, built in code, or recorded from live input. In text form each
+ * line is {@code <tick> press|release <ACTION>}; blank lines and lines starting with {@code #} are
+ * ignored. A script may start with {@code seed <seed>} and {@code tickRate <ticks per second>}
+ * lines, which a recording writes so that it replays the same game.
+ */
+public class InputScript {
+
+  /** Maps tick -> events applied at the start of that tick, in order. */
+  private final TreeMap<Long, List<Event>> events = new TreeMap<>();
+
+  /** Last recorded held state of each action. */
+  private final Map<Action, Boolean> recorded = new EnumMap<>(Action.class);
+
+  private OptionalLong seed = OptionalLong.empty();
+  private OptionalInt tickRate = OptionalInt.empty();
+
+  /**
+   * Sets the random seed the script was played with.
+   *
+   * @param seed the seed
+   * @return this script
+   */
+  public InputScript setSeed(long seed) {
+    this.seed = OptionalLong.of(seed);
+    return this;
+  }
+
+  /**
+   * Gets the random seed the script was played with, if it is known.
+   */
+  public OptionalLong getSeed() {
+    return seed;
+  }
+
+  /**
+   * Sets the tick rate the script was played at.
+   *
+   * @param tickRate the number of ticks per second
+   * @return this script
+   * @throws IllegalArgumentException if the tick rate is not positive
+   */
+  public InputScript setTickRate(int tickRate) {
+    if (tickRate < 1) {
+      throw new IllegalArgumentException("Tick rate must be positive");
+    }
+    this.tickRate = OptionalInt.of(tickRate);
+    return this;
+  }
+
+  /**
+   * Gets the tick rate the script was played at, if it is known.
+   */
+  public OptionalInt getTickRate() {
+    return tickRate;
+  }
+
+  /**
+   * Adds a press of an action.
+   *
+   * @param tick the tick the press happens on
+   * @param action the action
+   * @return this script
+   */
+  public InputScript press(long tick, Action action) {
+    return add(tick, action, true);
+  }
+
+  /**
+   * Adds a release of an action.
+   *
+   * @param tick the tick the release happens on
+   * @param action the action
+   * @return this script
+   */
+  public InputScript release(long tick, Action action) {
+    return add(tick, action, false);
+  }
+
+  /**
+   * Adds a press of an action that is held for a number of ticks.
+   *
+   * @param tick the tick the press happens on
+   * @param duration how many ticks to hold the action
+   * @param action the action
+   * @return this script
+   */
+  public InputScript hold(long tick, long duration, Action action) {
+    return press(tick, action).release(tick + duration, action);
+  }
+
+  /**
+   * Applies the events of a tick to a key handler.
+   *
+   * @param tick the tick
+   * @param keys the key handler
+   */
+  public void apply(long tick, KeyHandler keys) {
+    List<Event> list = events.get(tick);
+    if (list == null) {
+      return;
+    }
+    for (Event event : list) {
+      if (event.pressed()) {
+        keys.press(event.action());
+      } else {
+        keys.release(event.action());
+      }
+    }
+  }
+
+  /**
+   * Records the changes in a key handler's state since the last recorded tick.
+   *
+   * @param tick the tick
+   * @param keys the key handler
+   */
+  public void record(long tick, KeyHandler keys) {
+    for (Action action : Action.values()) {
+      boolean wasDown = recorded.getOrDefault(action, false);
+      boolean down = keys.isDown(action);
+
+      // A press can happen and end between two ticks
+      if (keys.isJustPressed(action)) {
+        if (wasDown) {
+          release(tick, action);
+        }
+        press(tick, action);
+        wasDown = true;
+      }
+      if (wasDown != down) {
+        add(tick, action, down);
+      }
+      recorded.put(action, down);
+    }
+  }
+
+  /**
+   * Gets the tick of the last event.
+   *
+   * @return the last tick, or -1 if the script is empty
+   */
+  public long getLastTick() {
+    return events.isEmpty() ? -1 : events.lastKey();
+  }
+
+  /**
+   * Checks if the script has no events.
+   */
+  public boolean isEmpty() {
+    return events.isEmpty();
+  }
+
+  /**
+   * Loads a script from a file.
+   *
+   * @param path the path to the file
+   * @return the loaded script
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if a line is malformed
+   */
+  public static InputScript load(Path path) throws IOException {
+    return parse(Files.readAllLines(path));
+  }
+
+  /**
+   * Parses a script from its lines.
+   *
+   * @param lines the lines
+   * @return the parsed script
+   * @throws IllegalArgumentException if a line is malformed
+   */
+  public static InputScript parse(List<String> lines) {
+    InputScript script = new InputScript();
+    for (int i = 0; i < lines.size(); i++) {
+      String line = lines.get(i).strip();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] parts = line.split("\\s+");
+      if (parts.length == 2 && parseHeader(script, parts, i)) {
+        continue;
+      }
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Line " + (i + 1) + ": expected <tick> press|release"
+            + " <ACTION>, got: " + line);
+      }
+      try {
+        long tick = Long.parseLong(parts[0]);
+        Action action = Action.valueOf(parts[2].toUpperCase());
+        switch (parts[1].toLowerCase()) {
+          case "press" -> script.press(tick, action);
+          case "release" -> script.release(tick, action);
+          default -> throw new IllegalArgumentException("unknown event " + parts[1]);
+        }
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Line " + (i + 1) + ": " + e.getMessage(), e);
+      }
+    }
+    return script;
+  }
+
+  private static boolean parseHeader(InputScript script, String[] parts, int index) {
+    try {
+      switch (parts[0]) {
+        case "seed" -> script.setSeed(Long.parseLong(parts[1]));
+        case "tickRate" -> script.setTickRate(Integer.parseInt(parts[1]));
+        default -> {
+          return false;
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Line " + (index + 1) + ": " + e.getMessage(), e);
+    }
+    return true;
+  }
+
+  /**
+   * Saves the script to a file.
+   *
+   * @param path the path to the file
+   * @throws IOException if the file cannot be written
+   */
+  public void save(Path path) throws IOException {
+    Files.write(path, toLines());
+  }
+
+  /**
+   * Gets the script in text form.
+   */
+  public List<String> toLines() {
+    List<String> lines = new ArrayList<>();
+    seed.ifPresent(value -> lines.add("seed " + value));
+    tickRate.ifPresent(value -> lines.add("tickRate " + value));
+    events.forEach((tick, list) -> {
+      for (Event event : list) {
+        lines.add(tick + " " + (event.pressed() ? "press" : "release") + " " + event.action());
+      }
+    });
+    return lines;
+  }
+
+  private InputScript add(long tick, Action action, boolean pressed) {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Tick must not be negative");
+    }
+    events.computeIfAbsent(tick, t -> new ArrayList<>()).add(new Event(action, pressed));
+    return this;
+  }
+
+  private record Event(Action action, boolean pressed) {}
+}
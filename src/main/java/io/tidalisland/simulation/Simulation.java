@@ -0,0 +1,157 @@
+package io.tidalisland.simulation;
+
+import io.tidalisland.collision.CollisionManager;
+import io.tidalisland.debug.FrameProfiler;
+import io.tidalisland.debug.FrameProfiler.Phase;
+import io.tidalisland.engine.GameClock;
+import io.tidalisland.entities.Player;
+import io.tidalisland.input.KeyHandler;
+import io.tidalisland.spawning.SpawnManager;
+import io.tidalisland.tide.TidalManager;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.worldobjects.InteractionManager;
+import io.tidalisland.worldobjects.Raft;
+import io.tidalisland.worldobjects.WorldObjectManager;
+
+/**
+ * The game world and its rules, without any window, camera or UI.
+ *
+ * <p>Each {@link #update()} advances the world by one tick of {@link GameClock game time}. The
+ * same simulation backs the playing state and the {@link HeadlessRunner}.
+ */
+public class Simulation {
+
+  /**
+   * The outcome of a game.
+   */
+  public enum Outcome {
+    RUNNING, DIED, DROWNED, SURVIVED
+  }
+
+  private final WorldMap worldMap;
+  private final WorldObjectManager worldObjectManager;
+  private final CollisionManager collisionManager;
+  private final InteractionManager interactionManager;
+  private final SpawnManager spawnManager;
+  private final Player player;
+  private final TidalManager tidalManager;
+
+  private Outcome outcome = Outcome.RUNNING;
+  private long tick = 0;
+
+  /**
+   * Creates a new simulation of a fresh world.
+   *
+   * @param keys the input that controls the player
+   */
+  public Simulation(KeyHandler keys) {
+    this(keys, new WorldMap());
+  }
+
+  /**
+   * Creates a new simulation on a world map that is already loaded.
+   *
+   * @param keys the input that controls the player
+   * @param worldMap the world map, which the simulation now owns
+   */
+  public Simulation(KeyHandler keys, WorldMap worldMap) {
+    this.worldMap = worldMap;
+    worldObjectManager = new WorldObjectManager(worldMap);
+    collisionManager = new CollisionManager(worldMap, worldObjectManager);
+    interactionManager = new InteractionManager(worldObjectManager, collisionManager);
+    spawnManager = new SpawnManager(worldMap, worldObjectManager);
+
+    player = new Player(keys, spawnManager.findValidSpawnPosition());
+
+    tidalManager = new TidalManager(
+        worldMap, worldObjectManager, collisionManager, worldMap.getTileSet(), player, 5, 10);
+  }
+
+  /**
+   * Advances the simulation by one tick. Does nothing once the game is over.
+   */
+  public void update() {
+    if (outcome != Outcome.RUNNING) {
+      return;
+    }
+
+    if (player.isDead()) {
+      outcome = Outcome.DIED;
+      return;
+    }
+
+    if (tidalManager.isFullyFlooded()) {
+      outcome = collisionManager.isOnObject(player.getCollider(), Raft.TYPE)
+          ? Outcome.SURVIVED
+          : Outcome.DROWNED;
+      return;
+    }
+
+    worldMap.streamAround(player.getPosition().getX(), player.getPosition().getY());
+
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.TIDE)) {
+      tidalManager.update();
+    }
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.WORLD_OBJECTS)) {
+      // The camera follows the player, so the player is the focus of the update radius
+      worldObjectManager.update(player.getPosition().getX(), player.getPosition().getY());
+    }
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.PLAYER)) {
+      player.update(collisionManager, interactionManager);
+    }
+    tick++;
+  }
+
+  /**
+   * Releases the world's resources. The simulation cannot be used afterwards.
+   */
+  public void close() {
+    worldMap.close();
+  }
+
+  /**
+   * Checks if the game is over.
+   */
+  public boolean isOver() {
+    return outcome != Outcome.RUNNING;
+  }
+
+  public Outcome getOutcome() {
+    return outcome;
+  }
+
+  /**
+   * Number of ticks simulated so far.
+   */
+  public long getTick() {
+    return tick;
+  }
+
+  public WorldMap getWorldMap() {
+    return worldMap;
+  }
+
+  public WorldObjectManager getWorldObjectManager() {
+    return worldObjectManager;
+  }
+
+  public CollisionManager getCollisionManager() {
+    return collisionManager;
+  }
+
+  public InteractionManager getInteractionManager() {
+    return interactionManager;
+  }
+
+  public SpawnManager getSpawnManager() {
+    return spawnManager;
+  }
+
+  public Player getPlayer() {
+    return player;
+  }
+
+  public TidalManager getTidalManager() {
+    return tidalManager;
+  }
+}
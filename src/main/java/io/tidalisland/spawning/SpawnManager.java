@@ -1,7 +1,6 @@
 package io.tidalisland.spawning;
 
 import io.tidalisland.config.Config;
-import io.tidalisland.tiles.Tile;
 import io.tidalisland.tiles.WorldMap;
 import io.tidalisland.utils.Position;
 import io.tidalisland.worldobjects.WorldObjectManager;
@@ -29,21 +28,22 @@ public class SpawnManager {
 
   /**
    * Finds a random valid spawn position anywhere in the world. A valid position is one where the
-   * tile is not solid and has no world object.
+   * tile is buildable and no world object covers any part of it.
+   *
+   * <p>The map is walked twice, once to count the valid tiles and once to find the chosen one,
+   * instead of collecting every valid position.
    */
   public Position findValidSpawnPosition() {
-    List<Position> validPositions = getAllValidPositions();
+    int count = countValidTiles();
 
     // If no valid positions found, return center
-    if (validPositions.isEmpty()) {
+    if (count == 0) {
       System.err.println("Warning: No valid spawn positions found! Using center position.");
       return getCenterPosition();
     }
 
     // Pick a random valid position
-    Position chosenPosition = validPositions.get(random.nextInt(validPositions.size()));
-
-    return chosenPosition;
+    return getValidTile(random.nextInt(count));
   }
 
   /**
@@ -64,14 +64,12 @@ public class SpawnManager {
     for (int row = targetRow - radius; row <= targetRow + radius; row++) {
       for (int col = targetCol - radius; col <= targetCol + radius; col++) {
         // Skip out of bounds
-        if (col < 0 || col >= Config.mapWidth() || row < 0 || row >= Config.mapHeight()) {
+        if (col < 0 || col >= worldMap.getWidth() || row < 0 || row >= worldMap.getHeight()) {
           continue;
         }
 
-        Position pos = new Position(col * Config.tileSize(), row * Config.tileSize());
-
-        if (isValidSpawnPosition(pos)) {
-          validPositions.add(pos);
+        if (isValidSpawnTile(col, row)) {
+          validPositions.add(new Position(col * Config.tileSize(), row * Config.tileSize()));
         }
       }
     }
@@ -120,18 +118,70 @@ public class SpawnManager {
       return false;
     }
 
-    int col = position.getX() / Config.tileSize();
-    int row = position.getY() / Config.tileSize();
+    return isValidSpawnTile(position.getX() / Config.tileSize(),
+        position.getY() / Config.tileSize());
+  }
 
+  /**
+   * Checks if a tile is valid for spawning.
+   */
+  private boolean isValidSpawnTile(int col, int row) {
     // Check bounds
-    if (col < 0 || col >= Config.mapWidth() || row < 0 || row >= Config.mapHeight()) {
+    if (col < 0 || col >= worldMap.getWidth() || row < 0 || row >= worldMap.getHeight()) {
       return false;
     }
 
-    Tile tile = worldMap.getTile(col, row);
+    // Check if tile is buildable and no world object covers it
+    return worldMap.isBuildable(col, row) && !worldObjectManager.isOccupied(col, row);
+  }
+
+  /**
+   * Counts the valid spawn tiles, chunk by chunk so a streamed map pages each chunk in once.
+   */
+  private int countValidTiles() {
+    int width = worldMap.getWidth();
+    int height = worldMap.getHeight();
+    int count = 0;
+    for (int chunkRow = 0; chunkRow < height; chunkRow += WorldMap.CHUNK_SIZE) {
+      for (int chunkCol = 0; chunkCol < width; chunkCol += WorldMap.CHUNK_SIZE) {
+        int lastRow = Math.min(height, chunkRow + WorldMap.CHUNK_SIZE);
+        int lastCol = Math.min(width, chunkCol + WorldMap.CHUNK_SIZE);
+        for (int row = chunkRow; row < lastRow; row++) {
+          for (int col = chunkCol; col < lastCol; col++) {
+            if (isValidSpawnTile(col, row)) {
+              count++;
+            }
+          }
+        }
+      }
+    }
+    return count;
+  }
 
-    // Check if tile exists, is not solid, and has no world object
-    return tile != null && !tile.isSolid() && !worldObjectManager.has(position);
+  /**
+   * Gets the position of a valid spawn tile, in the order {@link #countValidTiles} visits them.
+   *
+   * @param index the index of the tile among the valid ones
+   * @return the position of the tile, or the center of the map if there are not that many
+   */
+  private Position getValidTile(int index) {
+    int width = worldMap.getWidth();
+    int height = worldMap.getHeight();
+    int remaining = index;
+    for (int chunkRow = 0; chunkRow < height; chunkRow += WorldMap.CHUNK_SIZE) {
+      for (int chunkCol = 0; chunkCol < width; chunkCol += WorldMap.CHUNK_SIZE) {
+        int lastRow = Math.min(height, chunkRow + WorldMap.CHUNK_SIZE);
+        int lastCol = Math.min(width, chunkCol + WorldMap.CHUNK_SIZE);
+        for (int row = chunkRow; row < lastRow; row++) {
+          for (int col = chunkCol; col < lastCol; col++) {
+            if (isValidSpawnTile(col, row) && remaining-- == 0) {
+              return new Position(col * Config.tileSize(), row * Config.tileSize());
+            }
+          }
+        }
+      }
+    }
+    return getCenterPosition();
   }
 
   /**
@@ -140,12 +190,10 @@ public class SpawnManager {
   private List<Position> getAllValidPositions() {
     List<Position> validPositions = new ArrayList<>();
 
-    for (int row = 0; row < Config.mapHeight(); row++) {
-      for (int col = 0; col < Config.mapWidth(); col++) {
-        Position pos = new Position(col * Config.tileSize(), row * Config.tileSize());
-
-        if (isValidSpawnPosition(pos)) {
-          validPositions.add(pos);
+    for (int row = 0; row < worldMap.getHeight(); row++) {
+      for (int col = 0; col < worldMap.getWidth(); col++) {
+        if (isValidSpawnTile(col, row)) {
+          validPositions.add(new Position(col * Config.tileSize(), row * Config.tileSize()));
         }
       }
     }
@@ -157,8 +205,8 @@ public class SpawnManager {
    * Gets the center position of the map.
    */
   private Position getCenterPosition() {
-    int centerCol = Config.mapWidth() / 2;
-    int centerRow = Config.mapHeight() / 2;
+    int centerCol = worldMap.getWidth() / 2;
+    int centerRow = worldMap.getHeight() / 2;
     return new Position(centerCol * Config.tileSize(), centerRow * Config.tileSize());
   }
 
@@ -38,7 +38,7 @@ public class GameOverState implements GameState {
     UiGameOverMenu menu = new UiGameOverMenu(400, 300, title);
 
     menu.onNewGame(() -> {
-      gsm.set(new PlayingState(gsm, keys, mouse));
+      gsm.set(new LoadingState(gsm, keys, mouse));
     });
 
     menu.onExit(() -> {
@@ -67,4 +67,9 @@ public class GameOverState implements GameState {
   public void render(Graphics g) {
     ui.render(g);
   }
+
+  @Override
+  public boolean isLowPower() {
+    return true;
+  }
 }
@@ -27,4 +27,13 @@ public interface GameState {
    * @param g the graphics context
    */
   void render(Graphics g);
+
+  /**
+   * Checks if the game loop may run at a reduced frame rate while this state is on top.
+   *
+   * @return true if the state is mostly static, false otherwise
+   */
+  default boolean isLowPower() {
+    return false;
+  }
 }
@@ -40,6 +40,16 @@ public class GameStateManager {
     return states.peek();
   }
 
+  /**
+   * Checks if the current state allows running at a reduced frame rate.
+   *
+   * @return true if the current state is low-power, false otherwise
+   */
+  public boolean isLowPower() {
+    GameState state = states.peek();
+    return state != null && state.isLowPower();
+  }
+
   /**
    * Clears the stack and sets the given state.
    *
@@ -0,0 +1,127 @@
+package io.tidalisland.states;
+
+import io.tidalisland.config.Config;
+import io.tidalisland.engine.AssetPreloader;
+import io.tidalisland.engine.GameClock;
+import io.tidalisland.input.Action;
+import io.tidalisland.input.KeyHandler;
+import io.tidalisland.input.MouseHandler;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.ui.components.UiLabel;
+import io.tidalisland.ui.components.UiPanel;
+import io.tidalisland.ui.components.UiProgressBar;
+import io.tidalisland.ui.layout.HorizontalAlignment;
+import io.tidalisland.ui.layout.VerticalAlignment;
+import io.tidalisland.ui.layout.VerticalStackLayout;
+import io.tidalisland.ui.styles.Colors;
+import io.tidalisland.ui.styles.UiStyleDirector;
+import java.awt.Graphics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Loading screen shown while a new game is prepared.
+ *
+ * <p>Sprites are preloaded on every core while the world map is read. Only data is loaded off the
+ * game thread: once both are done, the {@link PlayingState} is built on the game thread and the
+ * game switches to it. If loading fails, the screen says so and returns to the title.
+ */
+public class LoadingState implements GameState {
+
+  private final GameStateManager gsm;
+  private final KeyHandler keys;
+  private final MouseHandler mouse;
+
+  private final AssetPreloader preloader =
+      new AssetPreloader("/sprites/atlas.json", "/tilesets/tileset.json",
+          "/worldobjects/worldobjects.json");
+  private CompletableFuture<Void> assets;
+  private CompletableFuture<WorldMap> worldMap;
+  private boolean failed;
+
+  private final UiPanel ui;
+  private final UiLabel label;
+  private final UiLabel hint;
+
+  /**
+   * Initializes the loading screen.
+   */
+  public LoadingState(GameStateManager gsm, KeyHandler keys, MouseHandler mouse) {
+    this.gsm = gsm;
+    this.keys = keys;
+    this.mouse = mouse;
+
+    ui = new UiPanel(Config.screenWidth(), Config.screenHeight(), 0, 0);
+    ui.setStyle(UiStyleDirector.fromTransparent().padding(24).build());
+    ui.setLayout(new VerticalStackLayout(16));
+    ui.getLayout().setAlignment(HorizontalAlignment.CENTER, VerticalAlignment.CENTER);
+
+    label = new UiLabel("LOADING...", 400, 40);
+    label.setStyle(UiStyleDirector.makeTransparent());
+    label.style(s -> s.fontSize(24));
+    ui.add(label);
+
+    ui.add(new UiProgressBar(400, 16, preloader::getProgress, progress -> Colors.GREEN));
+
+    hint = new UiLabel("", 400, 24);
+    hint.setStyle(UiStyleDirector.makeTransparent());
+    ui.add(hint);
+  }
+
+  @Override
+  public void onEnter() {
+    GameClock.getInstance().setPaused(true);
+
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    assets = preloader.start(pool);
+    worldMap = CompletableFuture.supplyAsync(WorldMap::new, pool);
+  }
+
+  @Override
+  public void onExit() {
+    GameClock.getInstance().reset();
+    GameClock.getInstance().setPaused(false);
+  }
+
+  @Override
+  public void update() {
+    if (failed) {
+      if (keys.isJustPressed(Action.PAUSE) || keys.isJustPressed(Action.INTERACT)) {
+        gsm.set(new TitleState(gsm, keys, mouse));
+      }
+      return;
+    }
+    if (assets.isDone()) {
+      label.setText("BUILDING ISLAND...");
+    }
+    if (!assets.isDone() || !worldMap.isDone()) {
+      return;
+    }
+
+    WorldMap map = null;
+    try {
+      map = worldMap.join();
+      assets.join();
+      gsm.set(new PlayingState(gsm, keys, mouse, map));
+    } catch (RuntimeException e) {
+      if (map != null) {
+        map.close();
+      }
+      (e instanceof CompletionException ? e.getCause() : e).printStackTrace();
+      failed = true;
+      label.setText("COULD NOT LOAD THE ISLAND");
+      hint.setText("PRESS ESC TO RETURN");
+    }
+  }
+
+  @Override
+  public void render(Graphics g) {
+    ui.render(g);
+  }
+
+  @Override
+  public boolean isLowPower() {
+    return true;
+  }
+}
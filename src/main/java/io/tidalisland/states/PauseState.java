@@ -70,4 +70,9 @@ public class PauseState implements GameState {
   public void render(Graphics g) {
     ui.render(g);
   }
+
+  @Override
+  public boolean isLowPower() {
+    return true;
+  }
 }
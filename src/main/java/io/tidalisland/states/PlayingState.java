@@ -1,20 +1,21 @@
 package io.tidalisland.states;
 
-import io.tidalisland.collision.CollisionManager;
+import io.tidalisland.config.Config;
 import io.tidalisland.debug.DebugRenderer;
-import io.tidalisland.entities.Player;
+import io.tidalisland.debug.FrameProfiler;
+import io.tidalisland.debug.FrameProfiler.Phase;
+import io.tidalisland.engine.GameClock;
 import io.tidalisland.graphics.Camera;
 import io.tidalisland.input.Action;
 import io.tidalisland.input.KeyHandler;
 import io.tidalisland.input.MouseHandler;
-import io.tidalisland.spawning.SpawnManager;
-import io.tidalisland.tide.TidalManager;
+import io.tidalisland.simulation.InputScript;
+import io.tidalisland.simulation.Simulation;
 import io.tidalisland.tiles.WorldMap;
 import io.tidalisland.ui.UiManager;
-import io.tidalisland.worldobjects.InteractionManager;
-import io.tidalisland.worldobjects.Raft;
-import io.tidalisland.worldobjects.WorldObjectManager;
 import java.awt.Graphics;
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Playing state.
@@ -26,44 +27,45 @@ public class PlayingState implements GameState {
   private KeyHandler keys;
   private MouseHandler mouse;
 
-  private WorldMap worldMap;
-  private WorldObjectManager worldObjectManager;
-  private CollisionManager collisionManager;
-  private InteractionManager interactionManager;
-  private SpawnManager spawnManager;
-  private Player player;
-  private TidalManager tidalManager;
+  private Simulation simulation;
   private Camera camera;
   private UiManager ui;
 
   private DebugRenderer debugRenderer;
 
+  /** Records input for headless replay when RECORD_INPUT is set to a file path. */
+  private final String recordPath = System.getenv("RECORD_INPUT");
+  private InputScript recording;
+
   /**
-   * Creates a new playing state.
+   * Creates a new playing state on a world map that is already loaded.
+   *
+   * @param worldMap the world map, which the state now owns
    */
-  public PlayingState(GameStateManager gsm, KeyHandler keys, MouseHandler mouse) {
+  public PlayingState(GameStateManager gsm, KeyHandler keys, MouseHandler mouse,
+      WorldMap worldMap) {
     this.gsm = gsm;
     this.keys = keys;
     this.mouse = mouse;
 
-    worldMap = new WorldMap();
-    worldObjectManager = new WorldObjectManager(worldMap);
-    collisionManager = new CollisionManager(worldMap, worldObjectManager);
-    interactionManager = new InteractionManager(worldObjectManager, collisionManager);
-    spawnManager = new SpawnManager(worldMap, worldObjectManager);
-
-    player = new Player(keys, spawnManager.findValidSpawnPosition());
-
-    tidalManager = new TidalManager(
-        worldMap, worldObjectManager, collisionManager, worldMap.getTileSet(), player, 5,
-        10);
+    if (recordPath != null) {
+      // Seed the world so the recording replays the same game
+      long seed = System.nanoTime();
+      Config.random().setSeed(seed);
+      recording = new InputScript().setSeed(seed).setTickRate(Config.tickRate());
+    }
+    simulation = new Simulation(keys, worldMap);
 
     camera = new Camera();
-    ui = new UiManager(gsm, keys, mouse, player.getInventory(), worldObjectManager, tidalManager,
-        player);
-
-    debugRenderer = new DebugRenderer(
-        mouse, ui, worldObjectManager, collisionManager, camera, player);
+    camera.setBounds(simulation.getWorldMap().getWidth() * Config.tileSize(),
+        simulation.getWorldMap().getHeight() * Config.tileSize());
+    camera.focus(simulation.getPlayer());
+    ui = new UiManager(gsm, keys, mouse, simulation.getPlayer().getInventory(),
+        simulation.getWorldObjectManager(), simulation.getTidalManager(), simulation.getPlayer());
+
+    debugRenderer = new DebugRenderer(mouse, ui, simulation.getWorldObjectManager(),
+        simulation.getCollisionManager(), camera, simulation.getPlayer(),
+        simulation.getTidalManager());
   }
 
   @Override
@@ -72,42 +74,62 @@ public class PlayingState implements GameState {
 
   @Override
   public void onExit() {
+    simulation.close();
   }
 
   @Override
   public void update() {
     if (keys.isJustPressed(Action.PAUSE)) {
+      saveRecording();
       gsm.push(new PauseState(gsm, keys, mouse));
     }
 
-    if (player.isDead()) {
-      gsm.push(new GameOverState(gsm, keys, mouse, false));
-      return; // stop further updates
+    if (recording != null) {
+      recording.record(simulation.getTick(), keys);
     }
 
-    if (tidalManager.isFullyFlooded()) {
-      if (collisionManager.isOnObject(player.getCollider(), Raft.TYPE)) {
-        gsm.push(new GameOverState(gsm, keys, mouse, true)); // survived
-      } else {
-        gsm.push(new GameOverState(gsm, keys, mouse, false)); // drowned
-      }
-      return;
+    simulation.update();
+
+    if (simulation.isOver()) {
+      saveRecording();
+      gsm.push(new GameOverState(gsm, keys, mouse,
+          simulation.getOutcome() == Simulation.Outcome.SURVIVED));
+      return; // stop further updates
     }
 
-    tidalManager.update();
-    worldObjectManager.update();
-    player.update(collisionManager, interactionManager);
-    camera.update(player);
+    camera.update(simulation.getPlayer());
 
-    ui.update();
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.UI_UPDATE)) {
+      ui.update();
+    }
   }
 
   @Override
   public void render(Graphics g) {
-    worldMap.draw(g, camera);
-    worldObjectManager.draw(g, camera);
-    player.draw(g, camera);
-    ui.render(g);
+    camera.interpolate(GameClock.getInstance().getInterpolation());
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.WORLD_MAP_DRAW)) {
+      simulation.getWorldMap().draw(g, camera);
+    }
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.WORLD_OBJECTS_DRAW)) {
+      simulation.getWorldObjectManager().draw(g, camera);
+    }
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.PLAYER_DRAW)) {
+      simulation.getPlayer().draw(g, camera);
+    }
+    try (FrameProfiler.Scope scope = FrameProfiler.scope(Phase.UI_RENDER)) {
+      ui.render(g);
+    }
     debugRenderer.render(g);
   }
+
+  private void saveRecording() {
+    if (recording == null) {
+      return;
+    }
+    try {
+      recording.save(Path.of(recordPath));
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
 }
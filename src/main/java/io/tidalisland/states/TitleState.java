@@ -49,6 +49,8 @@ public class TitleState implements GameState {
     this.worldMap = new WorldMap();
     this.worldObjectManager = new WorldObjectManager(worldMap);
     this.camera = new Camera();
+    this.camera.setBounds(worldMap.getWidth() * Config.tileSize(),
+        worldMap.getHeight() * Config.tileSize());
     this.camera.setSpeed(2);
 
     // Background panel
@@ -95,7 +97,7 @@ public class TitleState implements GameState {
     startButton.getLabel().style(s -> s.fontSize(24));
 
     startButton.setOnClick(() -> {
-      gsm.set(new PlayingState(gsm, keys, mouse)); // start game
+      gsm.set(new LoadingState(gsm, keys, mouse)); // start game
     });
 
     actionsPanel.add(startButton);
@@ -134,6 +136,7 @@ public class TitleState implements GameState {
   public void onExit() {
     GameClock.getInstance().reset();
     GameClock.getInstance().setPaused(false);
+    worldMap.close();
   }
 
   @Override
@@ -151,8 +154,8 @@ public class TitleState implements GameState {
     int x = camera.getPosition().getX();
     int y = camera.getPosition().getY();
 
-    int maxX = Config.mapWidth() * Config.tileSize() - Config.screenWidth();
-    int maxY = Config.mapHeight() * Config.tileSize() - Config.screenHeight();
+    int maxX = worldMap.getWidth() * Config.tileSize() - Config.screenWidth();
+    int maxY = worldMap.getHeight() * Config.tileSize() - Config.screenHeight();
 
     if (x <= 0 || x >= maxX) {
       panX = -panX;
@@ -0,0 +1,406 @@
+package io.tidalisland.tide;
+
+import io.tidalisland.tiles.WorldMap;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The wave at which every tile of an area of a world map floods.
+ *
+ * <p>The area is a square of whole chunks, moved to stay inside the map, or the whole map. Wave 0
+ * floods the land next to water or to the edge of the area, and each later wave floods the land
+ * next to the previous one. Tiles outside the area never flood. The field is a breadth-first
+ * distance transform from all water tiles at once, computed when the field is created. Tiles are
+ * also grouped into one bucket per wave, in flooding order, so a wave can be flooded without
+ * searching for the shoreline.
+ *
+ * <p>When terrain changes outside the tide, {@link #markWater} and {@link #markLand} repair the
+ * affected part of the field. Tiles whose wave changed are added to their new bucket; the entry in
+ * their old bucket stays behind and is recognized as stale because its wave no longer matches.
+ *
+ * <p>Waves are stored in pages the size of a world map chunk. Chunks that are all water from the
+ * start have no page, so open sea costs nothing.
+ */
+public class FloodField {
+
+  /** Wave of tiles that were water from the start. */
+  public static final int ALREADY_FLOODED = -1;
+
+  /** Wave of tiles outside the area, which never flood. */
+  public static final int NEVER_FLOODED = Integer.MAX_VALUE;
+
+  private static final int UNREACHED = Integer.MAX_VALUE;
+  private static final int[] NO_CELLS = new int[0];
+  private static final int PAGE_SIZE = WorldMap.CHUNK_SIZE;
+
+  /** Cardinal directions used to walk neighbouring tiles. */
+  private static final int[][] DIRECTIONS = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
+
+  private final int mapWidth;
+  private final int mapHeight;
+  private final int left; // first column of the area
+  private final int top; // first row of the area
+  private final int width; // size of the area; private methods take coordinates within it
+  private final int height;
+  private final int pageCols;
+  private final int[][] pages; // waves of each chunk, or null if it was all water from the start
+
+  private int[][] buckets = new int[16][];
+  private int[] bucketSizes = new int[16];
+  private int waveCount = 0;
+
+  // Reusable workspace for incremental updates
+  private int[] queue = new int[16];
+  private int[] regionCells = new int[16];
+  private final BitSet region = new BitSet();
+
+  /**
+   * Computes the flood field of a whole world map.
+   *
+   * @param worldMap the world map
+   */
+  public FloodField(WorldMap worldMap) {
+    this(worldMap, 0, 0, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Computes the flood field of the chunks within a radius of a tile's chunk. Near the edge of the
+   * map the area is moved to stay inside it, so it keeps its size when the map is large enough.
+   *
+   * @param worldMap the world map
+   * @param centerCol the column of the tile
+   * @param centerRow the row of the tile
+   * @param chunkRadius how many chunks the area reaches around the tile's chunk
+   * @throws IllegalArgumentException if the radius is negative
+   */
+  public FloodField(WorldMap worldMap, int centerCol, int centerRow, int chunkRadius) {
+    if (chunkRadius < 0) {
+      throw new IllegalArgumentException("Chunk radius must not be negative");
+    }
+    this.mapWidth = worldMap.getWidth();
+    this.mapHeight = worldMap.getHeight();
+    int side = (int) Math.min(2L * chunkRadius + 1, Integer.MAX_VALUE);
+    this.left = areaStart(centerCol, mapWidth, chunkRadius, side);
+    this.top = areaStart(centerRow, mapHeight, chunkRadius, side);
+    this.width = (int) Math.min(mapWidth - left, (long) side * PAGE_SIZE);
+    this.height = (int) Math.min(mapHeight - top, (long) side * PAGE_SIZE);
+    this.pageCols = (width + PAGE_SIZE - 1) / PAGE_SIZE;
+    int pageRows = (height + PAGE_SIZE - 1) / PAGE_SIZE;
+    this.pages = new int[pageCols * pageRows][];
+
+    // Read the water chunk by chunk, so a streamed map pages each chunk in once
+    for (int pageRow = 0; pageRow < pageRows; pageRow++) {
+      for (int pageCol = 0; pageCol < pageCols; pageCol++) {
+        int[] page = newPage();
+        boolean land = false;
+        int lastRow = Math.min(height, (pageRow + 1) * PAGE_SIZE);
+        int lastCol = Math.min(width, (pageCol + 1) * PAGE_SIZE);
+        for (int row = pageRow * PAGE_SIZE; row < lastRow; row++) {
+          for (int col = pageCol * PAGE_SIZE; col < lastCol; col++) {
+            if (!worldMap.isWater(left + col, top + row)) {
+              page[offset(col, row)] = UNREACHED;
+              land = true;
+            }
+          }
+        }
+        pages[pageRow * pageCols + pageCol] = land ? page : null;
+      }
+    }
+
+    // The first wave is the shoreline, in reading order
+    for (int row = 0; row < height; row++) {
+      for (int col = 0; col < width; col++) {
+        if (wave(col, row) == UNREACHED && isAdjacentToWater(col, row)) {
+          setWave(col, row, 0);
+          addToBucket(0, row * width + col);
+        }
+      }
+    }
+
+    // Every later wave is the unreached land next to the one before
+    for (int wave = 0; wave < waveCount; wave++) {
+      for (int i = 0; i < bucketSizes[wave]; i++) {
+        int cell = buckets[wave][i];
+        int col = cell % width;
+        int row = cell / width;
+        for (int[] dir : DIRECTIONS) {
+          int nc = col + dir[0];
+          int nr = row + dir[1];
+          if (inBounds(nc, nr) && wave(nc, nr) == UNREACHED) {
+            setWave(nc, nr, wave + 1);
+            addToBucket(wave + 1, nr * width + nc);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the wave at which a tile floods.
+   *
+   * @param col the column
+   * @param row the row
+   * @return the wave index, {@link #ALREADY_FLOODED} for tiles that were water from the start and
+   *     tiles outside the map, or {@link #NEVER_FLOODED} for other tiles outside the area
+   */
+  public int getWave(int col, int row) {
+    if (contains(col, row)) {
+      return wave(col - left, row - top);
+    }
+    return col >= 0 && col < mapWidth && row >= 0 && row < mapHeight
+        ? NEVER_FLOODED : ALREADY_FLOODED;
+  }
+
+  /**
+   * Checks if a tile is inside the area the tide floods.
+   *
+   * @param col the column
+   * @param row the row
+   * @return true if the tile is inside the area
+   */
+  public boolean contains(int col, int row) {
+    return inBounds(col - left, row - top);
+  }
+
+  /**
+   * Width of the area (in tiles).
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Height of the area (in tiles).
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Gets the column of a cell of a bucket.
+   */
+  public int getCellCol(int cell) {
+    return left + cell % width;
+  }
+
+  /**
+   * Gets the row of a cell of a bucket.
+   */
+  public int getCellRow(int cell) {
+    return top + cell / width;
+  }
+
+  /**
+   * Gets the number of waves it takes to flood the whole area.
+   */
+  public int getWaveCount() {
+    return waveCount;
+  }
+
+  /**
+   * Gets the tiles that flood in a wave, as cell indices within the area (see
+   * {@link #getCellCol(int)} and {@link #getCellRow(int)}). Only the first
+   * {@link #getBucketSize(int)} entries are used, and entries whose wave has since changed must be
+   * skipped.
+   *
+   * @param wave the wave
+   * @return the bucket of the wave
+   */
+  public int[] getBucket(int wave) {
+    return wave < waveCount && buckets[wave] != null ? buckets[wave] : NO_CELLS;
+  }
+
+  /**
+   * Gets the number of entries in a wave's bucket.
+   */
+  public int getBucketSize(int wave) {
+    return wave < waveCount ? bucketSizes[wave] : 0;
+  }
+
+  /**
+   * Updates the field after a tile turned into water outside the tide. The tiles around it flood
+   * earlier, but never before the current wave. Tiles outside the area are ignored.
+   *
+   * @param col the column
+   * @param row the row
+   * @param currentWave the next wave the tide will flood
+   */
+  public void markWater(int col, int row, int currentWave) {
+    if (!contains(col, row)) {
+      return;
+    }
+    col -= left;
+    row -= top;
+    setWave(col, row, Math.min(wave(col, row), currentWave - 1));
+    queue[0] = row * width + col;
+    lower(1, currentWave);
+  }
+
+  /**
+   * Updates the field after a tile turned back into land. The tile and the tiles whose wave
+   * depended on it flood later, but never before the current wave. Tiles outside the area are
+   * ignored.
+   *
+   * @param col the column
+   * @param row the row
+   * @param currentWave the next wave the tide will flood
+   */
+  public void markLand(int col, int row, int currentWave) {
+    if (!contains(col, row)) {
+      return;
+    }
+    col -= left;
+    row -= top;
+    // Collect every tile whose wave may have come from this one
+    region.clear();
+    int start = row * width + col;
+    region.set(start);
+    regionCells[0] = start;
+    int regionSize = 1;
+    for (int head = 0; head < regionSize; head++) {
+      int cell = regionCells[head];
+      for (int[] dir : DIRECTIONS) {
+        int nc = cell % width + dir[0];
+        int nr = cell / width + dir[1];
+        if (!inBounds(nc, nr)) {
+          continue;
+        }
+        int next = nr * width + nc;
+        if (!region.get(next) && wave(next) >= currentWave && wave(next) > wave(cell)) {
+          region.set(next);
+          regionCells = append(regionCells, regionSize++, next);
+        }
+      }
+    }
+
+    // Recompute the region from the tiles around it
+    for (int i = 0; i < regionSize; i++) {
+      setWave(regionCells[i], UNREACHED);
+    }
+    int queued = 0;
+    for (int i = 0; i < regionSize; i++) {
+      int cell = regionCells[i];
+      int wave = UNREACHED;
+      for (int[] dir : DIRECTIONS) {
+        int nc = cell % width + dir[0];
+        int nr = cell / width + dir[1];
+        if (!inBounds(nc, nr)) {
+          wave = Math.min(wave, Math.max(0, currentWave)); // the edge of the area counts as water
+        } else if (!region.get(nr * width + nc) && wave(nc, nr) != UNREACHED) {
+          wave = Math.min(wave, Math.max(wave(nc, nr) + 1, currentWave));
+        }
+      }
+      if (wave != UNREACHED) {
+        setWave(cell, wave);
+        addToBucket(wave, cell);
+        queue = append(queue, queued++, cell);
+      }
+    }
+    lower(queued, currentWave);
+  }
+
+  /**
+   * Lowers the waves of the tiles around the queued ones for as long as they improve.
+   */
+  private void lower(int size, int currentWave) {
+    for (int head = 0; head < size; head++) {
+      int cell = queue[head];
+      int wave = Math.max(wave(cell) + 1, currentWave);
+      for (int[] dir : DIRECTIONS) {
+        int nc = cell % width + dir[0];
+        int nr = cell / width + dir[1];
+        if (inBounds(nc, nr) && wave < wave(nc, nr)) {
+          setWave(nc, nr, wave);
+          addToBucket(wave, nr * width + nc);
+          queue = append(queue, size++, nr * width + nc);
+        }
+      }
+    }
+  }
+
+  private void addToBucket(int wave, int cell) {
+    if (wave >= buckets.length) {
+      int length = Math.max(wave + 1, buckets.length * 2);
+      buckets = Arrays.copyOf(buckets, length);
+      bucketSizes = Arrays.copyOf(bucketSizes, length);
+    }
+    if (buckets[wave] == null) {
+      buckets[wave] = new int[16];
+    }
+    buckets[wave] = append(buckets[wave], bucketSizes[wave]++, cell);
+    waveCount = Math.max(waveCount, wave + 1);
+  }
+
+  /**
+   * Checks if a tile is next to water or to the edge of the area.
+   */
+  private boolean isAdjacentToWater(int col, int row) {
+    for (int[] dir : DIRECTIONS) {
+      int nc = col + dir[0];
+      int nr = row + dir[1];
+      if (!inBounds(nc, nr) || wave(nc, nr) == ALREADY_FLOODED) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int wave(int cell) {
+    return wave(cell % width, cell / width);
+  }
+
+  private int wave(int col, int row) {
+    int[] page = pages[(row / PAGE_SIZE) * pageCols + col / PAGE_SIZE];
+    return page != null ? page[offset(col, row)] : ALREADY_FLOODED;
+  }
+
+  private void setWave(int cell, int wave) {
+    setWave(cell % width, cell / width, wave);
+  }
+
+  /**
+   * Stores the wave of a tile, giving its chunk a page if it was all water until now.
+   */
+  private void setWave(int col, int row, int wave) {
+    int index = (row / PAGE_SIZE) * pageCols + col / PAGE_SIZE;
+    if (pages[index] == null) {
+      pages[index] = newPage();
+    }
+    pages[index][offset(col, row)] = wave;
+  }
+
+  /**
+   * Gets the first column (or row) of an area of whole chunks around a tile, moved to stay inside
+   * the map.
+   */
+  private static int areaStart(int center, int mapSize, int chunkRadius, int side) {
+    int chunks = (mapSize + PAGE_SIZE - 1) / PAGE_SIZE;
+    int centerChunk = Math.max(0, Math.min(center, mapSize - 1)) / PAGE_SIZE;
+    return Math.max(0, Math.min(centerChunk - chunkRadius, chunks - side)) * PAGE_SIZE;
+  }
+
+  private static int offset(int col, int row) {
+    return (row % PAGE_SIZE) * PAGE_SIZE + col % PAGE_SIZE;
+  }
+
+  private static int[] newPage() {
+    int[] page = new int[PAGE_SIZE * PAGE_SIZE];
+    Arrays.fill(page, ALREADY_FLOODED);
+    return page;
+  }
+
+  private boolean inBounds(int col, int row) {
+    return col >= 0 && col < width && row >= 0 && row < height;
+  }
+
+  /**
+   * Stores a value at an index, growing the array if needed.
+   */
+  private static int[] append(int[] array, int index, int value) {
+    if (index >= array.length) {
+      array = Arrays.copyOf(array, Math.max(16, array.length * 2));
+    }
+    array[index] = value;
+    return array;
+  }
+}
@@ -0,0 +1,251 @@
+package io.tidalisland.tide;
+
+import io.tidalisland.collision.Collider;
+import io.tidalisland.collision.SpatialGrid;
+import io.tidalisland.config.Config;
+import io.tidalisland.events.TileChangeEvent;
+import io.tidalisland.events.WorldObjectChangeEvent;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.worldobjects.WorldObject;
+import io.tidalisland.worldobjects.WorldObjectManager;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Tracks which tiles the player can safely be pushed onto when the tide floods their tile.
+ *
+ * <p>A tile is safe if a floatable object covers it, or if it is dry, walkable land that no other
+ * object covers. The index listens to the world map and the world object manager, and only
+ * re-checks the tiles a change touches, so it is always up to date without scanning the map.
+ *
+ * <p>Tiles are grouped in pages the size of a world map chunk. A page is only checked the first
+ * time one of its tiles is looked up, so creating the index reads no chunks, and a large map only
+ * pays for the area the player actually reaches.
+ */
+public class SafeTileIndex {
+
+  /** Cardinal directions used to walk neighbouring tiles. */
+  private static final int[][] DIRECTIONS = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
+
+  private static final int PAGE_SIZE = WorldMap.CHUNK_SIZE;
+
+  private final WorldMap worldMap;
+  private final SpatialGrid<WorldObject> spatialGrid;
+  private final int width;
+  private final int height;
+  private final int pageCols;
+  private final long[][] pages; // one bit per tile of each page, or null until checked
+
+  // Reusable search workspace
+  private int[] queue = new int[64];
+  private final BitSet visited = new BitSet();
+
+  /**
+   * Creates a safe tile index and starts tracking changes.
+   *
+   * @param worldMap the world map
+   * @param worldObjectManager the world object manager
+   */
+  public SafeTileIndex(WorldMap worldMap, WorldObjectManager worldObjectManager) {
+    this.worldMap = worldMap;
+    this.spatialGrid = worldObjectManager.getSpatialGrid();
+    this.width = worldMap.getWidth();
+    this.height = worldMap.getHeight();
+    this.pageCols = (width + PAGE_SIZE - 1) / PAGE_SIZE;
+    int pageRows = (height + PAGE_SIZE - 1) / PAGE_SIZE;
+    this.pages = new long[pageCols * pageRows][];
+
+    worldMap.addListener(this::onTileChanged);
+    worldObjectManager.addListener(this::onObjectChanged);
+  }
+
+  /**
+   * Checks if a tile is safe.
+   *
+   * @param col the column
+   * @param row the row
+   * @return true if the tile is safe, false if it is not or is outside the map
+   */
+  public boolean isSafe(int col, int row) {
+    if (!inBounds(col, row)) {
+      return false;
+    }
+    long[] page = page(col, row);
+    int bit = bit(col, row);
+    return (page[bit >> 6] & (1L << bit)) != 0;
+  }
+
+  /**
+   * Finds the safe tile closest to a tile, walking outwards in breadth-first order. The search
+   * costs time proportional to the area it covers, and only allocates to check pages it reaches for
+   * the first time.
+   *
+   * @param startCol the column to start from
+   * @param startRow the row to start from
+   * @param maxDistance the maximum number of steps to walk
+   * @return the cell index ({@code row * width + col}) of the nearest safe tile, or -1 if there is
+   *     none within the distance
+   */
+  public int findNearest(int startCol, int startRow, int maxDistance) {
+    if (!inBounds(startCol, startRow)) {
+      return -1;
+    }
+
+    int start = startRow * width + startCol;
+    queue[0] = start;
+    visited.set(start);
+    int size = 1;
+    int found = -1;
+
+    int layerEnd = 1; // end of the tiles at the current distance
+    int distance = 0;
+    for (int head = 0; head < size; head++) {
+      if (head == layerEnd) {
+        if (++distance > maxDistance) {
+          break;
+        }
+        layerEnd = size;
+      }
+      int cell = queue[head];
+      int col = cell % width;
+      int row = cell / width;
+      if (isSafe(col, row)) {
+        found = cell;
+        break;
+      }
+
+      for (int[] dir : DIRECTIONS) {
+        int nc = col + dir[0];
+        int nr = row + dir[1];
+        if (!inBounds(nc, nr) || visited.get(nr * width + nc)) {
+          continue;
+        }
+        visited.set(nr * width + nc);
+        if (size == queue.length) {
+          queue = Arrays.copyOf(queue, size * 2);
+        }
+        queue[size++] = nr * width + nc;
+      }
+    }
+
+    // Only clear what was visited, so the cost stays independent of the map size
+    for (int i = 0; i < size; i++) {
+      visited.clear(queue[i]);
+    }
+    return found;
+  }
+
+  private void onTileChanged(TileChangeEvent event) {
+    refresh(event.getCol(), event.getRow());
+  }
+
+  private void onObjectChanged(WorldObjectChangeEvent event) {
+    if (event.getOldCollider() != null) {
+      refresh(event.getOldCollider());
+    }
+    if (event.getNewCollider() != null) {
+      refresh(event.getNewCollider());
+    }
+  }
+
+  /**
+   * Re-checks every tile a collider overlaps.
+   */
+  private void refresh(Collider collider) {
+    int tileSize = Config.tileSize();
+    int startCol = collider.getX() / tileSize;
+    int startRow = collider.getY() / tileSize;
+    int endCol = (collider.getX() + collider.getWidth() - 1) / tileSize;
+    int endRow = (collider.getY() + collider.getHeight() - 1) / tileSize;
+    for (int row = startRow; row <= endRow; row++) {
+      for (int col = startCol; col <= endCol; col++) {
+        refresh(col, row);
+      }
+    }
+  }
+
+  /**
+   * Re-checks a single tile. Tiles of pages that were never looked up are skipped, since the page
+   * is checked in full when it is first needed.
+   */
+  private void refresh(int col, int row) {
+    if (!inBounds(col, row)) {
+      return;
+    }
+    long[] page = pages[pageIndex(col, row)];
+    if (page == null) {
+      return;
+    }
+    int bit = bit(col, row);
+    if (check(col, row)) {
+      page[bit >> 6] |= 1L << bit;
+    } else {
+      page[bit >> 6] &= ~(1L << bit);
+    }
+  }
+
+  /**
+   * Gets the page of a tile, checking every tile of it on first use.
+   */
+  private long[] page(int col, int row) {
+    int index = pageIndex(col, row);
+    long[] page = pages[index];
+    if (page == null) {
+      page = new long[PAGE_SIZE * PAGE_SIZE / Long.SIZE];
+      int firstCol = col - col % PAGE_SIZE;
+      int firstRow = row - row % PAGE_SIZE;
+      int lastCol = Math.min(width, firstCol + PAGE_SIZE);
+      int lastRow = Math.min(height, firstRow + PAGE_SIZE);
+      for (int r = firstRow; r < lastRow; r++) {
+        for (int c = firstCol; c < lastCol; c++) {
+          if (check(c, r)) {
+            int bit = bit(c, r);
+            page[bit >> 6] |= 1L << bit;
+          }
+        }
+      }
+      pages[index] = page;
+    }
+    return page;
+  }
+
+  /**
+   * Checks if a tile is safe, from its terrain and the objects on it.
+   */
+  private boolean check(int col, int row) {
+    if (worldMap.getTileId(col, row) == WorldMap.EMPTY) {
+      return false;
+    }
+    int tileSize = Config.tileSize();
+    int x = col * tileSize;
+    int y = row * tileSize;
+    if (spatialGrid.findFirst(x, y, tileSize, tileSize, WorldObject::isFloatable) != null) {
+      return true; // floatable objects keep the player above water
+    }
+    if (spatialGrid.findFirst(x, y, tileSize, tileSize, obj -> true) != null) {
+      return false; // any other object is in the way
+    }
+    return isSafeTerrain(col, row);
+  }
+
+  /**
+   * Checks if a tile's terrain is dry and walkable, ignoring objects.
+   */
+  private boolean isSafeTerrain(int col, int row) {
+    return worldMap.getTileId(col, row) != WorldMap.EMPTY && !worldMap.isWater(col, row)
+        && !worldMap.isSolid(col, row);
+  }
+
+  private int pageIndex(int col, int row) {
+    return (row / PAGE_SIZE) * pageCols + col / PAGE_SIZE;
+  }
+
+  /** Position of a tile's bit within its page. */
+  private static int bit(int col, int row) {
+    return (row % PAGE_SIZE) * PAGE_SIZE + col % PAGE_SIZE;
+  }
+
+  private boolean inBounds(int col, int row) {
+    return col >= 0 && col < width && row >= 0 && row < height;
+  }
+}
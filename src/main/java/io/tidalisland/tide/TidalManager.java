@@ -5,20 +5,20 @@ import io.tidalisland.collision.CollisionManager;
 import io.tidalisland.config.Config;
 import io.tidalisland.engine.GameClock;
 import io.tidalisland.entities.Player;
-import io.tidalisland.tiles.Tile;
+import io.tidalisland.events.TileChangeEvent;
 import io.tidalisland.tiles.TileSet;
 import io.tidalisland.tiles.WorldMap;
 import io.tidalisland.utils.Position;
 import io.tidalisland.worldobjects.Raft;
 import io.tidalisland.worldobjects.WorldObject;
 import io.tidalisland.worldobjects.WorldObjectManager;
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Manages the tidal mechanic that floods the island.
+ *
+ * <p>The tide floods the chunks within {@link Config#tideChunkRadius()} of the player's starting
+ * chunk (see {@link FloodField}), so its cost does not grow with the size of the map and the chunks
+ * it floods fit in the chunk cache. The game ends when that area is flooded.
  */
 public class TidalManager {
 
@@ -34,9 +34,19 @@ public class TidalManager {
   private int waterTileId = -1;
   private long currentFloodInterval;
   private long elapsedSinceLastFlood = 0;
+  private long elapsedNanos = 0; // untruncated elapsed time since the last flood
 
   private boolean fullyFlooded = false;
 
+  private final int mapWidth;
+
+  // Wave at which each tile of the flooded area floods
+  private final FloodField floodField;
+  private int currentWave = 0; // next wave to flood
+  private boolean flooding = false;
+
+  private final SafeTileIndex safeTiles;
+
   /**
    * Creates a new tidal manager.
    */
@@ -63,6 +73,13 @@ public class TidalManager {
     if (waterTileId == -1) {
       throw new IllegalArgumentException("Water tile not found in tileset!");
     }
+
+    this.mapWidth = worldMap.getWidth();
+    Position start = player.getPosition();
+    this.floodField = new FloodField(worldMap, start.getX() / Config.tileSize(),
+        start.getY() / Config.tileSize(), Config.tideChunkRadius());
+    worldMap.addListener(this::onTileChanged);
+    this.safeTiles = new SafeTileIndex(worldMap, worldObjectManager);
   }
 
   /**
@@ -73,11 +90,12 @@ public class TidalManager {
       return;
     }
 
-    long deltaMillis = GameClock.getInstance().getDeltaMillis();
-    elapsedSinceLastFlood += deltaMillis;
+    elapsedNanos += GameClock.getInstance().getDeltaNanos();
+    elapsedSinceLastFlood = elapsedNanos / 1_000_000;
 
     if (elapsedSinceLastFlood >= currentFloodInterval) {
       floodNextWave();
+      elapsedNanos = 0;
       elapsedSinceLastFlood = 0;
       currentFloodInterval = randomInterval();
     }
@@ -87,34 +105,62 @@ public class TidalManager {
    * Floods the next wave of tiles adjacent to water.
    */
   private void floodNextWave() {
-    Set<Position> tilesToFlood = findTilesToFlood();
-
-    if (tilesToFlood.isEmpty()) {
+    if (currentWave >= floodField.getWaveCount()) {
       fullyFlooded = true;
       return;
     }
 
-    // Flood the tiles
-    for (Position pos : tilesToFlood) {
-      floodTile(pos);
+    int[] bucket = floodField.getBucket(currentWave);
+    int size = floodField.getBucketSize(currentWave);
+    flooding = true;
+    try {
+      for (int i = 0; i < size; i++) {
+        int col = floodField.getCellCol(bucket[i]);
+        int row = floodField.getCellRow(bucket[i]);
+        // Skip tiles that moved to another wave, or that are already water
+        if (floodField.getWave(col, row) == currentWave && !isWater(col, row)) {
+          floodTile(col, row);
+        }
+      }
+    } finally {
+      flooding = false;
     }
+    currentWave++;
   }
 
   /**
-   * Floods a single tile.
+   * Keeps the flood field in sync with terrain changes made outside the tide.
    */
-  private void floodTile(Position pos) {
-    int col = pos.getX();
-    int row = pos.getY();
+  private void onTileChanged(TileChangeEvent event) {
+    if (flooding) {
+      return; // the field already accounts for the tide's own changes
+    }
+    int col = event.getCol();
+    int row = event.getRow();
+    if (!floodField.contains(col, row)) {
+      return; // the tide never reaches it
+    }
+    boolean wasWater = floodField.getWave(col, row) < currentWave;
+    boolean water = isWater(col, row);
+    if (water && !wasWater) {
+      floodField.markWater(col, row, currentWave);
+    } else if (!water && wasWater) {
+      floodField.markLand(col, row, currentWave);
+    }
+  }
 
+  /**
+   * Floods a single tile.
+   */
+  private void floodTile(int col, int row) {
     // Turn tile into water
     worldMap.setTile(col, row, waterTileId);
 
-    // Destroy world objects on this tile
-    Position worldPos = new Position(col * Config.tileSize(), row * Config.tileSize());
-    WorldObject obj = worldObjectManager.get(worldPos);
-    if (obj != null && !obj.isFloatable()) {
+    // Destroy world objects that cover any part of this tile
+    WorldObject obj = worldObjectManager.getObjectAtTile(col, row);
+    while (obj != null && !obj.isFloatable()) {
       worldObjectManager.remove(obj);
+      obj = worldObjectManager.getObjectAtTile(col, row);
     }
 
     // Push player if they're on this tile
@@ -122,55 +168,10 @@ public class TidalManager {
   }
 
   /**
-   * Finds all tiles that should be flooded in the next wave.
-   */
-  private Set<Position> findTilesToFlood() {
-    Set<Position> candidates = new HashSet<>();
-
-    for (int row = 0; row < Config.mapHeight(); row++) {
-      for (int col = 0; col < Config.mapWidth(); col++) {
-        Tile tile = worldMap.getTile(col, row);
-
-        // Skip if already water
-        if (tile != null && tile.getId() == waterTileId) {
-          continue;
-        }
-
-        // Check if adjacent to water
-        if (isAdjacentToWater(col, row)) {
-          candidates.add(new Position(col, row));
-        }
-      }
-    }
-
-    return candidates;
-  }
-
-  /**
-   * Checks if a tile is adjacent to water (including edges).
+   * Checks if a tile is water.
    */
-  private boolean isAdjacentToWater(int col, int row) {
-    // Check all 4 cardinal directions
-    int[][] directions = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
-
-    for (int[] dir : directions) {
-      int neighborCol = col + dir[0];
-      int neighborRow = row + dir[1];
-
-      // Treat edges as water
-      if (neighborCol < 0 || neighborCol >= Config.mapWidth() || neighborRow < 0
-          || neighborRow >= Config.mapHeight()) {
-        return true;
-      }
-
-      // Check if neighbor is water
-      Tile neighborTile = worldMap.getTile(neighborCol, neighborRow);
-      if (neighborTile != null && neighborTile.getId() == waterTileId) {
-        return true;
-      }
-    }
-
-    return false;
+  private boolean isWater(int col, int row) {
+    return worldMap.isWater(col, row);
   }
 
   /**
@@ -186,102 +187,54 @@ public class TidalManager {
 
     Position safeTile = findNearestSafeTile(floodCol, floodRow);
     if (safeTile != null) {
-      player.getPosition().setPosition(safeTile);
-      player.getCollider().updatePosition(safeTile);
+      player.teleport(safeTile); // no sliding across the water in the next frames
     } else {
       fullyFlooded = true;
     }
   }
 
   /**
-   * Finds the nearest safe tile using a breadth-first search.
+   * Finds the nearest safe tile, or null if the player has nowhere left to go. The search reaches
+   * as far as the flooded area is wide and high, so it never walks the open sea of a large map.
    */
   private Position findNearestSafeTile(int startCol, int startRow) {
-    int mapWidth = Config.mapWidth();
-    int mapHeight = Config.mapHeight();
-
-    // Create a boolean array to track visited tiles
-    boolean[][] visited = new boolean[mapHeight][mapWidth];
-    // Create a queue to store the tiles to visit
-    ArrayDeque<int[]> queue = new ArrayDeque<>();
-
-    // Visit the starting tile
-    queue.add(new int[] { startCol, startRow });
-    visited[startRow][startCol] = true;
-
-    // Create a list of cardinal directions to traverse adjacent tiles
-    int[][] dirs = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
-
-    while (!queue.isEmpty()) {
-      // Pop the next tile from the queue
-      int[] cur = queue.poll();
-      int col = cur[0];
-      int row = cur[1];
-      Tile tile = worldMap.getTile(col, row);
-
-      // Check if the tile is safe
-      if (tile != null && isSafeTile(col, row)) {
-        // Return the tile position
-        return new Position(col * Config.tileSize(), row * Config.tileSize());
-      }
-
-      // Traverse adjacent tiles
-      for (int[] d : dirs) {
-        int nc = col + d[0];
-        int nr = row + d[1];
-
-        // Check if the adjacent tile is within the map bounds
-        if (nc < 0 || nc >= mapWidth || nr < 0 || nr >= mapHeight) {
-          continue;
-        }
-        // Check if the adjacent tile has already been visited
-        if (visited[nr][nc]) {
-          continue;
-        }
-
-        // Visit the adjacent tile
-        visited[nr][nc] = true;
-        queue.add(new int[] { nc, nr });
-      }
+    int cell = safeTiles.findNearest(startCol, startRow,
+        floodField.getWidth() + floodField.getHeight());
+    if (cell < 0) {
+      return null;
     }
-
-    return null;
+    return new Position(cell % mapWidth * Config.tileSize(), cell / mapWidth * Config.tileSize());
   }
 
   /**
-   * Checks if a tile is safe.
+   * Gets the index of the next wave to flood.
    */
-  private boolean isSafeTile(int col, int row) {
-    Tile tile = worldMap.getTile(col, row);
-
-    // Tile not found, not safe
-    if (tile == null) {
-      return false;
-    }
-
-    // Check for any object overlapping this tile
-    for (WorldObject obj : worldObjectManager.getAll()) {
-      if (collisionManager.isOnTile(obj.getCollider(), row, col)) {
-        // There is a floatable object overlapping this tile, safe
-        if (obj.isFloatable()) {
-          return true;
-        }
-        // There is an object overlapping this tile, not safe
-        return false;
-      }
-    }
+  public int getCurrentWave() {
+    return currentWave;
+  }
 
-    // Water without floatable is unsafe
-    if (tile.getId() == waterTileId) {
-      return false;
+  /**
+   * Gets the number of waves left before a tile floods.
+   *
+   * @param col the column
+   * @param row the row
+   * @return 0 if the tile floods in the next wave, -1 if it is already under water, or
+   *     {@link FloodField#NEVER_FLOODED} if it is outside the flooded area
+   */
+  public int getWavesUntilFlood(int col, int row) {
+    int wave = floodField.getWave(col, row);
+    if (wave == FloodField.NEVER_FLOODED) {
+      return FloodField.NEVER_FLOODED;
     }
+    return wave < currentWave ? -1 : wave - currentWave;
+  }
 
-    // Solid terrain blocks player
-    if (tile.isSolid()) {
-      return false;
-    }
+  public FloodField getFloodField() {
+    return floodField;
+  }
 
-    return true;
+  public SafeTileIndex getSafeTiles() {
+    return safeTiles;
   }
 
   /**
@@ -311,10 +264,11 @@ public class TidalManager {
    */
   public void reset() {
     fullyFlooded = false;
+    elapsedNanos = 0;
     elapsedSinceLastFlood = 0;
   }
 
   private long randomInterval() {
-    return ThreadLocalRandom.current().nextLong(minFloodInterval, maxFloodInterval + 1);
+    return Config.random().nextLong(minFloodInterval, maxFloodInterval + 1);
   }
 }
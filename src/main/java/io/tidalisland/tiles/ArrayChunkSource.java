@@ -0,0 +1,51 @@
+package io.tidalisland.tiles;
+
+import java.util.Arrays;
+
+/**
+ * A chunk source over a tile id array that is already in memory.
+ */
+class ArrayChunkSource implements ChunkSource {
+
+  private final int width;
+  private final int height;
+  private final short[] tileIds; // indexed by row * width + col
+
+  /**
+   * Creates a chunk source over an array.
+   *
+   * @param width the width of the map (in tiles)
+   * @param height the height of the map (in tiles)
+   * @param tileIds the tile ids, indexed by {@code row * width + col}
+   */
+  ArrayChunkSource(int width, int height, short[] tileIds) {
+    this.width = width;
+    this.height = height;
+    this.tileIds = tileIds;
+  }
+
+  @Override
+  public void read(int chunkCol, int chunkRow, short[] out) {
+    Arrays.fill(out, WorldMap.EMPTY);
+    int startCol = chunkCol * WorldMap.CHUNK_SIZE;
+    int startRow = chunkRow * WorldMap.CHUNK_SIZE;
+    int cols = Math.min(WorldMap.CHUNK_SIZE, width - startCol);
+    int rows = Math.min(WorldMap.CHUNK_SIZE, height - startRow);
+    for (int row = 0; row < rows; row++) {
+      System.arraycopy(tileIds, (startRow + row) * width + startCol, out,
+          row * WorldMap.CHUNK_SIZE, cols);
+    }
+  }
+
+  @Override
+  public void write(int chunkCol, int chunkRow, short[] ids) {
+    int startCol = chunkCol * WorldMap.CHUNK_SIZE;
+    int startRow = chunkRow * WorldMap.CHUNK_SIZE;
+    int cols = Math.min(WorldMap.CHUNK_SIZE, width - startCol);
+    int rows = Math.min(WorldMap.CHUNK_SIZE, height - startRow);
+    for (int row = 0; row < rows; row++) {
+      System.arraycopy(ids, row * WorldMap.CHUNK_SIZE, tileIds,
+          (startRow + row) * width + startCol, cols);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package io.tidalisland.tiles;
+
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+
+/**
+ * A resident square of {@link WorldMap#CHUNK_SIZE} x {@link WorldMap#CHUNK_SIZE} tiles.
+ *
+ * <p>Cells are indexed by {@code localRow * CHUNK_SIZE + localCol}.
+ */
+final class Chunk {
+
+  static final int CELLS = WorldMap.CHUNK_SIZE * WorldMap.CHUNK_SIZE;
+
+  final int chunkCol;
+  final int chunkRow;
+  final short[] tileIds;
+
+  // Per-cell flags, indexed like tileIds
+  final BitSet solid = new BitSet(CELLS);
+  final BitSet water = new BitSet(CELLS);
+  final BitSet buildable = new BitSet(CELLS);
+
+  boolean modified = false; // needs writing back when evicted
+  BufferedImage image; // rasterized tiles, or null
+  boolean imageDirty = true;
+
+  Chunk(int chunkCol, int chunkRow, short[] tileIds) {
+    this.chunkCol = chunkCol;
+    this.chunkRow = chunkRow;
+    this.tileIds = tileIds;
+  }
+
+  /**
+   * Copies a tile's flags into the bitsets of a cell.
+   *
+   * @param idx the cell index
+   * @param flags a combination of {@link Tile#SOLID}, {@link Tile#WATER} and
+   *     {@link Tile#BUILDABLE}
+   */
+  void setFlags(int idx, int flags) {
+    solid.set(idx, (flags & Tile.SOLID) != 0);
+    water.set(idx, (flags & Tile.WATER) != 0);
+    buildable.set(idx, (flags & Tile.BUILDABLE) != 0);
+  }
+}
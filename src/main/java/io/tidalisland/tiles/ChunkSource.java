@@ -0,0 +1,39 @@
+package io.tidalisland.tiles;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Backing storage that a {@link WorldMap} pages its chunks in from and writes modified chunks
+ * back to.
+ *
+ * <p>Chunk ids are indexed by {@code localRow * CHUNK_SIZE + localCol}; cells past the edge of the
+ * map read as {@link WorldMap#EMPTY} and are ignored on write. Reads may happen on a background
+ * thread, but never for a chunk that is being written.
+ */
+public interface ChunkSource extends Closeable {
+
+  /**
+   * Reads the tile ids of a chunk.
+   *
+   * @param chunkCol the chunk column
+   * @param chunkRow the chunk row
+   * @param out receives {@code CHUNK_SIZE * CHUNK_SIZE} tile ids
+   * @throws IOException if the chunk cannot be read
+   */
+  void read(int chunkCol, int chunkRow, short[] out) throws IOException;
+
+  /**
+   * Writes back the tile ids of a modified chunk.
+   *
+   * @param chunkCol the chunk column
+   * @param chunkRow the chunk row
+   * @param ids {@code CHUNK_SIZE * CHUNK_SIZE} tile ids
+   * @throws IOException if the chunk cannot be written
+   */
+  void write(int chunkCol, int chunkRow, short[] ids) throws IOException;
+
+  @Override
+  default void close() throws IOException {
+  }
+}
@@ -0,0 +1,251 @@
+package io.tidalisland.tiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tidalisland.tiles.WorldMapLoader.WorldMapData;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * A world map in the binary map format.
+ *
+ * <p>The format is little-endian:
+ *
+ * <pre>
+ * int    magic        "TMAP"
+ * short  version      {@link #VERSION}
+ * short  tileset      length in bytes, followed by the UTF-8 tile set path
+ * int    width        in tiles
+ * int    height       in tiles
+ * short  tileIds[]    width * height ids, indexed by row * width + col
+ * </pre>
+ *
+ * <p>The game streams maps on disk chunk by chunk from a memory mapping of the file, through
+ * {@link MapFileChunkSource}. {@link #read(Path)} maps a whole file and copies every tile id out,
+ * for tools and small maps; maps inside the game jar cannot be mapped and are read with
+ * {@link #read(ByteBuffer)}.
+ */
+public final class MapFile {
+
+  /** The bytes "TMAP", read as a little-endian int. */
+  public static final int MAGIC = 0x50414D54;
+
+  /** Current version of the format. */
+  public static final short VERSION = 1;
+
+  /** File extension of binary maps. */
+  public static final String EXTENSION = ".tmap";
+
+  private final int width;
+  private final int height;
+  private final String tileSetPath;
+  private final short[] tileIds;
+
+  /**
+   * Creates a map file.
+   *
+   * @param width the width of the map (in tiles)
+   * @param height the height of the map (in tiles)
+   * @param tileSetPath the resource path of the tile set
+   * @param tileIds the tile ids, indexed by {@code row * width + col}
+   * @throws IllegalArgumentException if the dimensions are invalid or do not match the ids
+   */
+  public MapFile(int width, int height, String tileSetPath, short[] tileIds) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("Invalid map size: " + width + "x" + height);
+    }
+    if (tileIds.length != width * height) {
+      throw new IllegalArgumentException(
+          "Expected " + width * height + " tile ids, got " + tileIds.length);
+    }
+    this.width = width;
+    this.height = height;
+    this.tileSetPath = tileSetPath;
+    this.tileIds = tileIds;
+  }
+
+  /**
+   * Reads a map file by memory-mapping it.
+   *
+   * @param path the path to the file
+   * @return the map file
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a valid map
+   */
+  public static MapFile read(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return read(buffer);
+    }
+  }
+
+  /**
+   * Reads a map from a buffer, starting at its position.
+   *
+   * @param buffer the buffer
+   * @return the map file
+   * @throws IllegalArgumentException if the buffer does not hold a valid map
+   */
+  public static MapFile read(ByteBuffer buffer) {
+    ByteBuffer buf = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    Header header = readHeader(buf);
+    buf.position((int) header.dataOffset());
+    if (header.tileCount() > Integer.MAX_VALUE
+        || header.tileCount() * 2 > buf.remaining()) {
+      throw new IllegalArgumentException("Map too large to read at once, or truncated: "
+          + header.width() + "x" + header.height());
+    }
+
+    short[] tileIds = new short[header.width() * header.height()];
+    buf.asShortBuffer().get(tileIds);
+    return new MapFile(header.width(), header.height(), header.tileSetPath(), tileIds);
+  }
+
+  /**
+   * Reads the header of a map, starting at the buffer's position.
+   *
+   * @param buffer the buffer, holding at least the whole header
+   * @return the header
+   * @throws IllegalArgumentException if the buffer does not start with a valid header
+   */
+  public static Header readHeader(ByteBuffer buffer) {
+    ByteBuffer buf = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    if (buf.remaining() < 8 || buf.getInt() != MAGIC) {
+      throw new IllegalArgumentException("Not a binary map");
+    }
+    short version = buf.getShort();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported map version: " + version);
+    }
+
+    int pathLength = Short.toUnsignedInt(buf.getShort());
+    if (buf.remaining() < pathLength + 8) {
+      throw new IllegalArgumentException("Truncated map header");
+    }
+    byte[] pathBytes = new byte[pathLength];
+    buf.get(pathBytes);
+    int width = buf.getInt();
+    int height = buf.getInt();
+
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("Invalid map size: " + width + "x" + height);
+    }
+    return new Header(width, height, new String(pathBytes, StandardCharsets.UTF_8),
+        buf.position());
+  }
+
+  /**
+   * Writes the map to a file, replacing it if it exists.
+   *
+   * @param path the path to the file
+   * @throws IOException if the file cannot be written
+   */
+  public void write(Path path) throws IOException {
+    byte[] pathBytes = tileSetPath.getBytes(StandardCharsets.UTF_8);
+    if (pathBytes.length > 0xFFFF) {
+      throw new IllegalArgumentException("Tile set path too long");
+    }
+
+    ByteBuffer buf = ByteBuffer.allocate(4 + 2 + 2 + pathBytes.length + 8 + tileIds.length * 2)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buf.putInt(MAGIC);
+    buf.putShort(VERSION);
+    buf.putShort((short) pathBytes.length);
+    buf.put(pathBytes);
+    buf.putInt(width);
+    buf.putInt(height);
+    buf.asShortBuffer().put(tileIds);
+
+    Files.write(path, buf.array());
+  }
+
+  /**
+   * Creates a map file from JSON map data.
+   *
+   * @param data the JSON map data
+   * @return the map file
+   * @throws IllegalArgumentException if the layout is empty, ragged, or has ids out of range
+   */
+  public static MapFile fromJson(WorldMapData data) {
+    if (data.layout == null || data.layout.isEmpty() || data.layout.get(0).isEmpty()) {
+      throw new IllegalArgumentException("Map layout is empty");
+    }
+    int height = data.layout.size();
+    int width = data.layout.get(0).size();
+    short[] tileIds = new short[width * height];
+
+    for (int row = 0; row < height; row++) {
+      List<Integer> tilesRow = data.layout.get(row);
+      if (tilesRow.size() != width) {
+        throw new IllegalArgumentException("Incorrect columns in row " + row);
+      }
+      for (int col = 0; col < width; col++) {
+        int id = tilesRow.get(col);
+        if (id < Short.MIN_VALUE || id > Short.MAX_VALUE) {
+          throw new IllegalArgumentException("Tile id out of range at " + col + "," + row);
+        }
+        tileIds[row * width + col] = (short) id;
+      }
+    }
+    return new MapFile(width, height, data.tileset, tileIds);
+  }
+
+  /**
+   * The header of a map file.
+   *
+   * @param width the width of the map (in tiles)
+   * @param height the height of the map (in tiles)
+   * @param tileSetPath the resource path of the tile set
+   * @param dataOffset the offset of the first tile id from the start of the file (in bytes)
+   */
+  public record Header(int width, int height, String tileSetPath, long dataOffset) {
+
+    /** Gets the number of tiles in the map. */
+    public long tileCount() {
+      return (long) width * height;
+    }
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public String getTileSetPath() {
+    return tileSetPath;
+  }
+
+  /**
+   * Gets the tile ids, indexed by {@code row * width + col}.
+   */
+  public short[] getTileIds() {
+    return tileIds;
+  }
+
+  /**
+   * Converts a JSON map to the binary format.
+   *
+   * @param args [input .json] [output .tmap]
+   */
+  public static void main(String[] args) throws IOException {
+    Path in = Path.of(args.length > 0 ? args[0] : "src/main/resources/maps/map.json");
+    Path out = Path.of(args.length > 1 ? args[1] : "src/main/resources/maps/map" + EXTENSION);
+
+    WorldMapData data = new ObjectMapper().readValue(in.toFile(), WorldMapData.class);
+    MapFile mapFile = fromJson(data);
+    mapFile.write(out);
+
+    System.out.printf("Wrote %s (%dx%d, %d bytes)%n", out, mapFile.getWidth(),
+        mapFile.getHeight(), Files.size(out));
+  }
+}
@@ -0,0 +1,159 @@
+package io.tidalisland.tiles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A chunk source that reads chunks straight out of a {@link MapFile} on disk.
+ *
+ * <p>The tile ids are memory-mapped, so reading a chunk copies its rows out of the page cache with
+ * no system call, and only the pages of chunks that were read take up memory. Large maps are mapped
+ * in several segments of whole rows. The map file is never modified. Chunks written back are stored in a temporary overlay file,
+ * which is deleted on close, so a flooded world does not outlive the game that flooded it. Only the
+ * overlay index (one entry per modified chunk) is kept in memory.
+ */
+class MapFileChunkSource implements ChunkSource {
+
+  private static final int CHUNK_BYTES = WorldMap.CHUNK_SIZE * WorldMap.CHUNK_SIZE * 2;
+  private static final int MAX_HEADER_BYTES = 4 + 2 + 2 + 0xFFFF + 8;
+  private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+  private final FileChannel base;
+  private final MapFile.Header header;
+  private final ShortBuffer[] segments; // the tile ids, rowsPerSegment map rows each
+  private final int rowsPerSegment;
+
+  private FileChannel overlay; // created on the first write
+  private final Map<Long, Long> overlayOffsets = new ConcurrentHashMap<>(); // chunk key -> offset
+  private long overlaySize = 0;
+
+  /**
+   * Opens a map file for streaming.
+   *
+   * @param path the path to the map file
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a valid map or is truncated
+   */
+  MapFileChunkSource(Path path) throws IOException {
+    this(path, MAX_SEGMENT_BYTES);
+  }
+
+  /**
+   * Opens a map file for streaming, mapping it in segments of at most a given size.
+   *
+   * @param path the path to the map file
+   * @param maxSegmentBytes the most bytes mapped by one segment; a segment holds at least one row
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a valid map or is truncated
+   */
+  MapFileChunkSource(Path path, long maxSegmentBytes) throws IOException {
+    this.base = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      ByteBuffer buf = ByteBuffer.allocate((int) Math.min(base.size(), MAX_HEADER_BYTES));
+      readFully(base, buf, 0);
+      buf.flip();
+      this.header = MapFile.readHeader(buf);
+
+      if (header.dataOffset() + header.tileCount() * 2 > base.size()) {
+        throw new IllegalArgumentException("Truncated map file: " + path);
+      }
+
+      long rowBytes = header.width() * 2L;
+      if (rowBytes > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Map too wide to stream: " + header.width());
+      }
+      this.rowsPerSegment =
+          (int) Math.max(1, Math.min(header.height(), maxSegmentBytes / rowBytes));
+      this.segments = new ShortBuffer[(header.height() + rowsPerSegment - 1) / rowsPerSegment];
+      for (int i = 0; i < segments.length; i++) {
+        int rows = Math.min(rowsPerSegment, header.height() - i * rowsPerSegment);
+        long start = header.dataOffset() + (long) i * rowsPerSegment * rowBytes;
+        segments[i] = base.map(FileChannel.MapMode.READ_ONLY, start, rows * rowBytes)
+            .order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+      }
+    } catch (IOException | RuntimeException e) {
+      base.close();
+      throw e;
+    }
+  }
+
+  public MapFile.Header getHeader() {
+    return header;
+  }
+
+  @Override
+  public void read(int chunkCol, int chunkRow, short[] out) throws IOException {
+    Long offset = overlayOffsets.get(WorldMap.chunkKey(chunkCol, chunkRow));
+    if (offset != null) {
+      ByteBuffer buf = ByteBuffer.allocate(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      readFully(overlay, buf, offset);
+      buf.flip();
+      buf.asShortBuffer().get(out);
+      return;
+    }
+
+    Arrays.fill(out, WorldMap.EMPTY);
+    int startCol = chunkCol * WorldMap.CHUNK_SIZE;
+    int startRow = chunkRow * WorldMap.CHUNK_SIZE;
+    int cols = Math.min(WorldMap.CHUNK_SIZE, header.width() - startCol);
+    int rows = Math.min(WorldMap.CHUNK_SIZE, header.height() - startRow);
+
+    // One copy per row of the chunk, since rows are not contiguous in the file. Absolute gets
+    // leave the shared buffers untouched, so the loader and the game thread can both read.
+    for (int row = 0; row < rows; row++) {
+      int mapRow = startRow + row;
+      int index = (mapRow % rowsPerSegment) * header.width() + startCol;
+      segments[mapRow / rowsPerSegment].get(index, out, row * WorldMap.CHUNK_SIZE, cols);
+    }
+  }
+
+  @Override
+  public synchronized void write(int chunkCol, int chunkRow, short[] ids) throws IOException {
+    if (overlay == null) {
+      Path path = Files.createTempFile("tidal-island-", ".chunks");
+      overlay = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+          StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    long key = WorldMap.chunkKey(chunkCol, chunkRow);
+    Long offset = overlayOffsets.get(key);
+    if (offset == null) {
+      offset = overlaySize;
+      overlaySize += CHUNK_BYTES;
+    }
+
+    ByteBuffer buf = ByteBuffer.allocate(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buf.asShortBuffer().put(ids);
+    while (buf.hasRemaining()) {
+      overlay.write(buf, offset + buf.position());
+    }
+    overlayOffsets.put(key, offset); // publish only once the data is written
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    base.close();
+    if (overlay != null) {
+      overlay.close();
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buf, long position)
+      throws IOException {
+    long start = position - buf.position();
+    while (buf.hasRemaining()) {
+      if (channel.read(buf, start + buf.position()) < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+    }
+  }
+}
@@ -7,10 +7,19 @@ import io.tidalisland.graphics.sprites.Sprite;
  */
 public class Tile {
 
+  /** Flag of tiles that block movement. */
+  public static final int SOLID = 1;
+  /** Flag of tiles that flood and carry floating objects. */
+  public static final int WATER = 1 << 1;
+  /** Flag of tiles that things can be spawned or placed on. */
+  public static final int BUILDABLE = 1 << 2;
+
   private final int id;
   private final String name;
   private Sprite sprite;
   private boolean solid;
+  private final boolean water;
+  private final boolean buildable;
 
   /**
    * Initializes a tile.
@@ -19,12 +28,30 @@ public class Tile {
    * @param name the tile name
    * @param sprite the tile sprite
    * @param solid whether the tile is solid
+   * @param water whether the tile is water
+   * @param buildable whether things can be spawned or placed on the tile
    */
-  public Tile(int id, String name, Sprite sprite, boolean solid) {
+  public Tile(int id, String name, Sprite sprite, boolean solid, boolean water,
+      boolean buildable) {
     this.id = id;
     this.name = name;
     this.sprite = sprite;
     this.solid = solid;
+    this.water = water;
+    this.buildable = buildable;
+  }
+
+  /**
+   * Initializes a tile. A tile named "water" is water; any other tile that is not solid is
+   * buildable.
+   *
+   * @param id the tile id
+   * @param name the tile name
+   * @param sprite the tile sprite
+   * @param solid whether the tile is solid
+   */
+  public Tile(int id, String name, Sprite sprite, boolean solid) {
+    this(id, name, sprite, solid, "water".equals(name), !solid && !"water".equals(name));
   }
 
   public int getId() {
@@ -43,6 +70,27 @@ public class Tile {
     return solid;
   }
 
+  public boolean isWater() {
+    return water;
+  }
+
+  public boolean isBuildable() {
+    return buildable;
+  }
+
+  /**
+   * Gets the tile's flags.
+   *
+   * @return a combination of {@link #SOLID}, {@link #WATER} and {@link #BUILDABLE}
+   */
+  public int getFlags() {
+    return (solid ? SOLID : 0) | (water ? WATER : 0) | (buildable ? BUILDABLE : 0);
+  }
+
+  /**
+   * Sets whether the tile is solid. World maps pick up the change when their tile set is set
+   * again.
+   */
   public void setSolid(boolean solid) {
     this.solid = solid;
   }
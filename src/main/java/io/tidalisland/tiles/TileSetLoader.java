@@ -25,7 +25,9 @@ public class TileSetLoader {
       TileSet tileset = new TileSet();
 
       for (TileData t : data.tiles) {
-        Tile tile = new Tile(t.id, t.name, new Sprite(t.sprite), t.solid);
+        boolean water = t.water != null ? t.water : "water".equals(t.name);
+        boolean buildable = t.buildable != null ? t.buildable : !t.solid && !water;
+        Tile tile = new Tile(t.id, t.name, new Sprite(t.sprite), t.solid, water, buildable);
         tileset.set(t.id, tile);
       }
 
@@ -46,5 +48,7 @@ public class TileSetLoader {
     public String name;
     public String sprite;
     public boolean solid;
+    public Boolean water; // defaults to true for a tile named "water"
+    public Boolean buildable; // defaults to true for tiles that are neither solid nor water
   }
 }
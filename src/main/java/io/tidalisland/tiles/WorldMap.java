@@ -1,29 +1,169 @@
 package io.tidalisland.tiles;
 
 import io.tidalisland.config.Config;
+import io.tidalisland.events.EventListener;
+import io.tidalisland.events.Observable;
+import io.tidalisland.events.TileChangeEvent;
 import io.tidalisland.graphics.Camera;
-import io.tidalisland.utils.Position;
+import io.tidalisland.graphics.CompatibleImages;
+import java.awt.AlphaComposite;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * The world map.
+ *
+ * <p>Tiles are stored in chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE}. Each chunk holds a
+ * compact array of tile ids, with a bitset per flag ({@link Tile#SOLID}, {@link Tile#WATER},
+ * {@link Tile#BUILDABLE}) so that collision, tide and spawn checks are a single bit test. The
+ * bitsets are derived from the tile set when a chunk is paged in and kept in sync by
+ * {@link #setTile(int, int, int)}.
+ *
+ * <p>Only a bounded number of chunks are resident at a time. {@link #streamAround(int, int)}
+ * loads the chunks around a point on a background thread before they are needed; a chunk that is
+ * needed before it arrives is read right away. When the cache is full, the least recently used
+ * chunk is evicted and, if it changed, written back to its {@link ChunkSource}. Memory use
+ * therefore depends on the cache size, not on the size of the world.
+ *
+ * <p>Resident chunks are rendered through a cached image in the display's pixel format. A chunk is
+ * rasterized the first time it becomes visible, or just before, and again only after one of its
+ * tiles changes or the game moves to another display.
  */
-public class WorldMap {
+public class WorldMap implements Closeable, Observable<TileChangeEvent> {
 
-  private Tile[][] map;
+  private static final int CHUNK_SHIFT = 4;
+  private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+  /** Width and height of a chunk (in tiles). */
+  public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+  /** Tile id of cells without a tile. */
+  public static final short EMPTY = -1;
+
+  /** How many chunks past the edges of the screen are streamed in ahead of time. */
+  private static final int STREAM_MARGIN = 1;
+
+  /** Most images of evicted chunks kept for reuse. */
+  private static final int IMAGE_POOL_SIZE = 4;
+
+  private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "chunk-loader");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final int width;
+  private final int height;
+  private final int chunkCols;
+  private final int chunkRows;
+  private final ChunkSource source;
   private TileSet tileSet;
+  private int[] tileFlags = new int[0]; // flags of each tile id
+
+  private final Map<Long, Chunk> resident; // in least recently used order
+  private final Map<Long, Future<short[]>> pending = new HashMap<>();
+  private final Object sourceLock = new Object(); // held by the loader while it reads
+  private volatile boolean closed;
+  private final ArrayDeque<BufferedImage> imagePool = new ArrayDeque<>();
+  private int imageGeneration = CompatibleImages.getGeneration(); // of every cached image
+  private Chunk lastChunk; // skips the lookup for repeated queries on the same chunk
+
+  private final CopyOnWriteArrayList<EventListener<TileChangeEvent>> listeners =
+      new CopyOnWriteArrayList<>();
 
   /**
    * Initializes the world map.
    */
   public WorldMap() {
-    WorldMapLoader.LoadResult result = WorldMapLoader.load("/maps/map.json");
-    if (result != null) {
-      this.map = result.map;
-      this.tileSet = result.tileSet;
-    } else {
-      this.map = new Tile[Config.mapHeight()][Config.mapWidth()];
+    this(WorldMapLoader.load("/maps/map.tmap"));
+  }
+
+  private WorldMap(WorldMapLoader.LoadResult result) {
+    this(result != null ? result.width : Config.mapWidth(),
+        result != null ? result.height : Config.mapHeight(),
+        result != null ? result.source : null,
+        Math.max(Config.chunkCacheSize(), minResidentChunks()),
+        result != null ? result.tileSet : null);
+  }
+
+  /**
+   * Gets the fewest chunks that must stay resident for streaming not to evict chunks it still
+   * needs: every chunk {@link #streamAround(int, int)} can request, plus a ring around them, since
+   * the simulation and the camera stream around points that can differ, plus the chunks the tide
+   * floods (see {@link Config#tideChunkRadius()}), which the player may have left.
+   */
+  static int minResidentChunks() {
+    int chunkPixels = CHUNK_SIZE * Config.tileSize();
+    int cols = (Config.screenWidth() + 2 * STREAM_MARGIN * chunkPixels) / chunkPixels + 2;
+    int rows = (Config.screenHeight() + 2 * STREAM_MARGIN * chunkPixels) / chunkPixels + 2;
+    int tideSide = 2 * Config.tideChunkRadius() + 1;
+    return (cols + 2) * (rows + 2) + tideSide * tideSide;
+  }
+
+  /**
+   * Initializes a world map from tile ids. The ids are already in memory, so every chunk stays
+   * resident.
+   *
+   * @param width the width of the map (in tiles)
+   * @param height the height of the map (in tiles)
+   * @param tileIds the tile ids, indexed by {@code row * width + col}, or null for an empty map
+   * @param tileSet the tile set the ids refer to
+   * @throws IllegalArgumentException if the dimensions are invalid or do not match the ids
+   */
+  public WorldMap(int width, int height, short[] tileIds, TileSet tileSet) {
+    this(width, height, arraySource(width, height, tileIds), Integer.MAX_VALUE, tileSet);
+  }
+
+  /**
+   * Initializes a world map that pages its chunks in from a source.
+   *
+   * @param width the width of the map (in tiles)
+   * @param height the height of the map (in tiles)
+   * @param source the source of the chunks, or null for an empty map
+   * @param maxResidentChunks the most chunks kept in memory at once
+   * @param tileSet the tile set the ids refer to
+   * @throws IllegalArgumentException if the dimensions or the cache size are invalid
+   */
+  public WorldMap(int width, int height, ChunkSource source, int maxResidentChunks,
+      TileSet tileSet) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("World map must have at least one tile");
+    }
+    if (maxResidentChunks < 1) {
+      throw new IllegalArgumentException("At least one chunk must be resident");
     }
+    this.width = width;
+    this.height = height;
+    this.chunkCols = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    this.chunkRows = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    this.source = source != null ? source : arraySource(width, height, null);
+
+    this.resident = new LinkedHashMap<>(64, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+        if (size() <= maxResidentChunks) {
+          return false;
+        }
+        evict(eldest.getValue());
+        return true;
+      }
+    };
+
+    setTileSet(tileSet);
   }
 
   /**
@@ -31,34 +171,118 @@ public class WorldMap {
    *
    * @param col the column
    * @param row the row
+   * @return the tile, or null if there is none or the position is outside the map
    */
   public Tile getTile(int col, int row) {
-    if (col < 0 || col >= Config.mapWidth() || row < 0 || row >= Config.mapHeight()) {
-      return null;
+    int id = getTileId(col, row);
+    return id < 0 || tileSet == null || id >= tileSet.size() ? null : tileSet.get(id);
+  }
+
+  /**
+   * Gets the id of the tile at the given position.
+   *
+   * @param col the column
+   * @param row the row
+   * @return the tile id, or {@link #EMPTY} if there is none or the position is outside the map
+   */
+  public int getTileId(int col, int row) {
+    if (!inBounds(col, row)) {
+      return EMPTY;
     }
-    return map[col][row];
+    return chunk(col >> CHUNK_SHIFT, row >> CHUNK_SHIFT).tileIds[cell(col, row)];
   }
 
   /**
-   * Sets a tile at the given position.
+   * Sets a tile at the given position. Listeners are notified if the tile changes.
    *
    * @param col the column
    * @param row the row
    * @param tileId the tile id
    */
   public void setTile(int col, int row, int tileId) {
-    if (col < 0 || col >= Config.mapWidth() || row < 0 || row >= Config.mapHeight()) {
+    if (!inBounds(col, row)) {
       return;
     }
     if (tileSet == null) {
       System.err.println("Warning: TileSet not initialized in WorldMap");
       return;
     }
-    map[col][row] = tileSet.get(tileId);
+    Chunk chunk = chunk(col >> CHUNK_SHIFT, row >> CHUNK_SHIFT);
+    int idx = cell(col, row);
+    int oldTileId = chunk.tileIds[idx];
+    if (oldTileId == tileId) {
+      return;
+    }
+    tileSet.get(tileId); // validates the id
+    chunk.tileIds[idx] = (short) tileId;
+    chunk.setFlags(idx, tileFlags[tileId]);
+    chunk.modified = true;
+    chunk.imageDirty = true;
+
+    if (!listeners.isEmpty()) {
+      dispatch(new TileChangeEvent(col, row, oldTileId, tileId), listeners);
+    }
   }
 
+  @Override
+  public void addListener(EventListener<TileChangeEvent> listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void removeListener(EventListener<TileChangeEvent> listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Checks if the tile at the given position is solid.
+   *
+   * @return true if the tile is solid, false if not or outside the map
+   */
+  public boolean isSolid(int col, int row) {
+    return inBounds(col, row)
+        && chunk(col >> CHUNK_SHIFT, row >> CHUNK_SHIFT).solid.get(cell(col, row));
+  }
+
+  /**
+   * Checks if the tile at the given position is water.
+   *
+   * @return true if the tile is water, false if not or outside the map
+   */
+  public boolean isWater(int col, int row) {
+    return inBounds(col, row)
+        && chunk(col >> CHUNK_SHIFT, row >> CHUNK_SHIFT).water.get(cell(col, row));
+  }
+
+  /**
+   * Checks if things can be spawned or placed on the tile at the given position.
+   *
+   * @return true if the tile is buildable, false if not or outside the map
+   */
+  public boolean isBuildable(int col, int row) {
+    return inBounds(col, row)
+        && chunk(col >> CHUNK_SHIFT, row >> CHUNK_SHIFT).buildable.get(cell(col, row));
+  }
+
+  /**
+   * Checks if a position is inside the map.
+   */
+  public boolean inBounds(int col, int row) {
+    return col >= 0 && col < width && row >= 0 && row < height;
+  }
+
+  /** Sets the tile set, rebuilds the tile flags and invalidates every cached chunk image. */
   public void setTileSet(TileSet tileSet) {
     this.tileSet = tileSet;
+    tileFlags = new int[tileSet != null ? tileSet.size() : 0];
+    for (int id = 0; id < tileFlags.length; id++) {
+      Tile tile = tileSet.get(id);
+      tileFlags[id] = tile != null ? tile.getFlags() : 0;
+    }
+    for (Chunk chunk : resident.values()) {
+      updateFlags(chunk);
+      chunk.imageDirty = true;
+    }
   }
 
   public TileSet getTileSet() {
@@ -66,28 +290,312 @@ public class WorldMap {
   }
 
   /**
-   * Draws the world map.
+   * Width of the map (in tiles).
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Height of the map (in tiles).
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Gets the number of chunks currently in memory.
+   */
+  public int getResidentChunkCount() {
+    return resident.size();
+  }
+
+  /**
+   * Streams in the chunks within a screen, plus a margin, of a point. Chunks that finished loading
+   * since the last call become resident; missing ones are queued on the background loader.
+   *
+   * @param x the x coordinate of the point (in pixels)
+   * @param y the y coordinate of the point (in pixels)
+   */
+  public void streamAround(int x, int y) {
+    installLoaded();
+
+    int chunkPixels = CHUNK_SIZE * Config.tileSize();
+    int reachX = Config.screenWidth() / 2 + STREAM_MARGIN * chunkPixels;
+    int reachY = Config.screenHeight() / 2 + STREAM_MARGIN * chunkPixels;
+
+    int firstCol = Math.max(0, Math.floorDiv(x - reachX, chunkPixels));
+    int firstRow = Math.max(0, Math.floorDiv(y - reachY, chunkPixels));
+    int lastCol = Math.min(chunkCols - 1, Math.floorDiv(x + reachX, chunkPixels));
+    int lastRow = Math.min(chunkRows - 1, Math.floorDiv(y + reachY, chunkPixels));
+
+    for (int chunkRow = firstRow; chunkRow <= lastRow; chunkRow++) {
+      for (int chunkCol = firstCol; chunkCol <= lastCol; chunkCol++) {
+        request(chunkCol, chunkRow);
+      }
+    }
+  }
+
+  /**
+   * Draws the world map. Only the chunks that intersect the camera view are drawn.
    */
   public void draw(Graphics g, Camera camera) {
-    for (int row = 0; row < Config.mapHeight(); row++) {
-      for (int col = 0; col < Config.mapWidth(); col++) {
-        Tile tile = map[col][row];
-        if (tile == null) {
-          continue;
+    int chunkPixels = CHUNK_SIZE * Config.tileSize();
+    int camX = camera.getPosition().getX();
+    int camY = camera.getPosition().getY();
+    streamAround(camX + Config.screenWidth() / 2, camY + Config.screenHeight() / 2);
+    discardOutdatedImages();
+
+    int firstCol = Math.max(0, Math.floorDiv(camX, chunkPixels));
+    int firstRow = Math.max(0, Math.floorDiv(camY, chunkPixels));
+    int lastCol = Math.min(chunkCols - 1, Math.floorDiv(camX + Config.screenWidth(), chunkPixels));
+    int lastRow =
+        Math.min(chunkRows - 1, Math.floorDiv(camY + Config.screenHeight(), chunkPixels));
+
+    for (int chunkRow = firstRow; chunkRow <= lastRow; chunkRow++) {
+      for (int chunkCol = firstCol; chunkCol <= lastCol; chunkCol++) {
+        Chunk chunk = chunk(chunkCol, chunkRow);
+        if (chunk.imageDirty) {
+          rasterize(chunk);
+        }
+        g.drawImage(chunk.image, chunkCol * chunkPixels - camX, chunkRow * chunkPixels - camY,
+            null);
+      }
+    }
+
+    // Rasterize at most one resident chunk next to the view per frame, so that scrolling onto it
+    // does not stall
+    for (int chunkRow = firstRow - 1; chunkRow <= lastRow + 1; chunkRow++) {
+      for (int chunkCol = firstCol - 1; chunkCol <= lastCol + 1; chunkCol++) {
+        Chunk chunk = resident.get(chunkKey(chunkCol, chunkRow));
+        if (chunk != null && chunk.imageDirty) {
+          rasterize(chunk);
+          return;
         }
+      }
+    }
+  }
+
+  /**
+   * Stops streaming and releases the chunk source. Changes to chunks are not written back. Waits
+   * for a chunk the loader is reading; queued loads are cancelled.
+   */
+  @Override
+  public void close() {
+    closed = true; // loads that have not started skip the source from now on
+    synchronized (sourceLock) {
+      // waits for a load that already started
+    }
+    for (Future<short[]> future : pending.values()) {
+      future.cancel(false);
+    }
+    pending.clear();
+    resident.clear();
+    lastChunk = null;
+    imagePool.clear();
+    try {
+      source.close();
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Packs chunk coordinates into a single key.
+   */
+  static long chunkKey(int chunkCol, int chunkRow) {
+    return ((long) chunkCol << 32) | (chunkRow & 0xFFFFFFFFL);
+  }
+
+  /** Index of a tile within its chunk. */
+  private static int cell(int col, int row) {
+    return ((row & CHUNK_MASK) << CHUNK_SHIFT) | (col & CHUNK_MASK);
+  }
+
+  /**
+   * Gets a chunk, paging it in if needed.
+   */
+  private Chunk chunk(int chunkCol, int chunkRow) {
+    Chunk chunk = lastChunk;
+    if (chunk != null && chunk.chunkCol == chunkCol && chunk.chunkRow == chunkRow) {
+      return chunk;
+    }
 
-        Position screenPos = new Position(col * Config.tileSize(), row * Config.tileSize());
-        screenPos = screenPos.subtract(camera.getPosition());
+    long key = chunkKey(chunkCol, chunkRow);
+    chunk = resident.get(key);
+    if (chunk == null) {
+      Future<short[]> future = pending.remove(key);
+      short[] ids = future != null ? await(future, chunkCol, chunkRow) : read(chunkCol, chunkRow);
+      chunk = install(chunkCol, chunkRow, ids);
+    }
+    lastChunk = chunk;
+    return chunk;
+  }
 
-        // Only draw tiles that are visible on screen
-        if (screenPos.getX() + Config.tileSize() < 0 || screenPos.getX() > Config.screenWidth()
-            || screenPos.getY() + Config.tileSize() < 0
-            || screenPos.getY() > Config.screenHeight()) {
-          continue;
+  /** Queues a chunk on the background loader unless it is resident or already queued. */
+  private void request(int chunkCol, int chunkRow) {
+    long key = chunkKey(chunkCol, chunkRow);
+    if (resident.get(key) != null || pending.containsKey(key)) {
+      return; // the lookup also marks the chunk as recently used
+    }
+    pending.put(key, LOADER.submit(() -> {
+      short[] ids = new short[Chunk.CELLS];
+      synchronized (sourceLock) {
+        if (closed) {
+          return null; // the map was closed before the load started
         }
+        source.read(chunkCol, chunkRow, ids);
+      }
+      return ids;
+    }));
+  }
+
+  /** Makes every chunk that finished loading resident. */
+  private void installLoaded() {
+    Iterator<Map.Entry<Long, Future<short[]>>> it = pending.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Long, Future<short[]>> entry = it.next();
+      if (!entry.getValue().isDone()) {
+        continue;
+      }
+      it.remove();
+      long key = entry.getKey();
+      int chunkCol = (int) (key >> 32);
+      int chunkRow = (int) key;
+      install(chunkCol, chunkRow, await(entry.getValue(), chunkCol, chunkRow));
+    }
+  }
+
+  private Chunk install(int chunkCol, int chunkRow, short[] ids) {
+    Chunk chunk = new Chunk(chunkCol, chunkRow, ids);
+    updateFlags(chunk);
+    resident.put(chunkKey(chunkCol, chunkRow), chunk);
+    return chunk;
+  }
+
+  /** Waits for a background load, reading the chunk directly if it failed. */
+  private short[] await(Future<short[]> future, int chunkCol, int chunkRow) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      e.getCause().printStackTrace();
+    }
+    return read(chunkCol, chunkRow);
+  }
+
+  /** Reads a chunk on the calling thread. A chunk that cannot be read is empty. */
+  private short[] read(int chunkCol, int chunkRow) {
+    short[] ids = new short[Chunk.CELLS];
+    try {
+      source.read(chunkCol, chunkRow, ids);
+    } catch (IOException e) {
+      e.printStackTrace();
+      Arrays.fill(ids, EMPTY);
+    }
+    return ids;
+  }
+
+  /** Writes back a chunk that is leaving the cache and keeps its image for reuse. */
+  private void evict(Chunk chunk) {
+    if (chunk == lastChunk) {
+      lastChunk = null;
+    }
+    if (chunk.modified) {
+      try {
+        source.write(chunk.chunkCol, chunk.chunkRow, chunk.tileIds);
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+    if (chunk.image != null && imagePool.size() < IMAGE_POOL_SIZE) {
+      imagePool.push(chunk.image);
+    }
+  }
+
+  /**
+   * Drops every cached chunk image if the display configuration changed since they were made, so
+   * that they are recreated in the new pixel format.
+   */
+  private void discardOutdatedImages() {
+    int generation = CompatibleImages.getGeneration();
+    if (generation == imageGeneration) {
+      return;
+    }
+    imageGeneration = generation;
+    imagePool.clear();
+    for (Chunk chunk : resident.values()) {
+      chunk.image = null;
+      chunk.imageDirty = true;
+    }
+  }
+
+  /** Copies the flags of every tile of a chunk into its bitsets. */
+  private void updateFlags(Chunk chunk) {
+    for (int idx = 0; idx < Chunk.CELLS; idx++) {
+      int id = chunk.tileIds[idx];
+      chunk.setFlags(idx, id >= 0 && id < tileFlags.length ? tileFlags[id] : 0);
+    }
+  }
+
+  /**
+   * Rasterizes a chunk into its cached image at the current pixel scale.
+   */
+  private void rasterize(Chunk chunk) {
+    int tileSize = Config.tileSize();
+    int cols = Math.min(CHUNK_SIZE, width - chunk.chunkCol * CHUNK_SIZE);
+    int rows = Math.min(CHUNK_SIZE, height - chunk.chunkRow * CHUNK_SIZE);
+
+    BufferedImage image = chunk.image;
+    if (image == null || image.getWidth() != cols * tileSize
+        || image.getHeight() != rows * tileSize) {
+      image = imagePool.poll();
+      if (image == null || image.getWidth() != cols * tileSize
+          || image.getHeight() != rows * tileSize) {
+        image = CompatibleImages.create(cols * tileSize, rows * tileSize);
+      }
+      chunk.image = image;
+    }
+
+    Graphics2D g = image.createGraphics();
+    try {
+      // Clear previous contents so missing tiles stay transparent
+      g.setComposite(AlphaComposite.Clear);
+      g.fillRect(0, 0, image.getWidth(), image.getHeight());
+      g.setComposite(AlphaComposite.SrcOver);
 
-        tile.getSprite().getFrame().draw(g, screenPos);
+      for (int row = 0; row < rows; row++) {
+        for (int col = 0; col < cols; col++) {
+          int id = chunk.tileIds[(row << CHUNK_SHIFT) | col];
+          Tile tile = id < 0 || tileSet == null || id >= tileSet.size() ? null : tileSet.get(id);
+          if (tile == null) {
+            continue;
+          }
+          tile.getSprite().getFrame().drawScaled(g, col * tileSize, row * tileSize, tileSize,
+              tileSize);
+        }
       }
+    } finally {
+      g.dispose();
+    }
+    chunk.imageDirty = false;
+  }
+
+  /**
+   * Creates a source over tile ids in memory, checking that they match the dimensions.
+   */
+  private static ChunkSource arraySource(int width, int height, short[] tileIds) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("World map must have at least one tile");
+    }
+    if (tileIds == null) {
+      tileIds = new short[width * height];
+      Arrays.fill(tileIds, EMPTY);
+    } else if (tileIds.length != width * height) {
+      throw new IllegalArgumentException(
+          "Expected " + width * height + " tile ids, got " + tileIds.length);
     }
+    return new ArrayChunkSource(width, height, tileIds);
   }
 }
@@ -1,8 +1,10 @@
 package io.tidalisland.tiles;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.tidalisland.config.Config;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -11,41 +13,40 @@ import java.util.List;
 public class WorldMapLoader {
 
   /**
-   * Loads a world map with map daa and tileset from a file.
+   * Loads a world map with map data and tileset from a file. Paths ending in
+   * {@value MapFile#EXTENSION} are read as {@link MapFile binary maps}, anything else as JSON.
+   * Binary maps that are plain files are streamed chunk by chunk; other maps are read whole.
    *
    * @param path the path to the file
-   * @return the loaded world map
+   * @return the loaded world map, or null if it could not be loaded
    */
   public static LoadResult load(String path) {
-    try (InputStream is = WorldMapLoader.class.getResourceAsStream(path)) {
-      if (is == null) {
-        throw new IllegalArgumentException("Map file not found: " + path);
-      }
-
-      ObjectMapper mapper = new ObjectMapper();
-      WorldMapData data = mapper.readValue(is, WorldMapData.class);
-
-      if (data.layout.size() != Config.mapHeight()) {
-        throw new IllegalArgumentException("Incorrect number of rows: " + data.layout.size());
+    try {
+      if (path.endsWith(MapFile.EXTENSION)) {
+        URL url = WorldMapLoader.class.getResource(path);
+        if (url == null) {
+          throw new IllegalArgumentException("Map file not found: " + path);
+        }
+        if ("file".equals(url.getProtocol())) {
+          // Stream chunks from the file instead of reading it whole
+          MapFileChunkSource source = new MapFileChunkSource(Path.of(url.toURI()));
+          MapFile.Header header = source.getHeader();
+          return new LoadResult(header.width(), header.height(), source,
+              TileSetLoader.load(header.tileSetPath()));
+        }
       }
 
-      Tile[][] map = new Tile[Config.mapHeight()][Config.mapWidth()];
-      TileSet tileSet = TileSetLoader.load(data.tileset);
-
-      for (int row = 0; row < Config.mapHeight(); row++) {
-        List<Integer> tilesRow = data.layout.get(row);
-
-        if (tilesRow.size() != Config.mapWidth()) {
-          throw new IllegalArgumentException("Incorrect columns in row " + row);
-        }
+      MapFile mapFile = path.endsWith(MapFile.EXTENSION) ? readBinary(path) : readJson(path);
+      TileSet tileSet = TileSetLoader.load(mapFile.getTileSetPath());
 
-        for (int col = 0; col < Config.mapWidth(); col++) {
-          int id = tilesRow.get(col);
-          map[col][row] = tileSet.get(id);
-        }
+      // Validate the ids once, so later lookups cannot fail
+      for (short id : mapFile.getTileIds()) {
+        tileSet.get(id);
       }
 
-      return new LoadResult(map, tileSet);
+      return new LoadResult(mapFile.getWidth(), mapFile.getHeight(),
+          new ArrayChunkSource(mapFile.getWidth(), mapFile.getHeight(), mapFile.getTileIds()),
+          tileSet);
 
     } catch (Exception e) {
       e.printStackTrace();
@@ -53,6 +54,24 @@ public class WorldMapLoader {
     }
   }
 
+  /**
+   * Reads a whole binary map from a resource that is not a plain file, such as one packed in a jar.
+   */
+  private static MapFile readBinary(String path) throws Exception {
+    try (InputStream is = WorldMapLoader.class.getResourceAsStream(path)) {
+      return MapFile.read(ByteBuffer.wrap(is.readAllBytes()));
+    }
+  }
+
+  private static MapFile readJson(String path) throws Exception {
+    try (InputStream is = WorldMapLoader.class.getResourceAsStream(path)) {
+      if (is == null) {
+        throw new IllegalArgumentException("Map file not found: " + path);
+      }
+      return MapFile.fromJson(new ObjectMapper().readValue(is, WorldMapData.class));
+    }
+  }
+
   /** Data for world map. */
   public static class WorldMapData {
     public List<List<Integer>> layout;
@@ -61,11 +80,23 @@ public class WorldMapLoader {
 
   /** Result containing both map and tileset. */
   public static class LoadResult {
-    public final Tile[][] map;
+    public final int width;
+    public final int height;
+    public final ChunkSource source;
     public final TileSet tileSet;
 
-    public LoadResult(Tile[][] map, TileSet tileSet) {
-      this.map = map;
+    /**
+     * Creates a load result.
+     *
+     * @param width the width of the map (in tiles)
+     * @param height the height of the map (in tiles)
+     * @param source the source of the map's chunks
+     * @param tileSet the tile set
+     */
+    public LoadResult(int width, int height, ChunkSource source, TileSet tileSet) {
+      this.width = width;
+      this.height = height;
+      this.source = source;
       this.tileSet = tileSet;
     }
   }
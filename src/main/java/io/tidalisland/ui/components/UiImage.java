@@ -1,11 +1,10 @@
 package io.tidalisland.ui.components;
 
+import io.tidalisland.graphics.AssetManager;
 import io.tidalisland.input.KeyHandler;
 import io.tidalisland.input.MouseHandler;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 /**
  * A component that displays an image.
@@ -42,8 +41,8 @@ public class UiImage extends UiComponent {
   public UiImage(String path, int width, int height, int x, int y) {
     super(width, height, x, y);
     try {
-      this.image = ImageIO.read(getClass().getResourceAsStream(path));
-    } catch (IOException e) {
+      this.image = AssetManager.getImage(path);
+    } catch (IllegalArgumentException e) {
       e.printStackTrace();
     }
   }
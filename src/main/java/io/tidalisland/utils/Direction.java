@@ -4,5 +4,27 @@ package io.tidalisland.utils;
  * Represents the possible movement directions in a 2D space.
  */
 public enum Direction {
-  UP, DOWN, LEFT, RIGHT, NONE;
+  UP(0, -1), DOWN(0, 1), LEFT(-1, 0), RIGHT(1, 0), NONE(0, 0);
+
+  private final int dx;
+  private final int dy;
+
+  Direction(int dx, int dy) {
+    this.dx = dx;
+    this.dy = dy;
+  }
+
+  /**
+   * Gets the change in x-coordinate of one step in this direction.
+   */
+  public int getDx() {
+    return dx;
+  }
+
+  /**
+   * Gets the change in y-coordinate of one step in this direction.
+   */
+  public int getDy() {
+    return dy;
+  }
 }
@@ -0,0 +1,268 @@
+package io.tidalisland.utils;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash map from primitive {@code long} keys to objects, using open addressing with linear
+ * probing.
+ *
+ * <p>Keys are stored unboxed in a flat array, so lookups neither allocate nor follow pointers to
+ * key objects. Null values are not allowed; an empty slot is one without a value. Removal shifts
+ * the following entries back instead of leaving tombstones, so lookups stay fast after many
+ * removals.
+ *
+ * @param <V> the type of values
+ */
+public class LongObjectMap<V> {
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private Object[] values;
+  private int mask;
+  private int size = 0;
+  private int modCount = 0;
+
+  /**
+   * Receives the entries of a map.
+   */
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+
+    /**
+     * Called for each entry.
+     */
+    void accept(long key, V value);
+  }
+
+  /**
+   * Creates an empty map.
+   */
+  public LongObjectMap() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * Creates an empty map sized for a number of entries.
+   *
+   * @param expectedSize the number of entries to hold without resizing
+   */
+  public LongObjectMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2) - 1) << 1;
+    this.keys = new long[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Gets the value of a key.
+   *
+   * @param key the key
+   * @return the value, or null if the key is not in the map
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    for (int slot = slotOf(key); values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return (V) values[slot];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks if a key is in the map.
+   */
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Sets the value of a key.
+   *
+   * @param key the key
+   * @param value the value
+   * @return the previous value, or null if the key was not in the map
+   * @throws IllegalArgumentException if the value is null
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Value cannot be null");
+    }
+    int slot = slotOf(key);
+    for (; values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+      }
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    modCount++;
+    if (++size * 2 > values.length) {
+      resize(values.length * 2);
+    }
+    return null;
+  }
+
+  /**
+   * Removes a key.
+   *
+   * @param key the key
+   * @return the removed value, or null if the key was not in the map
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    int slot = slotOf(key);
+    for (; values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        V removed = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        modCount++;
+        return removed;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Removes every entry.
+   */
+  public void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * Number of entries.
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Passes every entry to a consumer, in no particular order.
+   *
+   * @param consumer the consumer
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(EntryConsumer<? super V> consumer) {
+    int expected = modCount;
+    for (int slot = 0; slot < values.length; slot++) {
+      if (values[slot] != null) {
+        consumer.accept(keys[slot], (V) values[slot]);
+        if (modCount != expected) {
+          throw new ConcurrentModificationException();
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets a read-only view of the values, in no particular order.
+   *
+   * @return the values
+   */
+  public Collection<V> values() {
+    return new AbstractCollection<>() {
+      @Override
+      public Iterator<V> iterator() {
+        return new ValueIterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private int slotOf(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L; // spread nearby keys over the table
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  /**
+   * Empties a slot and moves later entries of the same probe run back into the gap.
+   */
+  private void shiftBack(int gap) {
+    int slot = gap;
+    while (true) {
+      slot = (slot + 1) & mask;
+      if (values[slot] == null) {
+        break;
+      }
+      int home = slotOf(keys[slot]);
+      // Move the entry if its home is not between the gap and its current slot
+      boolean movable = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+      if (movable) {
+        keys[gap] = keys[slot];
+        values[gap] = values[slot];
+        gap = slot;
+      }
+    }
+    values[gap] = null;
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new long[capacity];
+    values = new Object[capacity];
+    mask = capacity - 1;
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = slotOf(oldKeys[i]);
+        while (values[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private final class ValueIterator implements Iterator<V> {
+    private final int expected = modCount;
+    private int slot = advance(0);
+
+    private int advance(int from) {
+      while (from < values.length && values[from] == null) {
+        from++;
+      }
+      return from;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return slot < values.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V next() {
+      if (modCount != expected) {
+        throw new ConcurrentModificationException();
+      }
+      if (slot >= values.length) {
+        throw new NoSuchElementException();
+      }
+      V value = (V) values[slot];
+      slot = advance(slot + 1);
+      return value;
+    }
+  }
+}
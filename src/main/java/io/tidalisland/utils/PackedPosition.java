@@ -0,0 +1,57 @@
+package io.tidalisland.utils;
+
+/**
+ * Packs a pair of int coordinates into a single long, for use as an immutable map key.
+ *
+ * <p>The x-coordinate goes in the upper 32 bits and the y-coordinate in the lower 32 bits, so
+ * every pair of ints has its own key and packing never allocates.
+ */
+public final class PackedPosition {
+
+  private PackedPosition() {}
+
+  /**
+   * Packs a pair of coordinates.
+   *
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return the packed key
+   */
+  public static long pack(int x, int y) {
+    return ((long) x << 32) | (y & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Packs the coordinates of a position.
+   *
+   * @param position the position
+   * @return the packed key
+   */
+  public static long of(Position position) {
+    return pack(position.getX(), position.getY());
+  }
+
+  /**
+   * Gets the x-coordinate of a packed key.
+   */
+  public static int x(long packed) {
+    return (int) (packed >> 32);
+  }
+
+  /**
+   * Gets the y-coordinate of a packed key.
+   */
+  public static int y(long packed) {
+    return (int) packed;
+  }
+
+  /**
+   * Unpacks a key into a new position.
+   *
+   * @param packed the packed key
+   * @return the position
+   */
+  public static Position toPosition(long packed) {
+    return new Position(x(packed), y(packed));
+  }
+}
@@ -40,14 +40,7 @@ public class Position {
    * @param distance the distance to move
    */
   public void move(Direction direction, int distance) {
-    switch (direction) {
-      case UP -> move(0, -distance);
-      case DOWN -> move(0, distance);
-      case LEFT -> move(-distance, 0);
-      case RIGHT -> move(distance, 0);
-      default -> {
-      }
-    }
+    move(direction.getDx() * distance, direction.getDy() * distance);
   }
 
   /**
@@ -82,6 +75,35 @@ public class Position {
     return new Position(x - other.getX(), y - other.getY());
   }
 
+  /**
+   * Returns a new position between this position and the given position. Coordinates are floored,
+   * so positions a fixed distance apart stay that distance apart when interpolated alike.
+   *
+   * @param target the position at {@code alpha = 1}
+   * @param alpha the interpolation factor (0.0 to 1.0)
+   * @return the resulting position
+   */
+  public Position lerp(Position target, double alpha) {
+    return new Position(0, 0).setLerp(this, target, alpha);
+  }
+
+  /**
+   * Moves this position between two positions, as {@link #lerp(Position, double)} does, without
+   * making a new one.
+   *
+   * @param from the position at {@code alpha = 0}
+   * @param to the position at {@code alpha = 1}
+   * @param alpha the interpolation factor (0.0 to 1.0)
+   * @return this position
+   */
+  public Position setLerp(Position from, Position to, double alpha) {
+    int lerpX = (int) Math.floor(from.x + (to.x - from.x) * alpha);
+    int lerpY = (int) Math.floor(from.y + (to.y - from.y) * alpha);
+    setX(lerpX);
+    setY(lerpY);
+    return this;
+  }
+
   /**
    * Creates and returns a copy of this position.
    *
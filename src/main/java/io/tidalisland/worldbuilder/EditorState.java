@@ -2,6 +2,8 @@ package io.tidalisland.worldbuilder;
 
 import io.tidalisland.tiles.Tile;
 import io.tidalisland.tiles.TileSet;
+import io.tidalisland.utils.LongObjectMap;
+import io.tidalisland.utils.PackedPosition;
 import io.tidalisland.utils.Position;
 import io.tidalisland.worldbuilder.actions.ActionHistory;
 import io.tidalisland.worldbuilder.actions.EditorAction;
@@ -18,7 +20,7 @@ public class EditorState {
 
   // Map data
   private final int[][] tileMap;
-  private final Map<Position, WorldObjectType> worldObjects;
+  private final LongObjectMap<WorldObjectType> worldObjects; // keyed by packed tile position
   private final TileSet tileSet;
 
   // Dimensions
@@ -48,7 +50,7 @@ public class EditorState {
     this.mapHeight = mapHeight;
     this.tileSet = tileSet;
     this.tileMap = new int[mapWidth][mapHeight];
-    this.worldObjects = new HashMap<>();
+    this.worldObjects = new LongObjectMap<>();
     this.viewPort = new ViewPort(mapWidth, mapHeight);
     this.actionHistory = new ActionHistory();
 
@@ -98,22 +100,30 @@ public class EditorState {
 
   /** Gets the world object id at a given position. */
   public WorldObjectType getWorldObject(Position pos) {
-    return worldObjects.get(pos);
+    return getWorldObject(pos.getX(), pos.getY());
+  }
+
+  /** Gets the world object id at a given tile. */
+  public WorldObjectType getWorldObject(int col, int row) {
+    return worldObjects.get(PackedPosition.pack(col, row));
   }
 
   /** Sets the world object at a given position. */
   public void setWorldObject(Position pos, WorldObjectType type) {
+    long key = PackedPosition.of(pos);
     if (type == null) {
-      worldObjects.remove(pos);
+      worldObjects.remove(key);
     } else {
-      worldObjects.put(pos, type);
+      worldObjects.put(key, type);
     }
     notifyChange();
   }
 
   /** Gets all world objects. */
   public Map<Position, WorldObjectType> getWorldObjects() {
-    return new HashMap<>(worldObjects);
+    Map<Position, WorldObjectType> copy = new HashMap<>();
+    worldObjects.forEach((key, type) -> copy.put(PackedPosition.toPosition(key), type));
+    return copy;
   }
 
   /** Checks if a position is within the map bounds. */
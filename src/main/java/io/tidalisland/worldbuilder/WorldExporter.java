@@ -1,6 +1,7 @@
 package io.tidalisland.worldbuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tidalisland.tiles.MapFile;
 import io.tidalisland.tiles.WorldMapLoader.WorldMapData;
 import io.tidalisland.utils.Position;
 import io.tidalisland.worldobjects.WorldObjectLoader.ObjectEntry;
@@ -41,10 +42,12 @@ public class WorldExporter {
   private static void exportWorldMap(EditorState state, ObjectMapper mapper, File dir,
       String tilesetPath) throws Exception {
     List<List<Integer>> layout = new ArrayList<>();
+    short[] tileIds = new short[state.getMapWidth() * state.getMapHeight()];
     for (int y = 0; y < state.getMapHeight(); y++) {
       List<Integer> row = new ArrayList<>();
       for (int x = 0; x < state.getMapWidth(); x++) {
         row.add(state.getTileId(x, y));
+        tileIds[y * state.getMapWidth() + x] = (short) state.getTileId(x, y);
       }
       layout.add(row);
     }
@@ -54,6 +57,10 @@ public class WorldExporter {
     mapData.layout = layout;
 
     mapper.writerWithDefaultPrettyPrinter().writeValue(new File(dir, "map.json"), mapData);
+
+    // Binary copy, which is what the game loads
+    new MapFile(state.getMapWidth(), state.getMapHeight(), tilesetPath, tileIds)
+        .write(new File(dir, "map" + MapFile.EXTENSION).toPath());
   }
 
   private static void exportWorldObjects(EditorState state, ObjectMapper mapper, File dir)
@@ -169,10 +169,9 @@ public class MapCanvas extends JPanel {
         }
 
         // Draw world object
-        Position tilePos = new Position(mapX, mapY);
-        WorldObjectType objType = state.getWorldObject(tilePos);
+        WorldObjectType objType = state.getWorldObject(mapX, mapY);
         if (objType != null) {
-          WorldObject obj = WorldObjectRegistry.create(objType, tilePos);
+          WorldObject obj = WorldObjectRegistry.create(objType, new Position(mapX, mapY));
           if (obj.getSpriteSet() != null) {
             obj.getSpriteSet().getFrame().drawScaled(g, pixelX, pixelY, ts, ts);
           }
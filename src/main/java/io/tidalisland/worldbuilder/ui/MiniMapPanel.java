@@ -80,7 +80,7 @@ public class MiniMapPanel extends JPanel {
         }
 
         // Draw world objects
-        WorldObjectType objType = state.getWorldObject(new Position(x, y));
+        WorldObjectType objType = state.getWorldObject(x, y);
         if (objType != null) {
           WorldObject obj = WorldObjectRegistry.create(objType, new Position(x, y));
           if (obj.getSpriteSet() != null) {
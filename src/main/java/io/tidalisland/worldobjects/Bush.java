@@ -3,7 +3,6 @@ package io.tidalisland.worldobjects;
 import io.tidalisland.collision.ColliderBuilder;
 import io.tidalisland.entities.Player;
 import io.tidalisland.graphics.Camera;
-import io.tidalisland.graphics.sprites.SpriteSetBuilder;
 import io.tidalisland.items.Leaf;
 import io.tidalisland.utils.Position;
 import java.awt.Graphics;
@@ -14,7 +13,8 @@ import java.util.List;
  */
 public class Bush extends WorldObject implements Interactable {
 
-  public static final WorldObjectType TYPE = new WorldObjectType("bush");
+  public static final WorldObjectType TYPE = new WorldObjectType("bush",
+      "/sprites/worldobjects/bush.png", "/sprites/worldobjects/bush.json");
 
   private int health = 2;
 
@@ -23,8 +23,7 @@ public class Bush extends WorldObject implements Interactable {
    */
   public Bush(Position position) {
     super(TYPE, position, true);
-    spriteSet =
-        SpriteSetBuilder.build("/sprites/worldobjects/bush.png", "/sprites/worldobjects/bush.json");
+    spriteSet = TYPE.createSpriteSet();
     collider = new ColliderBuilder().size(spriteSet.getFrame().getSize()).scale(0.8).build();
     collider.updatePosition(position);
   }
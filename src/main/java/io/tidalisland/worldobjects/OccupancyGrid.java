@@ -0,0 +1,144 @@
+package io.tidalisland.worldobjects;
+
+import io.tidalisland.collision.Collider;
+import io.tidalisland.collision.SpatialGrid;
+import io.tidalisland.config.Config;
+import io.tidalisland.tiles.WorldMap;
+import java.util.Arrays;
+
+/**
+ * Records which world object occupies each tile, for constant-time lookups.
+ *
+ * <p>Every object gets an int handle, and each tile its collider overlaps stores that handle, so
+ * finding the object on a tile is an array read. Tiles are grouped in pages the size of a world map
+ * chunk, and a page is only allocated once an object lands on it, so large, mostly empty maps cost
+ * little memory.
+ *
+ * <p>If several objects overlap the same tile, the tile stores one of them; when it is removed, the
+ * spatial grid is asked for another one.
+ */
+final class OccupancyGrid {
+
+  private static final int NONE = 0;
+  private static final int PAGE_SIZE = WorldMap.CHUNK_SIZE;
+
+  private final int width;
+  private final int height;
+  private final int pageCols;
+  private final int[][] pages;
+  private final SpatialGrid<WorldObject> spatialGrid;
+
+  // Handle table: objects[handle - 1] is the object with that handle
+  private WorldObject[] objects = new WorldObject[64];
+  private int[] freeHandles = new int[16];
+  private int freeCount = 0;
+  private int nextHandle = 1;
+
+  OccupancyGrid(int width, int height, SpatialGrid<WorldObject> spatialGrid) {
+    this.width = width;
+    this.height = height;
+    this.pageCols = (width + PAGE_SIZE - 1) / PAGE_SIZE;
+    int pageRows = (height + PAGE_SIZE - 1) / PAGE_SIZE;
+    this.pages = new int[pageCols * pageRows][];
+    this.spatialGrid = spatialGrid;
+  }
+
+  /**
+   * Gets the object occupying a tile.
+   *
+   * @return the object, or null if the tile is free or outside the map
+   */
+  WorldObject get(int col, int row) {
+    if (col < 0 || col >= width || row < 0 || row >= height) {
+      return null;
+    }
+    int[] page = pages[(row / PAGE_SIZE) * pageCols + col / PAGE_SIZE];
+    if (page == null) {
+      return null;
+    }
+    int handle = page[(row % PAGE_SIZE) * PAGE_SIZE + col % PAGE_SIZE];
+    return handle == NONE ? null : objects[handle - 1];
+  }
+
+  /**
+   * Gives an object a handle and marks the tiles it covers.
+   */
+  void add(WorldObject obj) {
+    int handle = freeCount > 0 ? freeHandles[--freeCount] : nextHandle++;
+    if (handle > objects.length) {
+      objects = Arrays.copyOf(objects, objects.length * 2);
+    }
+    objects[handle - 1] = obj;
+    obj.handle = handle;
+    mark(obj);
+  }
+
+  /**
+   * Clears the tiles an object covers and frees its handle.
+   */
+  void remove(WorldObject obj) {
+    if (obj.handle == NONE) {
+      return;
+    }
+    unmark(obj);
+    objects[obj.handle - 1] = null;
+    if (freeCount == freeHandles.length) {
+      freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+    }
+    freeHandles[freeCount++] = obj.handle;
+    obj.handle = NONE;
+  }
+
+  /**
+   * Marks the tiles an object's collider covers, leaving tiles that are already occupied.
+   */
+  void mark(WorldObject obj) {
+    Collider c = obj.getCollider();
+    int tileSize = Config.tileSize();
+    int startCol = Math.max(0, Math.floorDiv(c.left(), tileSize));
+    int startRow = Math.max(0, Math.floorDiv(c.top(), tileSize));
+    int endCol = Math.min(width - 1, Math.floorDiv(c.right() - 1, tileSize));
+    int endRow = Math.min(height - 1, Math.floorDiv(c.bottom() - 1, tileSize));
+    for (int row = startRow; row <= endRow; row++) {
+      for (int col = startCol; col <= endCol; col++) {
+        int[] page = page(col, row, true);
+        int idx = (row % PAGE_SIZE) * PAGE_SIZE + col % PAGE_SIZE;
+        if (page[idx] == NONE) {
+          page[idx] = obj.handle;
+        }
+      }
+    }
+  }
+
+  /**
+   * Clears the tiles an object's collider covers, handing each to another object that overlaps it.
+   */
+  void unmark(WorldObject obj) {
+    Collider c = obj.getCollider();
+    int tileSize = Config.tileSize();
+    int startCol = Math.max(0, Math.floorDiv(c.left(), tileSize));
+    int startRow = Math.max(0, Math.floorDiv(c.top(), tileSize));
+    int endCol = Math.min(width - 1, Math.floorDiv(c.right() - 1, tileSize));
+    int endRow = Math.min(height - 1, Math.floorDiv(c.bottom() - 1, tileSize));
+    for (int row = startRow; row <= endRow; row++) {
+      for (int col = startCol; col <= endCol; col++) {
+        int[] page = page(col, row, false);
+        int idx = (row % PAGE_SIZE) * PAGE_SIZE + col % PAGE_SIZE;
+        if (page == null || page[idx] != obj.handle) {
+          continue;
+        }
+        WorldObject other = spatialGrid.findFirst(col * tileSize, row * tileSize, tileSize,
+            tileSize, candidate -> candidate != obj && candidate.handle != NONE);
+        page[idx] = other == null ? NONE : other.handle;
+      }
+    }
+  }
+
+  private int[] page(int col, int row, boolean create) {
+    int index = (row / PAGE_SIZE) * pageCols + col / PAGE_SIZE;
+    if (pages[index] == null && create) {
+      pages[index] = new int[PAGE_SIZE * PAGE_SIZE];
+    }
+    return pages[index];
+  }
+}
@@ -5,9 +5,7 @@ import io.tidalisland.collision.ColliderBuilder;
 import io.tidalisland.config.Config;
 import io.tidalisland.entities.Player;
 import io.tidalisland.graphics.Camera;
-import io.tidalisland.graphics.sprites.SpriteSetBuilder;
 import io.tidalisland.items.RaftItem;
-import io.tidalisland.tiles.Tile;
 import io.tidalisland.tiles.WorldMap;
 import io.tidalisland.utils.Position;
 import java.awt.Graphics;
@@ -18,7 +16,8 @@ import java.util.List;
  */
 public class Raft extends WorldObject implements Interactable {
 
-  public static final WorldObjectType TYPE = new WorldObjectType("raft");
+  public static final WorldObjectType TYPE = new WorldObjectType("raft",
+      "/sprites/worldobjects/raft.png", "/sprites/worldobjects/raft.json");
 
   private int health = 15;
   private WorldMap worldMap;
@@ -29,12 +28,12 @@ public class Raft extends WorldObject implements Interactable {
   public Raft(Position position) {
     super(TYPE, position, false);
     setFloatable(true);
-    spriteSet =
-        SpriteSetBuilder.build("/sprites/worldobjects/raft.png", "/sprites/worldobjects/raft.json");
+    spriteSet = TYPE.createSpriteSet();
     spriteSet.setTag("floats");
     collider = new ColliderBuilder().size(spriteSet.getFrame().getSize()).scale(1, 0.8)
         .anchor(ColliderAnchor.CENTER, ColliderAnchor.TOP).build();
     collider.updatePosition(position);
+    setActive(true);
   }
 
   public void setWorldMap(WorldMap worldMap) {
@@ -61,8 +60,7 @@ public class Raft extends WorldObject implements Interactable {
     int tileX = position.getX() / Config.tileSize();
     int tileY = position.getY() / Config.tileSize();
 
-    Tile tile = worldMap.getTile(tileX, tileY);
-    if (tile != null && tile.getName().equals("water")) {
+    if (worldMap.isWater(tileX, tileY)) {
       spriteSet.setTag("floats");
     } else {
       spriteSet.setTag("idle");
@@ -71,6 +69,14 @@ public class Raft extends WorldObject implements Interactable {
     collider.updatePosition(position);
 
     spriteSet.update();
+
+    // Settle once the animation stops; a flooded tile wakes the raft up again
+    setActive(!spriteSet.getCurrent().isFinished());
+  }
+
+  @Override
+  protected void onTileChanged(int col, int row) {
+    setActive(true);
   }
 
   @Override
@@ -3,7 +3,6 @@ package io.tidalisland.worldobjects;
 import io.tidalisland.collision.ColliderBuilder;
 import io.tidalisland.entities.Player;
 import io.tidalisland.graphics.Camera;
-import io.tidalisland.graphics.sprites.SpriteSetBuilder;
 import io.tidalisland.items.Stone;
 import io.tidalisland.utils.Position;
 import java.awt.Graphics;
@@ -14,7 +13,8 @@ import java.util.List;
  */
 public class Rock extends WorldObject implements Interactable {
 
-  public static final WorldObjectType TYPE = new WorldObjectType("rock");
+  public static final WorldObjectType TYPE = new WorldObjectType("rock",
+      "/sprites/worldobjects/rock.png", "/sprites/worldobjects/rock.json");
 
   private int health = 5;
 
@@ -23,8 +23,7 @@ public class Rock extends WorldObject implements Interactable {
    */
   public Rock(Position position) {
     super(TYPE, position, true);
-    spriteSet =
-        SpriteSetBuilder.build("/sprites/worldobjects/rock.png", "/sprites/worldobjects/rock.json");
+    spriteSet = TYPE.createSpriteSet();
     collider = new ColliderBuilder().size(spriteSet.getFrame().getSize()).build();
     collider.updatePosition(position);
   }
@@ -3,7 +3,6 @@ package io.tidalisland.worldobjects;
 import io.tidalisland.collision.ColliderBuilder;
 import io.tidalisland.entities.Player;
 import io.tidalisland.graphics.Camera;
-import io.tidalisland.graphics.sprites.SpriteSetBuilder;
 import io.tidalisland.items.Apple;
 import io.tidalisland.items.Axe;
 import io.tidalisland.items.Leaf;
@@ -18,7 +17,8 @@ import java.util.List;
  */
 public class Tree extends WorldObject implements Interactable {
 
-  public static final WorldObjectType TYPE = new WorldObjectType("tree");
+  public static final WorldObjectType TYPE = new WorldObjectType("tree",
+      "/sprites/worldobjects/tree.png", "/sprites/worldobjects/tree.json");
 
   private int health = 9;
 
@@ -27,8 +27,7 @@ public class Tree extends WorldObject implements Interactable {
    */
   public Tree(Position position) {
     super(TYPE, position, true);
-    spriteSet =
-        SpriteSetBuilder.build("/sprites/worldobjects/tree.png", "/sprites/worldobjects/tree.json");
+    spriteSet = TYPE.createSpriteSet();
     collider = new ColliderBuilder().size(spriteSet.getFrame().getSize()).build();
     collider.updatePosition(position);
   }
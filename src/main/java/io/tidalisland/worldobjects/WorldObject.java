@@ -18,6 +18,11 @@ public abstract class WorldObject {
   protected boolean solid;
   protected boolean floatable;
 
+  int handle; // occupancy handle, assigned by WorldObjectManager
+  WorldObjectManager manager; // set while the object is in a manager
+  int activeIndex = -1; // index in the manager's active set, or -1 if inactive
+  private boolean active;
+
   /**
    * Creates a new world object.
    *
@@ -32,6 +37,9 @@ public abstract class WorldObject {
     this.floatable = false;
   }
 
+  /**
+   * Updates the object. Only called while the object is active.
+   */
   public abstract void update();
 
   public abstract void draw(Graphics g, Camera camera);
@@ -65,6 +73,29 @@ public abstract class WorldObject {
     this.solid = solid;
   }
 
+  public boolean isActive() {
+    return active;
+  }
+
+  /**
+   * Sets whether the object needs to be updated every tick. Objects start inactive; an object that
+   * animates or reacts to its surroundings activates itself and deactivates once it settles.
+   */
+  protected void setActive(boolean active) {
+    this.active = active;
+    if (manager != null) {
+      manager.updateActive(this);
+    }
+  }
+
+  /**
+   * Called when a tile under the object changes. Does nothing by default.
+   *
+   * @param col the tile column
+   * @param row the tile row
+   */
+  protected void onTileChanged(int col, int row) {}
+
   public boolean isFloatable() {
     return floatable;
   }
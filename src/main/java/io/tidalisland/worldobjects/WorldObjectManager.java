@@ -1,41 +1,80 @@
 package io.tidalisland.worldobjects;
 
 import io.tidalisland.collision.Collider;
+import io.tidalisland.collision.SpatialGrid;
 import io.tidalisland.config.Config;
 import io.tidalisland.entities.Player;
+import io.tidalisland.events.EventListener;
+import io.tidalisland.events.Observable;
+import io.tidalisland.events.TileChangeEvent;
+import io.tidalisland.events.WorldObjectChangeEvent;
 import io.tidalisland.graphics.Camera;
 import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.utils.LongObjectMap;
+import io.tidalisland.utils.PackedPosition;
 import io.tidalisland.utils.Position;
 import java.awt.Graphics;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Manages world objects.
+ * Manages world objects. Listeners are notified when objects are added, removed or moved.
+ *
+ * <p>Only active objects are updated each tick (see {@link WorldObject#setActive}), so the cost of
+ * an update grows with the number of objects that are changing rather than with the number of
+ * objects in the world.
  */
-public class WorldObjectManager {
+public class WorldObjectManager implements Observable<WorldObjectChangeEvent> {
+
+  private static final int DRAW_MARGIN_TILES = 1; // sprites may reach a little past colliders
 
   private final WorldMap worldMap;
-  private Map<Position, WorldObject> worldObjects;
+  private final LongObjectMap<WorldObject> worldObjects; // keyed by packed position
+  private final SpatialGrid<WorldObject> spatialGrid;
+  private final OccupancyGrid occupancy;
+  private final ArrayList<WorldObject> active = new ArrayList<>();
+  private final List<WorldObject> tileQuery = new ArrayList<>();
+  private final List<WorldObject> drawList = new ArrayList<>();
+  private long[] drawOrder = new long[64]; // sort keys: foot y in the high bits, list index low
+  private int updateRadius = Config.updateChunkRadius();
+  private final CopyOnWriteArrayList<EventListener<WorldObjectChangeEvent>> listeners =
+      new CopyOnWriteArrayList<>();
 
   /**
-   * Creates a new world object manager.
+   * Creates a new world object manager with the default world objects.
    */
   public WorldObjectManager(WorldMap worldMap) {
+    this(worldMap, WorldObjectLoader.load("/worldobjects/worldobjects.json", worldMap));
+  }
+
+  /**
+   * Creates a new world object manager with the given world objects.
+   *
+   * @param worldMap the world map
+   * @param objects the world objects to add
+   */
+  public WorldObjectManager(WorldMap worldMap, Collection<? extends WorldObject> objects) {
     this.worldMap = worldMap;
-    this.worldObjects = new HashMap<>();
+    this.worldObjects = new LongObjectMap<>(objects.size());
+    this.spatialGrid =
+        new SpatialGrid<>(worldMap.getWidth(), worldMap.getHeight(), Config.tileSize());
+    this.occupancy = new OccupancyGrid(worldMap.getWidth(), worldMap.getHeight(), spatialGrid);
 
-    for (WorldObject obj : WorldObjectLoader.load("/worldobjects/worldobjects.json", worldMap)) {
+    for (WorldObject obj : objects) {
       add(obj);
     }
+
+    worldMap.addListener(this::onTileChanged);
   }
 
   /**
    * Interacts with a world object at a given position.
    */
   public void interactAt(Position pos, Player player) {
-    WorldObject obj = worldObjects.get(pos);
+    WorldObject obj = get(pos);
     if (obj instanceof Interactable i) {
       i.interact(player);
     }
@@ -45,18 +84,32 @@ public class WorldObjectManager {
    * Adds a world object.
    */
   public boolean add(WorldObject obj) {
-    for (WorldObject existing : getAll()) {
-      if (existing.getCollider().intersects(obj.getCollider())) {
-        return false;
-      }
+    if (spatialGrid.findFirst(obj.getCollider(), existing -> true) != null) {
+      return false;
     }
-    worldObjects.put(obj.getPosition(), obj);
+    worldObjects.put(PackedPosition.of(obj.getPosition()), obj);
+    spatialGrid.insert(obj, obj.getCollider());
+    occupancy.add(obj);
+    attach(obj);
+    emitChange(obj, null, obj.getCollider());
     return true;
   }
 
+  /**
+   * Replaces the world object at the position of a given world object.
+   */
   public void replace(WorldObject obj) {
-    Position pos = obj.getPosition();
-    worldObjects.put(pos, obj);
+    WorldObject previous = worldObjects.put(PackedPosition.of(obj.getPosition()), obj);
+    if (previous != null) {
+      spatialGrid.remove(previous);
+      occupancy.remove(previous);
+      detach(previous);
+      emitChange(previous, previous.getCollider(), null);
+    }
+    spatialGrid.insert(obj, obj.getCollider());
+    occupancy.add(obj);
+    attach(obj);
+    emitChange(obj, null, obj.getCollider());
   }
 
   /**
@@ -70,7 +123,20 @@ public class WorldObjectManager {
    * Removes a world object at a given position.
    */
   public void remove(Position pos) {
-    worldObjects.remove(pos);
+    remove(pos.getX(), pos.getY());
+  }
+
+  /**
+   * Removes a world object at a given position.
+   */
+  public void remove(int x, int y) {
+    WorldObject removed = worldObjects.remove(PackedPosition.pack(x, y));
+    if (removed != null) {
+      spatialGrid.remove(removed);
+      occupancy.remove(removed);
+      detach(removed);
+      emitChange(removed, removed.getCollider(), null);
+    }
   }
 
   /**
@@ -80,15 +146,20 @@ public class WorldObjectManager {
     Collider nextCollider = obj.getCollider().copy();
     nextCollider.updatePosition(next);
 
-    for (WorldObject existing : getAll()) {
-      if (existing != obj && existing.getCollider().intersects(nextCollider)) {
-        return false;
-      }
+    if (spatialGrid.findFirst(nextCollider, existing -> existing != obj) != null) {
+      return false;
     }
 
-    worldObjects.remove(obj.getPosition());
+    Collider previous = listeners.isEmpty() ? null : obj.getCollider().copy();
+    worldObjects.remove(PackedPosition.of(obj.getPosition()));
+    occupancy.unmark(obj);
     obj.setPosition(next);
-    worldObjects.put(next, obj);
+    worldObjects.put(PackedPosition.of(next), obj);
+    spatialGrid.update(obj);
+    occupancy.mark(obj);
+    if (previous != null) {
+      emitChange(obj, previous, obj.getCollider());
+    }
     return true;
   }
 
@@ -103,26 +174,28 @@ public class WorldObjectManager {
    * Gets a world object at a given position.
    */
   public WorldObject get(Position pos) {
-    return worldObjects.get(pos);
+    return get(pos.getX(), pos.getY());
   }
 
   /**
-   * Gets a world object at a given tile position.
+   * Gets a world object at a given position.
+   */
+  public WorldObject get(int x, int y) {
+    return worldObjects.get(PackedPosition.pack(x, y));
+  }
+
+  /**
+   * Gets a world object whose collider overlaps a given tile position.
    */
   public WorldObject getObjectAtTile(int col, int row) {
-    for (WorldObject obj : getAll()) {
-      int objTileX = obj.getPosition().getX() / Config.tileSize();
-      int objTileY = obj.getPosition().getY() / Config.tileSize();
-      int objTileWidth = obj.getCollider().getWidth();
-      int objTileHeight = obj.getCollider().getHeight();
-
-      if (col >= objTileX && col < objTileX + objTileWidth && row >= objTileY
-          && row < objTileY + objTileHeight) {
-        return obj; // tile is covered by this object
-      }
-    }
+    return occupancy.get(col, row);
+  }
 
-    return null; // no object covers this tile
+  /**
+   * Checks if any world object's collider overlaps a given tile position.
+   */
+  public boolean isOccupied(int col, int row) {
+    return occupancy.get(col, row) != null;
   }
 
   /**
@@ -136,14 +209,21 @@ public class WorldObjectManager {
    * Has a world object at a given position.
    */
   public boolean has(Position pos) {
-    return worldObjects.containsKey(pos);
+    return has(pos.getX(), pos.getY());
+  }
+
+  /**
+   * Has a world object at a given position.
+   */
+  public boolean has(int x, int y) {
+    return worldObjects.containsKey(PackedPosition.pack(x, y));
   }
 
   /**
    * Has a world object.
    */
   public boolean has(WorldObject obj) {
-    return worldObjects.containsValue(obj);
+    return worldObjects.get(PackedPosition.of(obj.getPosition())) == obj;
   }
 
   /**
@@ -154,24 +234,162 @@ public class WorldObjectManager {
   }
 
   /**
-   * Updates the world objects.
+   * Number of active world objects, which are updated every tick.
+   */
+  public int getActiveCount() {
+    return active.size();
+  }
+
+  /**
+   * Sets how far from the focus active objects are updated.
+   *
+   * @param chunks the distance in world map chunks, or 0 to update every active object
+   */
+  public void setUpdateRadius(int chunks) {
+    if (chunks < 0) {
+      throw new IllegalArgumentException("Update radius cannot be negative");
+    }
+    this.updateRadius = chunks;
+  }
+
+  public int getUpdateRadius() {
+    return updateRadius;
+  }
+
+  /**
+   * Updates every active world object.
    */
   public void update() {
-    for (WorldObject worldObject : getAll()) {
-      worldObject.update();
+    update(0, 0, 0);
+  }
+
+  /**
+   * Updates the active world objects within the update radius of a focus point, usually the center
+   * of the camera. Objects further away stay active and resume once the focus comes closer.
+   *
+   * @param focusX the x-coordinate of the focus
+   * @param focusY the y-coordinate of the focus
+   */
+  public void update(int focusX, int focusY) {
+    update(focusX, focusY, updateRadius);
+  }
+
+  private void update(int focusX, int focusY, int radius) {
+    int chunkPixels = Config.tileSize() * WorldMap.CHUNK_SIZE;
+    int focusChunkX = Math.floorDiv(focusX, chunkPixels);
+    int focusChunkY = Math.floorDiv(focusY, chunkPixels);
+
+    // Walk backwards: an object that deactivates is swapped with the last one, which is already
+    // updated, and objects activated during the walk wait until the next tick
+    for (int i = active.size() - 1; i >= 0; i--) {
+      if (i >= active.size()) {
+        continue; // an update removed several objects
+      }
+      WorldObject obj = active.get(i);
+      if (radius > 0) {
+        Position pos = obj.getPosition();
+        int dx = Math.abs(Math.floorDiv(pos.getX(), chunkPixels) - focusChunkX);
+        int dy = Math.abs(Math.floorDiv(pos.getY(), chunkPixels) - focusChunkY);
+        if (Math.max(dx, dy) > radius) {
+          continue;
+        }
+      }
+      obj.update();
     }
   }
 
   /**
-   * Draws the world objects.
+   * Draws the world objects in view, from back to front. Objects are ordered by the bottom of their
+   * collider, so an object standing lower on the screen is drawn over the ones behind it.
    */
   public void draw(Graphics g, Camera camera) {
-    for (WorldObject worldObject : getAll()) {
-      worldObject.draw(g, camera);
+    int margin = DRAW_MARGIN_TILES * Config.tileSize();
+    Position view = camera.getPosition();
+    spatialGrid.query(view.getX() - margin, view.getY() - margin,
+        Config.screenWidth() + 2 * margin, Config.screenHeight() + 2 * margin, drawList);
+
+    int count = drawList.size();
+    if (drawOrder.length < count) {
+      drawOrder = new long[Math.max(count, drawOrder.length * 2)];
+    }
+    for (int i = 0; i < count; i++) {
+      drawOrder[i] = ((long) drawList.get(i).getCollider().bottom() << 32) | i;
+    }
+    Arrays.sort(drawOrder, 0, count);
+
+    for (int i = 0; i < count; i++) {
+      drawList.get((int) drawOrder[i]).draw(g, camera);
+    }
+    drawList.clear();
+  }
+
+  /**
+   * Adds an object to or removes it from the active set to match its active flag.
+   */
+  void updateActive(WorldObject obj) {
+    if (obj.isActive() && obj.activeIndex < 0) {
+      obj.activeIndex = active.size();
+      active.add(obj);
+    } else if (!obj.isActive() && obj.activeIndex >= 0) {
+      removeActive(obj);
     }
   }
 
+  private void attach(WorldObject obj) {
+    obj.manager = this;
+    updateActive(obj);
+  }
+
+  private void detach(WorldObject obj) {
+    obj.manager = null;
+    if (obj.activeIndex >= 0) {
+      removeActive(obj);
+    }
+  }
+
+  /** Removes an object from the active set by swapping it with the last one. */
+  private void removeActive(WorldObject obj) {
+    WorldObject last = active.remove(active.size() - 1);
+    if (last != obj) {
+      active.set(obj.activeIndex, last);
+      last.activeIndex = obj.activeIndex;
+    }
+    obj.activeIndex = -1;
+  }
+
+  /** Tells the objects on a changed tile about the change. */
+  private void onTileChanged(TileChangeEvent event) {
+    int tileSize = Config.tileSize();
+    spatialGrid.query(event.getCol() * tileSize, event.getRow() * tileSize, tileSize, tileSize,
+        tileQuery);
+    for (WorldObject obj : tileQuery) {
+      obj.onTileChanged(event.getCol(), event.getRow());
+    }
+    tileQuery.clear();
+  }
+
+  /** Emits a world object change event. */
+  private void emitChange(WorldObject obj, Collider oldCollider, Collider newCollider) {
+    if (!listeners.isEmpty()) {
+      dispatch(new WorldObjectChangeEvent(obj, oldCollider, newCollider), listeners);
+    }
+  }
+
+  @Override
+  public void addListener(EventListener<WorldObjectChangeEvent> listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void removeListener(EventListener<WorldObjectChangeEvent> listener) {
+    listeners.remove(listener);
+  }
+
   public WorldMap getWorldMap() {
     return worldMap;
   }
+
+  public SpatialGrid<WorldObject> getSpatialGrid() {
+    return spatialGrid;
+  }
 }
@@ -1,20 +1,53 @@
 package io.tidalisland.worldobjects;
 
+import io.tidalisland.graphics.sprites.SpriteSet;
+import io.tidalisland.graphics.sprites.SpriteSetBuilder;
+
 /**
- * Type of a world object.
+ * Type of a world object, and the sprites its objects are drawn with.
  */
 public class WorldObjectType {
 
   private final String id;
+  private final String atlasPath;
+  private final String sheetPath;
 
+  /**
+   * Creates a type whose objects have no sprites.
+   *
+   * @param id the id
+   */
   public WorldObjectType(String id) {
+    this(id, null, null);
+  }
+
+  /**
+   * Creates a type whose objects are drawn from a sprite atlas.
+   *
+   * @param id the id
+   * @param atlasPath the resource path of the atlas image, or null if there are no sprites
+   * @param sheetPath the resource path of the sprite sheet
+   */
+  public WorldObjectType(String id, String atlasPath, String sheetPath) {
     this.id = id;
+    this.atlasPath = atlasPath;
+    this.sheetPath = sheetPath;
   }
 
   public String id() {
     return id;
   }
 
+  /**
+   * Builds a sprite set for an object of this type. The images are shared with every other
+   * object of the type, so this does not need an object.
+   *
+   * @return the new sprite set, or null if the type has no sprites
+   */
+  public SpriteSet createSpriteSet() {
+    return atlasPath == null ? null : SpriteSetBuilder.build(atlasPath, sheetPath);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
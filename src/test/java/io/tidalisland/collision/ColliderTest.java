@@ -67,6 +67,19 @@ class ColliderTest {
     assertThat(collider.intersects(adjacent)).isFalse();
   }
 
+  @Test
+  @DisplayName("Should test raw areas like colliders")
+  void testAreas() {
+    assertThat(collider.intersects(40, 40, 30, 30)).isTrue();
+    assertThat(collider.intersects(60, 10, 50, 50)).isFalse();
+    assertThat(Collider.intersects(0, 0, 16, 16, 15, 15, 16, 16)).isTrue();
+    assertThat(Collider.intersects(0, 0, 16, 16, 16, 0, 16, 16)).isFalse();
+    assertThat(Collider.intersects(0, 0, 0, 16, 0, 0, 16, 16)).isFalse();
+    assertThat(collider.contains(10, 10, 50, 50, 0)).isTrue();
+    assertThat(collider.contains(9, 10, 50, 50, 0)).isFalse();
+    assertThat(collider.contains(9, 10, 50, 50, 1)).isTrue();
+  }
+
   @Test
   @DisplayName("Should detect point inside")
   void testContainsPoint() {
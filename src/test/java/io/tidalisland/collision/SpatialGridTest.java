@@ -0,0 +1,123 @@
+package io.tidalisland.collision;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.utils.Direction;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SpatialGrid Tests")
+class SpatialGridTest {
+
+  private SpatialGrid<String> grid;
+
+  @BeforeEach
+  void setUp() {
+    grid = new SpatialGrid<>(10, 10, 16);
+  }
+
+  @Test
+  @DisplayName("Should reject invalid dimensions")
+  void testInvalidDimensions() {
+    assertThatThrownBy(() -> new SpatialGrid<String>(0, 10, 16))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should find items intersecting an area")
+  void testQuery() {
+    grid.insert("a", new Collider(0, 0, 16, 16));
+    grid.insert("b", new Collider(40, 40, 16, 16));
+
+    List<String> out = new ArrayList<>();
+    grid.query(8, 8, 16, 16, out);
+
+    assertThat(out).containsExactly("a");
+  }
+
+  @Test
+  @DisplayName("Should report items spanning several cells once")
+  void testQueryDeduplicates() {
+    grid.insert("big", new Collider(0, 0, 48, 48));
+
+    List<String> out = new ArrayList<>();
+    grid.query(0, 0, 160, 160, out);
+
+    assertThat(out).containsExactly("big");
+  }
+
+  @Test
+  @DisplayName("Should not treat touching edges as intersection")
+  void testEdgeTouching() {
+    grid.insert("a", new Collider(0, 0, 16, 16));
+
+    assertThat(grid.findFirst(16, 0, 16, 16, s -> true)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should find items at a point")
+  void testFindAt() {
+    grid.insert("a", new Collider(20, 20, 10, 10));
+
+    assertThat(grid.findAt(25, 25, s -> true)).isEqualTo("a");
+    assertThat(grid.findAt(35, 25, s -> true)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should apply the filter")
+  void testFindFirstFilter() {
+    grid.insert("a", new Collider(0, 0, 16, 16));
+
+    assertThat(grid.findFirst(0, 0, 16, 16, s -> s.equals("b"))).isNull();
+    assertThat(grid.findFirst(0, 0, 16, 16, s -> s.equals("a"))).isEqualTo("a");
+  }
+
+  @Test
+  @DisplayName("Should follow items after they move")
+  void testUpdate() {
+    Collider collider = new Collider(0, 0, 16, 16);
+    grid.insert("a", collider);
+
+    collider.updatePosition(100, 100);
+    grid.update("a");
+
+    assertThat(grid.findAt(5, 5, s -> true)).isNull();
+    assertThat(grid.findAt(105, 105, s -> true)).isEqualTo("a");
+  }
+
+  @Test
+  @DisplayName("Should forget removed items")
+  void testRemove() {
+    grid.insert("a", new Collider(0, 0, 16, 16));
+
+    assertThat(grid.remove("a")).isTrue();
+    assertThat(grid.remove("a")).isFalse();
+    assertThat(grid.contains("a")).isFalse();
+    assertThat(grid.findAt(5, 5, s -> true)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should find items in front of a collider")
+  void testFindInFront() {
+    Collider self = new Collider(32, 32, 16, 16);
+    grid.insert("above", new Collider(32, 10, 16, 16));
+    grid.insert("right", new Collider(52, 32, 16, 16));
+
+    assertThat(grid.findInFront(self, Direction.UP, 8, s -> true)).isEqualTo("above");
+    assertThat(grid.findInFront(self, Direction.RIGHT, 4, s -> true)).isEqualTo("right");
+    assertThat(grid.findInFront(self, Direction.RIGHT, 3, s -> true)).isNull();
+    assertThat(grid.findInFront(self, Direction.DOWN, 8, s -> true)).isNull();
+    assertThat(grid.findInFront(self, Direction.NONE, 8, s -> true)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should clamp items outside the grid into border cells")
+  void testOutsideGrid() {
+    grid.insert("far", new Collider(500, 500, 16, 16));
+
+    assertThat(grid.findAt(505, 505, s -> true)).isEqualTo("far");
+  }
+}
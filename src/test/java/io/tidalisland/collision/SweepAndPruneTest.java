@@ -0,0 +1,85 @@
+package io.tidalisland.collision;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SweepAndPrune Tests")
+class SweepAndPruneTest {
+
+  private static Set<String> findPairs(SweepAndPrune<Integer> broadphase) {
+    Set<String> pairs = new HashSet<>();
+    int count = broadphase.findPairs((a, b) -> pairs.add(Math.min(a, b) + "-" + Math.max(a, b)));
+    assertThat(pairs).hasSize(count); // each pair reported once
+    return pairs;
+  }
+
+  private static Set<String> bruteForce(List<Collider> colliders, int dynamicCount,
+      Set<Integer> removed) {
+    Set<String> pairs = new HashSet<>();
+    for (int a = 0; a < colliders.size(); a++) {
+      for (int b = a + 1; b < colliders.size(); b++) {
+        boolean anyDynamic = a < dynamicCount || b < dynamicCount;
+        if (anyDynamic && !removed.contains(a) && !removed.contains(b)
+            && colliders.get(a).intersects(colliders.get(b))) {
+          pairs.add(a + "-" + b);
+        }
+      }
+    }
+    return pairs;
+  }
+
+  @Test
+  @DisplayName("Should report overlapping pairs with a dynamic item")
+  void testPairs() {
+    SweepAndPrune<Integer> broadphase = new SweepAndPrune<>();
+    broadphase.add(0, new Collider(0, 0, 10, 10), true);
+    broadphase.add(1, new Collider(5, 5, 10, 10), false);
+    broadphase.add(2, new Collider(8, 8, 10, 10), false);
+    broadphase.add(3, new Collider(10, 0, 10, 10), true); // touches 0 without overlapping
+
+    assertThat(findPairs(broadphase)).containsExactlyInAnyOrder("0-1", "0-2", "1-3", "2-3");
+
+    broadphase.remove(2);
+    assertThat(broadphase.contains(2)).isFalse();
+    assertThat(findPairs(broadphase)).containsExactlyInAnyOrder("0-1", "1-3");
+  }
+
+  @Test
+  @DisplayName("Should match a brute force search while items move")
+  void testMatchesBruteForce() {
+    Random random = new Random(11);
+    int dynamicCount = 60;
+    List<Collider> colliders = new ArrayList<>();
+    List<Integer> ids = new ArrayList<>(); // items are matched by identity
+    SweepAndPrune<Integer> broadphase = new SweepAndPrune<>();
+    for (int i = 0; i < 200; i++) {
+      Collider collider = new Collider(random.nextInt(800), random.nextInt(800),
+          4 + random.nextInt(40), 4 + random.nextInt(40));
+      colliders.add(collider);
+      ids.add(i);
+      broadphase.add(ids.get(i), collider, i < dynamicCount);
+    }
+
+    Set<Integer> removed = new HashSet<>();
+    for (int tick = 0; tick < 50; tick++) {
+      for (int i = 0; i < dynamicCount; i++) {
+        colliders.get(i).move(random.nextInt(17) - 8, random.nextInt(17) - 8);
+      }
+      if (tick % 10 == 0) {
+        int victim = random.nextInt(colliders.size());
+        broadphase.remove(ids.get(victim));
+        removed.add(victim);
+      }
+
+      assertThat(findPairs(broadphase)).isEqualTo(bruteForce(colliders, dynamicCount, removed));
+    }
+    assertThat(broadphase.size()).isEqualTo(colliders.size() - removed.size());
+  }
+}
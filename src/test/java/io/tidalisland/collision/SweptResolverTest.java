@@ -0,0 +1,98 @@
+package io.tidalisland.collision;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.config.Config;
+import io.tidalisland.tiles.TestMaps;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.utils.Position;
+import io.tidalisland.worldobjects.Raft;
+import io.tidalisland.worldobjects.Rock;
+import io.tidalisland.worldobjects.WorldObjectManager;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SweptResolver Tests")
+class SweptResolverTest {
+
+  private static final int SIZE = 12;
+
+  private int tileSize;
+  private CollisionManager collisionManager;
+  private SweptResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    tileSize = Config.tileSize();
+    WorldMap map = TestMaps.filled(SIZE, "grass");
+
+    // A one-tile water wall at column 6, with a raft on it at row 2
+    for (int row = 0; row < SIZE; row++) {
+      map.setTile(6, row, TestMaps.id("water"));
+    }
+    Raft raft = new Raft(new Position(6 * tileSize, 2 * tileSize));
+    Rock rock = new Rock(new Position(2 * tileSize, 8 * tileSize));
+    WorldObjectManager objects = new WorldObjectManager(map, List.of(raft, rock));
+
+    collisionManager = new CollisionManager(map, objects);
+    resolver = new SweptResolver(map, objects);
+  }
+
+  @Test
+  @DisplayName("Should stop flush against a wall")
+  void testStopsFlush() {
+    int x = 6 * tileSize - 4 - 5; // 5 pixels left of the water
+    int y = 5 * tileSize;
+
+    assertThat(resolver.resolveX(x, y, 4, 4, 3)).isEqualTo(3);
+    assertThat(resolver.resolveX(x, y, 4, 4, 10)).isEqualTo(5);
+    assertThat(resolver.resolveX(x, y, 4, 4, -10)).isEqualTo(-10);
+  }
+
+  @Test
+  @DisplayName("Should not tunnel through a wall at high speed")
+  void testNoTunneling() {
+    int x = tileSize;
+    int y = 5 * tileSize;
+
+    assertThat(collisionManager.isBlocked(x + 8 * tileSize, y, 4, 4)).isFalse();
+    assertThat(resolver.resolveX(x, y, 4, 4, 8 * tileSize)).isEqualTo(5 * tileSize - 4);
+  }
+
+  @Test
+  @DisplayName("Should agree with isBlocked at every step")
+  void testMatchesIsBlocked() {
+    Random random = new Random(3);
+    int span = SIZE * tileSize;
+
+    for (int i = 0; i < 2000; i++) {
+      int x = random.nextInt(span);
+      int y = random.nextInt(span);
+      int w = 1 + random.nextInt(tileSize);
+      int h = 1 + random.nextInt(tileSize);
+      int d = random.nextInt(4 * tileSize + 1) - 2 * tileSize;
+      if (collisionManager.isBlocked(x, y, w, h)) {
+        continue;
+      }
+
+      boolean horizontal = random.nextBoolean();
+      int moved = horizontal ? resolver.resolveX(x, y, w, h, d) : resolver.resolveY(x, y, w, h, d);
+      int sign = Integer.signum(d);
+
+      assertThat(Math.abs(moved)).isLessThanOrEqualTo(Math.abs(d));
+      for (int s = 0; s != moved + sign && d != 0; s += sign) {
+        int sx = horizontal ? x + s : x;
+        int sy = horizontal ? y : y + s;
+        assertThat(collisionManager.isBlocked(sx, sy, w, h)).as("step %d", s).isFalse();
+      }
+      if (moved != d) {
+        int sx = horizontal ? x + moved + sign : x;
+        int sy = horizontal ? y : y + moved + sign;
+        assertThat(collisionManager.isBlocked(sx, sy, w, h)).isTrue();
+      }
+    }
+  }
+}
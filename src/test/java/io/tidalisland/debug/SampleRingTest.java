@@ -0,0 +1,86 @@
+package io.tidalisland.debug;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SampleRing Tests")
+class SampleRingTest {
+
+  @Test
+  @DisplayName("Should reject capacities that are not powers of two")
+  void testInvalidCapacity() {
+    assertThatThrownBy(() -> new SampleRing(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new SampleRing(6)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should read samples in order")
+  void testRead() {
+    SampleRing ring = new SampleRing(8);
+    ring.add(100, 1);
+    ring.add(200, 2);
+    ring.add(300, 3);
+
+    long[] durations = new long[8];
+    long[] timestamps = new long[8];
+    int count = ring.read(1, ring.head(), durations, timestamps);
+
+    assertThat(count).isEqualTo(2);
+    assertThat(durations).startsWith(2, 3);
+    assertThat(timestamps).startsWith(200, 300);
+  }
+
+  @Test
+  @DisplayName("Should skip samples that were overwritten")
+  void testReadAfterWrap() {
+    SampleRing ring = new SampleRing(4);
+    for (int i = 1; i <= 10; i++) {
+      ring.add(i, i);
+    }
+
+    long[] durations = new long[4];
+    int count = ring.read(0, ring.head(), durations, null);
+
+    // The oldest slot may be mid-write, so one fewer than the capacity is safe
+    assertThat(count).isEqualTo(3);
+    assertThat(durations).startsWith(8, 9, 10);
+  }
+
+  @Test
+  @DisplayName("Should compute nearest-rank percentiles")
+  void testPercentiles() {
+    SampleRing ring = new SampleRing(128);
+    for (int i = 100; i >= 1; i--) {
+      ring.add(0, i);
+    }
+
+    assertThat(ring.percentiles(50, 95, 99)).containsExactly(50, 95, 99);
+  }
+
+  @Test
+  @DisplayName("Should return zeros when empty")
+  void testPercentilesEmpty() {
+    assertThat(new SampleRing(8).percentiles(50, 99)).containsExactly(0, 0);
+  }
+
+  @Test
+  @DisplayName("Should fill a caller's array with percentiles")
+  void testPercentilesInto() {
+    SampleRing ring = new SampleRing(16);
+    long[] out = {-1, -1};
+    ring.percentiles(new double[] {50, 100}, out);
+    assertThat(out).containsExactly(0, 0);
+
+    for (int i = 1; i <= 10; i++) {
+      ring.add(0, i);
+    }
+    ring.percentiles(new double[] {50, 100}, out);
+    assertThat(out).containsExactly(5, 10);
+
+    ring.add(0, 20);
+    ring.percentiles(new double[] {50, 100}, out);
+    assertThat(out).containsExactly(6, 20);
+  }
+}
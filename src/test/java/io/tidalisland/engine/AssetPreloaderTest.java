@@ -0,0 +1,42 @@
+package io.tidalisland.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.graphics.AssetManager;
+import io.tidalisland.items.ItemRegistry;
+import io.tidalisland.worldobjects.WorldObjectRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AssetPreloader Tests")
+class AssetPreloaderTest {
+
+  @Test
+  @DisplayName("Should load every discovered asset in parallel")
+  void testPreload() {
+    AssetPreloader preloader = new AssetPreloader("/sprites/atlas.json",
+        "/tilesets/tileset.json", "/worldobjects/worldobjects.json");
+    // Atlas, tile set and player, then one task per world object and item type
+    assertThat(preloader.getTaskCount()).isEqualTo(3 + WorldObjectRegistry.getAllTypes().size()
+        + ItemRegistry.getAllTypes().size());
+    assertThat(preloader.getProgress()).isZero();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      preloader.start(executor).join();
+
+      assertThat(preloader.getProgress()).isEqualTo(1.0);
+      assertThat(AssetManager.hasImage("/sprites/tiles/water.png")).isTrue();
+      assertThat(AssetManager.hasImage("/sprites/worldobjects/raft.png")).isTrue();
+      assertThat(AssetManager.hasImage("/sprites/items/axe.png")).isTrue();
+      // Everything was built from the packed atlas
+      assertThat(AssetManager.getFrame("/sprites/items/axe.png").getPage())
+          .isSameAs(AssetManager.getFrame("/sprites/tiles/water.png").getPage());
+    } finally {
+      executor.shutdown();
+      AssetManager.clear();
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package io.tidalisland.graphics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompatibleImages Tests")
+class CompatibleImagesTest {
+
+  private static final int RED = 0xffff0000;
+  private static final int BLUE = 0xff0000ff;
+
+  /** A 2x1 image, red on the left and blue on the right. */
+  private static BufferedImage redBlue() {
+    BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+    image.setRGB(0, 0, RED);
+    image.setRGB(1, 0, BLUE);
+    return image;
+  }
+
+  @Test
+  @DisplayName("Should create transparent images")
+  void testCreate() {
+    BufferedImage image = CompatibleImages.create(3, 2);
+
+    assertThat(image.getWidth()).isEqualTo(3);
+    assertThat(image.getHeight()).isEqualTo(2);
+    assertThat(image.getColorModel().hasAlpha()).isTrue();
+    assertThat(image.getRGB(1, 1) >>> 24).isZero();
+  }
+
+  @Test
+  @DisplayName("Should scale by a whole factor without blending pixels")
+  void testScale() {
+    BufferedImage scaled = CompatibleImages.scale(redBlue(), 4);
+
+    assertThat(scaled.getWidth()).isEqualTo(8);
+    assertThat(scaled.getHeight()).isEqualTo(4);
+    for (int y = 0; y < 4; y++) {
+      for (int x = 0; x < 8; x++) {
+        assertThat(scaled.getRGB(x, y)).as("pixel %d,%d", x, y).isEqualTo(x < 4 ? RED : BLUE);
+      }
+    }
+    assertThatThrownBy(() -> CompatibleImages.scale(redBlue(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should make mirrored copies without changing the source")
+  void testFlip() {
+    BufferedImage source = redBlue();
+
+    BufferedImage flippedX = CompatibleImages.flip(source, true, false);
+    BufferedImage same = CompatibleImages.flip(source, false, false);
+
+    assertThat(flippedX.getRGB(0, 0)).isEqualTo(BLUE);
+    assertThat(flippedX.getRGB(1, 0)).isEqualTo(RED);
+    assertThat(same.getRGB(0, 0)).isEqualTo(RED);
+    assertThat(source.getRGB(0, 0)).isEqualTo(RED);
+  }
+
+  @Test
+  @DisplayName("Should keep the generation when the display does not change")
+  void testGeneration() {
+    int generation = CompatibleImages.getGeneration();
+
+    CompatibleImages.setConfiguration(null);
+
+    assertThat(CompatibleImages.getGeneration()).isEqualTo(generation);
+  }
+}
@@ -0,0 +1,82 @@
+package io.tidalisland.graphics.sprites;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.graphics.AssetManager;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AtlasPacker Tests")
+class AtlasPackerTest {
+
+  private static BufferedImage solid(int width, int height, int argb) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        image.setRGB(x, y, argb);
+      }
+    }
+    return image;
+  }
+
+  @Test
+  @DisplayName("Should pack images into non-overlapping regions with their pixels")
+  void testPack() {
+    Random random = new Random(5);
+    AtlasPacker packer = new AtlasPacker(64);
+    List<Integer> colors = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      colors.add(0xff000000 | random.nextInt(0xffffff));
+      packer.add("image" + i, solid(4 + random.nextInt(20), 4 + random.nextInt(20), colors.get(i)));
+    }
+    packer.add("huge", solid(100, 10, 0xffffffff));
+
+    Map<String, AtlasPacker.Region> regions = packer.pack();
+    assertThat(regions).hasSize(41);
+    assertThat(packer.getPages().size()).isLessThan(10);
+
+    List<AtlasPacker.Region> placed = new ArrayList<>(regions.values());
+    for (int a = 0; a < placed.size(); a++) {
+      AtlasPacker.Region ra = placed.get(a);
+      assertThat(ra.x + ra.width).isLessThanOrEqualTo(ra.page.getWidth());
+      assertThat(ra.y + ra.height).isLessThanOrEqualTo(ra.page.getHeight());
+      for (int b = a + 1; b < placed.size(); b++) {
+        AtlasPacker.Region rb = placed.get(b);
+        boolean overlap = ra.pageIndex == rb.pageIndex && ra.x < rb.x + rb.width
+            && rb.x < ra.x + ra.width && ra.y < rb.y + rb.height && rb.y < ra.y + ra.height;
+        assertThat(overlap).isFalse();
+      }
+    }
+
+    BufferedImage image = regions.get("image7").getImage();
+    assertThat(image.getRGB(image.getWidth() - 1, image.getHeight() - 1)).isEqualTo(colors.get(7));
+    assertThat(regions.get("huge").page.getWidth()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("Should reject duplicate names")
+  void testDuplicate() {
+    AtlasPacker packer = new AtlasPacker(64);
+    packer.add("a", solid(2, 2, 0));
+    assertThatThrownBy(() -> packer.add("a", solid(2, 2, 0)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should pack the game's sprites into one page")
+  void testManifest() {
+    try {
+      assertThat(AssetManager.loadAtlas("/sprites/atlas.json")).isEqualTo(1);
+      BufferedImage player = AssetManager.getImage("/sprites/entities/player.png");
+      assertThat(player.getWidth()).isEqualTo(128);
+      assertThat(player.getHeight()).isEqualTo(144);
+    } finally {
+      AssetManager.clear();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package io.tidalisland.graphics.sprites;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AtlasPage Tests")
+class AtlasPageTest {
+
+  @Test
+  @DisplayName("Should make each copy once and share it between threads")
+  void testScaledImageShared() {
+    AtlasPage page = new AtlasPage(new BufferedImage(8, 4, BufferedImage.TYPE_INT_ARGB));
+    BufferedImage scaled = page.getScaledImage(false, false);
+    BufferedImage mirrored = page.getScaledImage(true, false);
+
+    List<CompletableFuture<BufferedImage>> lookups = IntStream.range(0, 8)
+        .mapToObj(i -> CompletableFuture.supplyAsync(() -> page.getScaledImage(true, false)))
+        .toList();
+
+    assertThat(mirrored).isNotSameAs(scaled);
+    assertThat(page.getScaledImage(false, false)).isSameAs(scaled);
+    assertThat(lookups).allSatisfy(lookup -> assertThat(lookup.join()).isSameAs(mirrored));
+  }
+}
@@ -0,0 +1,119 @@
+package io.tidalisland.graphics.sprites;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.config.Config;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SpriteFrame Tests")
+class SpriteFrameTest {
+
+  /** A page whose pixels all differ, so any misplaced pixel shows. */
+  private static AtlasPage gradientPage(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        image.setRGB(x, y, 0xff000000 | (x * 16) << 8 | y * 16);
+      }
+    }
+    return new AtlasPage(image);
+  }
+
+  private static BufferedImage drawn(SpriteFrame frame, boolean flipX, boolean flipY) {
+    BufferedImage target = new BufferedImage(frame.getSize().getWidth(),
+        frame.getSize().getHeight(), BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+    try {
+      frame.draw(g, 0, 0, flipX, flipY);
+    } finally {
+      g.dispose();
+    }
+    return target;
+  }
+
+  @Test
+  @DisplayName("Should draw its region of the page, mirrored when asked")
+  void testDrawRegion() {
+    AtlasPage page = gradientPage(8, 6);
+    SpriteFrame frame = new SpriteFrame(page, 2, 1, 3, 4, 0);
+    int scale = Config.pixelScale();
+
+    for (int variant = 0; variant < 4; variant++) {
+      boolean flipX = (variant & 1) != 0;
+      boolean flipY = (variant & 2) != 0;
+      BufferedImage image = drawn(frame, flipX, flipY);
+      for (int y = 0; y < 4; y++) {
+        for (int x = 0; x < 3; x++) {
+          int srcX = 2 + (flipX ? 2 - x : x);
+          int srcY = 1 + (flipY ? 3 - y : y);
+          assertThat(image.getRGB(x * scale + scale / 2, y * scale + scale / 2))
+              .as("pixel %d,%d flipX=%b flipY=%b", x, y, flipX, flipY)
+              .isEqualTo(page.getImage().getRGB(srcX, srcY));
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should share the page with regions cut from it")
+  void testRegion() {
+    AtlasPage page = gradientPage(8, 6);
+    SpriteFrame sheet = new SpriteFrame(page, 2, 1, 6, 5, 0);
+    SpriteFrame frame = sheet.region(1, 1, 2, 2, 100);
+
+    assertThat(frame.getPage()).isSameAs(page);
+    assertThat(frame.getDuration()).isEqualTo(100);
+    assertThat(frame.getImage().getRGB(0, 0)).isEqualTo(page.getImage().getRGB(3, 2));
+    assertThatThrownBy(() -> sheet.region(5, 0, 2, 2, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new SpriteFrame(page, 7, 0, 2, 1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should draw at the pre-scaled size as a copy, and other sizes from the source")
+  void testDrawScaled() {
+    AtlasPage page = gradientPage(8, 6);
+    SpriteFrame frame = new SpriteFrame(page, 2, 1, 3, 4, 0);
+    int scale = Config.pixelScale();
+
+    BufferedImage normal = new BufferedImage(3 * scale, 4 * scale, BufferedImage.TYPE_INT_ARGB);
+    BufferedImage small = new BufferedImage(3, 4, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = normal.createGraphics();
+    frame.drawScaled(g, 0, 0, 3 * scale, 4 * scale);
+    g.dispose();
+    g = small.createGraphics();
+    frame.drawScaled(g, 0, 0, 3, 4);
+    g.dispose();
+
+    assertThat(page.getScaledImage(false, false).getWidth()).isEqualTo(8 * scale);
+    for (int y = 0; y < 4; y++) {
+      for (int x = 0; x < 3; x++) {
+        int source = page.getImage().getRGB(2 + x, 1 + y);
+        assertThat(normal.getRGB(x * scale, y * scale)).isEqualTo(source);
+        assertThat(small.getRGB(x, y)).isEqualTo(source);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should not change a shared frame by drawing it mirrored")
+  void testMirroredDrawLeavesFrame() {
+    AtlasPage page = gradientPage(8, 6);
+    SpriteFrame frame = new SpriteFrame(page, 2, 1, 3, 4, 0);
+    BufferedImage before = drawn(frame, false, false);
+
+    drawn(frame, true, true);
+    BufferedImage after = drawn(frame, false, false);
+
+    assertThat(page.getScaledImage(true, false)).isSameAs(page.getScaledImage(true, false));
+    for (int y = 0; y < before.getHeight(); y++) {
+      for (int x = 0; x < before.getWidth(); x++) {
+        assertThat(after.getRGB(x, y)).isEqualTo(before.getRGB(x, y));
+      }
+    }
+  }
+}
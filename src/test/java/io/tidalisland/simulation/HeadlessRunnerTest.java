@@ -0,0 +1,80 @@
+package io.tidalisland.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.engine.GameClock;
+import io.tidalisland.input.Action;
+import io.tidalisland.tide.TidalManager;
+import io.tidalisland.tiles.TestMaps;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.utils.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HeadlessRunner Tests")
+class HeadlessRunnerTest {
+
+  @Test
+  @DisplayName("Should run a scripted game without a window")
+  void testRun() {
+    HeadlessRunner runner = new HeadlessRunner(new InputScript(), 1);
+
+    assertThat(runner.run(100)).isEqualTo(100);
+    assertThat(runner.getSimulation().getTick()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("Should replay the same game from the same seed and input")
+  void testDeterministic() {
+    InputScript script = new InputScript()
+        .hold(0, 60, Action.RIGHT)
+        .hold(60, 60, Action.DOWN);
+
+    HeadlessRunner runner = new HeadlessRunner(script, 7);
+    runner.run(2_000);
+    Position end = runner.getSimulation().getPlayer().getPosition().copy();
+
+    HeadlessRunner replay = new HeadlessRunner(script, 7);
+    replay.run(2_000);
+
+    assertThat(replay.getSimulation().getPlayer().getPosition()).isEqualTo(end);
+    assertThat(replay.getSimulation().getOutcome()).isEqualTo(runner.getSimulation().getOutcome());
+  }
+
+  @Test
+  @DisplayName("Should replay with the seed and tick rate a script was recorded with")
+  void testRecordedHeader() {
+    InputScript script = new InputScript().setSeed(7).setTickRate(30)
+        .hold(0, 30, Action.RIGHT);
+
+    HeadlessRunner runner = new HeadlessRunner(script);
+    runner.run(1_000);
+    HeadlessRunner seeded = new HeadlessRunner(script, 7);
+    long ticks = seeded.run(1_000);
+
+    assertThat(runner.getSimulation().getPlayer().getPosition())
+        .isEqualTo(seeded.getSimulation().getPlayer().getPosition());
+    assertThat(GameClock.getInstance().getTotalElapsedMillis()).isEqualTo(ticks * 1_000 / 30);
+  }
+
+  @Test
+  @DisplayName("Should play on a 10000 x 10000 streamed map")
+  void testLargeMap() {
+    int cacheSize = 128;
+    WorldMap map = TestMaps.island(10_000, 8, cacheSize);
+    HeadlessRunner runner = new HeadlessRunner(new InputScript(), 7, map);
+    Simulation simulation = runner.getSimulation();
+    try {
+      runner.run(40_000);
+
+      // The island floods before the player starves
+      TidalManager tide = simulation.getTidalManager();
+      assertThat(simulation.getOutcome()).isEqualTo(Simulation.Outcome.DROWNED);
+      assertThat(tide.isFullyFlooded()).isTrue();
+      assertThat(tide.getFloodField().getWidth()).isLessThan(10_000);
+      assertThat(map.getResidentChunkCount()).isLessThanOrEqualTo(cacheSize);
+    } finally {
+      simulation.close();
+    }
+  }
+}
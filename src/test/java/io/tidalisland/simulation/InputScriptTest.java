@@ -0,0 +1,103 @@
+package io.tidalisland.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.input.Action;
+import io.tidalisland.input.KeyHandler;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InputScript Tests")
+class InputScriptTest {
+
+  private KeyHandler keys;
+
+  @BeforeEach
+  void setUp() {
+    keys = new KeyHandler();
+  }
+
+  @Test
+  @DisplayName("Should apply events on their tick")
+  void testApply() {
+    InputScript script = new InputScript().hold(2, 3, Action.UP);
+
+    script.apply(1, keys);
+    assertThat(keys.isDown(Action.UP)).isFalse();
+
+    script.apply(2, keys);
+    assertThat(keys.isDown(Action.UP)).isTrue();
+    assertThat(keys.isJustPressed(Action.UP)).isTrue();
+
+    script.apply(5, keys);
+    assertThat(keys.isDown(Action.UP)).isFalse();
+    assertThat(script.getLastTick()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("Should parse and print the text form")
+  void testParse() {
+    List<String> lines = List.of("# walk right", "", "0 press RIGHT", "10 release right");
+
+    InputScript script = InputScript.parse(lines);
+
+    assertThat(script.toLines()).containsExactly("0 press RIGHT", "10 release RIGHT");
+  }
+
+  @Test
+  @DisplayName("Should reject malformed lines")
+  void testParseInvalid() {
+    assertThatThrownBy(() -> InputScript.parse(List.of("0 press")))
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Line 1");
+    assertThatThrownBy(() -> InputScript.parse(List.of("0 tap UP")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> InputScript.parse(List.of("0 press JUMP")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should record changes in held actions")
+  void testRecord() {
+    InputScript script = new InputScript();
+
+    keys.press(Action.LEFT);
+    script.record(0, keys);
+    keys.endFrame();
+    script.record(1, keys);
+    keys.release(Action.LEFT);
+    script.record(2, keys);
+
+    assertThat(script.toLines()).containsExactly("0 press LEFT", "2 release LEFT");
+  }
+
+  @Test
+  @DisplayName("Should record presses released before the next tick")
+  void testRecordTap() {
+    InputScript script = new InputScript();
+
+    keys.press(Action.INTERACT);
+    keys.release(Action.INTERACT);
+    script.record(4, keys);
+
+    assertThat(script.toLines()).containsExactly("4 press INTERACT", "4 release INTERACT");
+  }
+
+  @Test
+  @DisplayName("Should keep the seed and tick rate in the header")
+  void testHeader() {
+    InputScript script = new InputScript().setSeed(-42).setTickRate(30).hold(0, 5, Action.UP);
+
+    List<String> lines = script.toLines();
+    InputScript parsed = InputScript.parse(lines);
+
+    assertThat(lines).startsWith("seed -42", "tickRate 30");
+    assertThat(parsed.getSeed()).hasValue(-42);
+    assertThat(parsed.getTickRate()).hasValue(30);
+    assertThat(parsed.toLines()).isEqualTo(lines);
+    assertThat(new InputScript().getSeed()).isEmpty();
+    assertThatThrownBy(() -> InputScript.parse(List.of("tickRate 0")))
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Line 1");
+  }
+}
@@ -0,0 +1,138 @@
+package io.tidalisland.tide;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.tiles.TestMaps;
+import io.tidalisland.tiles.WorldMap;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FloodField Tests")
+class FloodFieldTest {
+
+  private static final short GRASS = TestMaps.id("grass");
+  private static final short WATER = TestMaps.id("water");
+
+  @Test
+  @DisplayName("Should flood inwards from the edges and from water")
+  void testWaves() {
+    WorldMap map = TestMaps.filled(5, "grass");
+    FloodField field = new FloodField(map);
+
+    assertThat(field.getWave(0, 0)).isZero();
+    assertThat(field.getWave(1, 2)).isEqualTo(1);
+    assertThat(field.getWave(2, 2)).isEqualTo(2);
+    assertThat(field.getWaveCount()).isEqualTo(3);
+    assertThat(field.getBucketSize(0)).isEqualTo(16);
+    assertThat(field.getBucketSize(1)).isEqualTo(8);
+    assertThat(field.getBucketSize(2)).isEqualTo(1);
+
+    map.setTile(2, 2, WATER);
+    field = new FloodField(map);
+
+    assertThat(field.getWave(2, 2)).isEqualTo(FloodField.ALREADY_FLOODED);
+    assertThat(field.getWave(2, 1)).isZero();
+    assertThat(field.getWaveCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should match a fresh computation after terrain changes")
+  void testIncremental() {
+    WorldMap map = TestMaps.filled(24, "grass");
+    FloodField field = new FloodField(map);
+    Random random = new Random(7);
+
+    for (int i = 0; i < 200; i++) {
+      int col = random.nextInt(map.getWidth());
+      int row = random.nextInt(map.getHeight());
+      if (random.nextBoolean()) {
+        map.setTile(col, row, WATER);
+        field.markWater(col, row, 0);
+      } else if (map.isWater(col, row)) {
+        map.setTile(col, row, GRASS);
+        field.markLand(col, row, 0);
+      }
+
+      FloodField fresh = new FloodField(map);
+      for (int r = 0; r < map.getHeight(); r++) {
+        for (int c = 0; c < map.getWidth(); c++) {
+          assertThat(field.getWave(c, r)).as("wave at %d,%d", c, r).isEqualTo(fresh.getWave(c, r));
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should never move a tile before the current wave")
+  void testCurrentWave() {
+    WorldMap map = TestMaps.filled(9, "grass");
+    FloodField field = new FloodField(map);
+
+    map.setTile(4, 4, WATER);
+    field.markWater(4, 4, 2);
+
+    assertThat(field.getWave(4, 3)).isEqualTo(2);
+    assertThat(field.getWave(3, 3)).isEqualTo(3);
+    assertThat(field.getWave(1, 1)).isEqualTo(1);
+
+    // The new wave lists the tile, and the old one still holds its stale entry
+    int cell = 3 * map.getWidth() + 4;
+    assertThat(Arrays.copyOf(field.getBucket(2), field.getBucketSize(2))).contains(cell);
+    assertThat(Arrays.copyOf(field.getBucket(3), field.getBucketSize(3))).contains(cell);
+  }
+
+  @Test
+  @DisplayName("Should flood land raised in open sea")
+  void testLandInSea() {
+    WorldMap map = TestMaps.filled(40, "water");
+    FloodField field = new FloodField(map);
+
+    assertThat(field.getWaveCount()).isZero();
+    assertThat(field.getWave(20, 20)).isEqualTo(FloodField.ALREADY_FLOODED);
+
+    map.setTile(20, 20, GRASS);
+    field.markLand(20, 20, 0);
+    map.setTile(21, 20, GRASS);
+    field.markLand(21, 20, 0);
+
+    assertThat(field.getWave(20, 20)).isZero();
+    assertThat(field.getWave(21, 20)).isZero();
+    assertThat(field.getWave(22, 20)).isEqualTo(FloodField.ALREADY_FLOODED);
+    assertThat(Arrays.copyOf(field.getBucket(0), field.getBucketSize(0)))
+        .contains(20 * 40 + 20, 20 * 40 + 21);
+  }
+
+  @Test
+  @DisplayName("Should only flood the chunks around a tile")
+  void testArea() {
+    WorldMap map = TestMaps.filled(100, "grass");
+    FloodField field = new FloodField(map, 50, 50, 1);
+
+    // The chunks of columns and rows 32 to 79
+    assertThat(field.getWidth()).isEqualTo(48);
+    assertThat(field.contains(32, 79)).isTrue();
+    assertThat(field.contains(31, 50)).isFalse();
+    assertThat(field.getWave(31, 50)).isEqualTo(FloodField.NEVER_FLOODED);
+    assertThat(field.getWave(100, 50)).isEqualTo(FloodField.ALREADY_FLOODED);
+    assertThat(field.getWave(32, 50)).isZero();
+    assertThat(field.getWave(33, 50)).isEqualTo(1);
+    int cell = field.getBucket(0)[0];
+    assertThat(field.getCellCol(cell)).isEqualTo(32);
+    assertThat(field.getCellRow(cell)).isEqualTo(32);
+
+    map.setTile(10, 10, WATER);
+    field.markWater(10, 10, 0);
+    assertThat(field.getWave(11, 10)).isEqualTo(FloodField.NEVER_FLOODED);
+
+    // Near the edge the area moves inside the map
+    field = new FloodField(map, 0, 99, 1);
+    assertThat(field.getWidth()).isEqualTo(48);
+    assertThat(field.getHeight()).isEqualTo(36);
+    assertThat(field.contains(0, 64)).isTrue();
+    assertThat(field.contains(0, 63)).isFalse();
+    assertThatThrownBy(() -> new FloodField(map, 0, 0, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,104 @@
+package io.tidalisland.tide;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.collision.Collider;
+import io.tidalisland.config.Config;
+import io.tidalisland.graphics.Camera;
+import io.tidalisland.tiles.TestMaps;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.utils.Position;
+import io.tidalisland.worldobjects.WorldObject;
+import io.tidalisland.worldobjects.WorldObjectManager;
+import io.tidalisland.worldobjects.WorldObjectType;
+import java.awt.Graphics;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SafeTileIndex Tests")
+class SafeTileIndexTest {
+
+  private static final int SIZE = 10;
+
+  private static final short WATER = TestMaps.id("water");
+
+  /** A one-tile object without sprites. */
+  private static class Crate extends WorldObject {
+
+    Crate(int col, int row, boolean floatable) {
+      super(new WorldObjectType("crate"), tilePosition(col, row), true);
+      setFloatable(floatable);
+      collider = new Collider(position.getX(), position.getY(), Config.tileSize(),
+          Config.tileSize());
+    }
+
+    @Override
+    public void update() {}
+
+    @Override
+    public void draw(Graphics g, Camera camera) {}
+  }
+
+  private static Position tilePosition(int col, int row) {
+    return new Position(col * Config.tileSize(), row * Config.tileSize());
+  }
+
+  @Test
+  @DisplayName("Should track terrain and objects")
+  void testTracking() {
+    WorldMap map = TestMaps.filled(SIZE, "grass");
+    map.setTile(2, 2, WATER);
+    Crate raft = new Crate(2, 2, true);
+    Crate rock = new Crate(5, 5, false);
+    WorldObjectManager objects = new WorldObjectManager(map, List.of(raft, rock));
+    SafeTileIndex index = new SafeTileIndex(map, objects);
+
+    assertThat(index.isSafe(0, 0)).isTrue();
+    assertThat(index.isSafe(2, 2)).isTrue();
+    assertThat(index.isSafe(5, 5)).isFalse();
+    assertThat(index.isSafe(-1, 0)).isFalse();
+
+    map.setTile(0, 0, WATER);
+    objects.remove(rock);
+    objects.move(raft, tilePosition(2, 3));
+
+    assertThat(index.isSafe(0, 0)).isFalse();
+    assertThat(index.isSafe(5, 5)).isTrue();
+    assertThat(index.isSafe(2, 2)).isFalse();
+    assertThat(index.isSafe(2, 3)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should find the nearest safe tile within a distance")
+  void testFindNearest() {
+    WorldMap map = TestMaps.filled(SIZE, "grass");
+    for (int row = 0; row < SIZE; row++) {
+      for (int col = 0; col < 5; col++) {
+        map.setTile(col, row, WATER);
+      }
+    }
+    SafeTileIndex index = new SafeTileIndex(map, new WorldObjectManager(map, List.of()));
+
+    assertThat(index.findNearest(6, 4, 0)).isEqualTo(4 * SIZE + 6);
+    assertThat(index.findNearest(1, 4, 4)).isEqualTo(4 * SIZE + 5);
+    assertThat(index.findNearest(1, 4, 3)).isEqualTo(-1);
+
+    // The workspace is reused between searches
+    assertThat(index.findNearest(1, 4, 4)).isEqualTo(4 * SIZE + 5);
+  }
+
+  @Test
+  @DisplayName("Should only read the chunks of tiles that are looked up")
+  void testLazyPages() {
+    int size = WorldMap.CHUNK_SIZE * 4;
+    WorldMap map = TestMaps.streamed(size, "grass", 16);
+    SafeTileIndex index = new SafeTileIndex(map, new WorldObjectManager(map, List.of()));
+    map.setTile(size - 1, size - 1, WATER); // before its page is checked
+
+    assertThat(map.getResidentChunkCount()).isEqualTo(1);
+    assertThat(index.isSafe(0, 0)).isTrue();
+    assertThat(index.isSafe(size - 1, size - 1)).isFalse();
+    assertThat(map.getResidentChunkCount()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,103 @@
+package io.tidalisland.tiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.tiles.WorldMapLoader.WorldMapData;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MapFile Tests")
+class MapFileTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Should read back what it writes")
+  void testRoundTrip() throws IOException {
+    short[] ids = { 0, 1, 2, 2, 1, -1 };
+    Path path = tempDir.resolve("test" + MapFile.EXTENSION);
+
+    new MapFile(3, 2, "/tilesets/tileset.json", ids).write(path);
+    MapFile read = MapFile.read(path);
+
+    assertThat(read.getWidth()).isEqualTo(3);
+    assertThat(read.getHeight()).isEqualTo(2);
+    assertThat(read.getTileSetPath()).isEqualTo("/tilesets/tileset.json");
+    assertThat(read.getTileIds()).containsExactly(ids);
+  }
+
+  @Test
+  @DisplayName("Should convert JSON layouts row by row")
+  void testFromJson() {
+    WorldMapData data = new WorldMapData();
+    data.tileset = "/tilesets/tileset.json";
+    data.layout = List.of(List.of(0, 1), List.of(2, 0), List.of(1, 2));
+
+    MapFile mapFile = MapFile.fromJson(data);
+
+    assertThat(mapFile.getWidth()).isEqualTo(2);
+    assertThat(mapFile.getHeight()).isEqualTo(3);
+    assertThat(mapFile.getTileIds()).containsExactly(0, 1, 2, 0, 1, 2);
+  }
+
+  @Test
+  @DisplayName("Should reject ragged JSON layouts")
+  void testFromJsonRagged() {
+    WorldMapData data = new WorldMapData();
+    data.layout = List.of(List.of(0, 1), List.of(2));
+
+    assertThatThrownBy(() -> MapFile.fromJson(data))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should reject files that are not maps or are truncated")
+  void testInvalid() throws IOException {
+    assertThatThrownBy(() -> MapFile.read(ByteBuffer.wrap("{ \"layout\": [] }".getBytes())))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    Path path = tempDir.resolve("test" + MapFile.EXTENSION);
+    new MapFile(4, 4, "/tilesets/tileset.json", new short[16]).write(path);
+    byte[] bytes = Files.readAllBytes(path);
+    ByteBuffer truncated = ByteBuffer.wrap(bytes, 0, bytes.length - 2);
+
+    assertThatThrownBy(() -> MapFile.read(truncated))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should stream every chunk from a mapping split into segments")
+  void testChunkSource() throws IOException {
+    int width = WorldMap.CHUNK_SIZE * 2 + 5;
+    int height = WorldMap.CHUNK_SIZE * 3 + 7;
+    short[] ids = new short[width * height];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = (short) (i % 1000);
+    }
+    Path path = tempDir.resolve("test" + MapFile.EXTENSION);
+    new MapFile(width, height, "/tilesets/tileset.json", ids).write(path);
+
+    // 5 rows per segment, so segments end inside chunks
+    try (MapFileChunkSource source = new MapFileChunkSource(path, width * 2L * 5)) {
+      short[] chunk = new short[WorldMap.CHUNK_SIZE * WorldMap.CHUNK_SIZE];
+      for (int chunkRow = 0; chunkRow < 4; chunkRow++) {
+        for (int chunkCol = 0; chunkCol < 3; chunkCol++) {
+          source.read(chunkCol, chunkRow, chunk);
+          for (int i = 0; i < chunk.length; i++) {
+            int col = chunkCol * WorldMap.CHUNK_SIZE + i % WorldMap.CHUNK_SIZE;
+            int row = chunkRow * WorldMap.CHUNK_SIZE + i / WorldMap.CHUNK_SIZE;
+            short expected = col < width && row < height ? ids[row * width + col] : WorldMap.EMPTY;
+            assertThat(chunk[i]).as("tile %d,%d", col, row).isEqualTo(expected);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package io.tidalisland.tiles;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Builds small in-memory maps on the default tile set for tests. */
+public final class TestMaps {
+
+  /** Resource path of the tile set every test map uses. */
+  public static final String TILE_SET_PATH = "/tilesets/tileset.json";
+
+  private static TileSet tileSet;
+
+  private TestMaps() {}
+
+  /** Returns the default tile set, loading it on first use. */
+  public static synchronized TileSet tileSet() {
+    if (tileSet == null) {
+      tileSet = TileSetLoader.load(TILE_SET_PATH);
+    }
+    return tileSet;
+  }
+
+  /** Returns the id of the named tile. */
+  public static short id(String tileName) {
+    return (short) tileSet().get(tileName);
+  }
+
+  /** Returns the tile ids of a size x size map covered in the named tile. */
+  public static short[] filledIds(int size, String tileName) {
+    short[] ids = new short[size * size];
+    Arrays.fill(ids, id(tileName));
+    return ids;
+  }
+
+  /** Returns a size x size map covered in the named tile. */
+  public static WorldMap filled(int size, String tileName) {
+    return new WorldMap(size, size, filledIds(size, tileName), tileSet());
+  }
+
+  /**
+   * Returns a size x size map of water with a square island of grass in the middle, that keeps at
+   * most a given number of chunks in memory. Its tiles are computed when a chunk is read, so the
+   * map can be far larger than the memory it would take as an array.
+   */
+  public static WorldMap island(int size, int islandSize, int maxResidentChunks) {
+    short water = id("water");
+    short grass = id("grass");
+    int first = (size - islandSize) / 2;
+    ChunkSource source = new ChunkSource() {
+      private final Map<Long, short[]> written = new HashMap<>();
+
+      @Override
+      public synchronized void read(int chunkCol, int chunkRow, short[] out) {
+        short[] ids = written.get(key(chunkCol, chunkRow));
+        if (ids != null) {
+          System.arraycopy(ids, 0, out, 0, out.length);
+          return;
+        }
+        for (int i = 0; i < out.length; i++) {
+          int col = chunkCol * WorldMap.CHUNK_SIZE + i % WorldMap.CHUNK_SIZE;
+          int row = chunkRow * WorldMap.CHUNK_SIZE + i / WorldMap.CHUNK_SIZE;
+          boolean land = col >= first && col < first + islandSize && row >= first
+              && row < first + islandSize;
+          out[i] = col < size && row < size ? (land ? grass : water) : WorldMap.EMPTY;
+        }
+      }
+
+      @Override
+      public synchronized void write(int chunkCol, int chunkRow, short[] ids) {
+        written.put(key(chunkCol, chunkRow), ids.clone());
+      }
+    };
+    return new WorldMap(size, size, source, maxResidentChunks, tileSet());
+  }
+
+  private static long key(int chunkCol, int chunkRow) {
+    return (long) chunkCol << 32 | chunkRow;
+  }
+
+  /**
+   * Returns a size x size map covered in the named tile that keeps at most a given number of
+   * chunks in memory.
+   */
+  public static WorldMap streamed(int size, String tileName, int maxResidentChunks) {
+    return new WorldMap(size, size, new ArrayChunkSource(size, size, filledIds(size, tileName)),
+        maxResidentChunks, tileSet());
+  }
+}
@@ -0,0 +1,136 @@
+package io.tidalisland.tiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.config.Config;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("WorldMap Tests")
+class WorldMapTest {
+
+  private static final int SIZE = WorldMap.CHUNK_SIZE * 6 + 3; // partial chunks at the edges
+
+  private static final TileSet TILE_SET = TestMaps.tileSet();
+  private static final short GRASS = TestMaps.id("grass");
+  private static final short WATER = TestMaps.id("water");
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Should derive tile flags from the tile set")
+  void testFlags() {
+    WorldMap map = TestMaps.filled(SIZE, "grass");
+    map.setTile(3, 4, WATER);
+
+    assertThat(map.isWater(3, 4)).isTrue();
+    assertThat(map.isBuildable(3, 4)).isFalse();
+    assertThat(map.isBuildable(4, 4)).isTrue();
+    assertThat(map.isWater(-1, 0)).isFalse();
+    assertThat(map.getTileId(SIZE, 0)).isEqualTo(WorldMap.EMPTY);
+  }
+
+  @Test
+  @DisplayName("Should keep changes to chunks that were evicted")
+  void testEvictionWritesBack() {
+    short[] ids = TestMaps.filledIds(SIZE, "grass");
+    WorldMap map = new WorldMap(SIZE, SIZE, new ArrayChunkSource(SIZE, SIZE, ids), 2, TILE_SET);
+
+    for (int i = 0; i < SIZE; i++) {
+      map.setTile(i, i, WATER);
+    }
+    assertThat(map.getResidentChunkCount()).isLessThanOrEqualTo(2);
+
+    for (int i = 0; i < SIZE; i++) {
+      assertThat(map.isWater(i, i)).isTrue();
+      assertThat(map.isWater(i, SIZE - 1 - i)).isEqualTo(i == SIZE - 1 - i);
+    }
+  }
+
+  @Test
+  @DisplayName("Should stream chunks from a map file without modifying it")
+  void testMapFileSource() throws IOException {
+    Path path = tempDir.resolve("map" + MapFile.EXTENSION);
+    new MapFile(SIZE, SIZE, TestMaps.TILE_SET_PATH, TestMaps.filledIds(SIZE, "grass")).write(path);
+
+    try (WorldMap map = new WorldMap(SIZE, SIZE, new MapFileChunkSource(path), 3, TILE_SET)) {
+      map.streamAround(0, 0);
+      for (int col = 0; col < SIZE; col++) {
+        map.setTile(col, SIZE - 1, WATER);
+      }
+      for (int col = 0; col < SIZE; col++) {
+        assertThat(map.isWater(col, SIZE - 1)).isTrue();
+        assertThat(map.isWater(col, 0)).isFalse();
+      }
+      assertThat(map.getResidentChunkCount()).isLessThanOrEqualTo(3);
+    }
+
+    assertThat(MapFile.read(path).getTileIds()).containsOnly(GRASS);
+  }
+
+  @Test
+  @DisplayName("Should finish a background load before closing the source")
+  void testCloseWaitsForLoader() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger reads = new AtomicInteger();
+    AtomicBoolean readAfterClose = new AtomicBoolean();
+    AtomicBoolean sourceClosed = new AtomicBoolean();
+    ChunkSource source = new ChunkSource() {
+      @Override
+      public void read(int chunkCol, int chunkRow, short[] out) throws IOException {
+        reads.incrementAndGet();
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        readAfterClose.compareAndSet(false, sourceClosed.get());
+      }
+
+      @Override
+      public void write(int chunkCol, int chunkRow, short[] ids) {}
+
+      @Override
+      public void close() {
+        sourceClosed.set(true);
+      }
+    };
+    WorldMap map = new WorldMap(SIZE, SIZE, source, 100, TILE_SET);
+    map.streamAround(0, 0); // queues several chunks
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    Thread closer = new Thread(map::close);
+    closer.start();
+    closer.join(100);
+    assertThat(closer.isAlive()).as("close waits for the running load").isTrue();
+
+    release.countDown();
+    closer.join(5_000);
+    assertThat(closer.isAlive()).isFalse();
+    assertThat(sourceClosed).isTrue();
+    assertThat(readAfterClose).isFalse();
+    assertThat(reads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should keep at least the streamed and flooded chunks resident")
+  void testMinResidentChunks() {
+    int chunkPixels = WorldMap.CHUNK_SIZE * Config.tileSize();
+    int visibleCols = Config.screenWidth() / chunkPixels + 2;
+    int visibleRows = Config.screenHeight() / chunkPixels + 2;
+    int tideSide = 2 * Config.tideChunkRadius() + 1;
+
+    assertThat(WorldMap.minResidentChunks())
+        .isGreaterThanOrEqualTo((visibleCols + 2) * (visibleRows + 2) + tideSide * tideSide);
+  }
+}
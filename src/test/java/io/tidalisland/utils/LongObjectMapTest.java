@@ -0,0 +1,71 @@
+package io.tidalisland.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LongObjectMap Tests")
+class LongObjectMapTest {
+
+  @Test
+  @DisplayName("Should put, get and remove values")
+  void testBasics() {
+    LongObjectMap<String> map = new LongObjectMap<>();
+    assertThat(map.put(PackedPosition.pack(64, 128), "tree")).isNull();
+    assertThat(map.put(PackedPosition.pack(64, 128), "rock")).isEqualTo("tree");
+
+    assertThat(map.get(PackedPosition.pack(64, 128))).isEqualTo("rock");
+    assertThat(map.get(PackedPosition.pack(128, 64))).isNull();
+    assertThat(map.size()).isEqualTo(1);
+
+    assertThat(map.remove(PackedPosition.pack(64, 128))).isEqualTo("rock");
+    assertThat(map.remove(PackedPosition.pack(64, 128))).isNull();
+    assertThat(map.isEmpty()).isTrue();
+    assertThatThrownBy(() -> map.put(1, null)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should behave like a HashMap under random use")
+  void testMatchesHashMap() {
+    Random random = new Random(5);
+    LongObjectMap<Integer> map = new LongObjectMap<>();
+    Map<Long, Integer> expected = new HashMap<>();
+
+    for (int i = 0; i < 20000; i++) {
+      // A small key range so that probe runs collide, wrap and get removed from
+      long key = PackedPosition.pack(random.nextInt(40) * 64, random.nextInt(40) * 64);
+      if (random.nextInt(3) == 0) {
+        assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+      } else {
+        assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+      }
+      assertThat(map.size()).isEqualTo(expected.size());
+    }
+
+    for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+      assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+    }
+    assertThat(new ArrayList<>(map.values()))
+        .containsExactlyInAnyOrderElementsOf(expected.values());
+  }
+
+  @Test
+  @DisplayName("Should fail fast when modified during iteration")
+  void testConcurrentModification() {
+    LongObjectMap<String> map = new LongObjectMap<>();
+    map.put(1, "a");
+    map.put(2, "b");
+
+    assertThatThrownBy(() -> {
+      for (String value : map.values()) {
+        map.put(3, value);
+      }
+    }).isInstanceOf(ConcurrentModificationException.class);
+  }
+}
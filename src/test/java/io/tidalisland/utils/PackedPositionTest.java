@@ -0,0 +1,31 @@
+package io.tidalisland.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PackedPosition Tests")
+class PackedPositionTest {
+
+  @Test
+  @DisplayName("Should round-trip coordinates, including negative ones")
+  void testRoundTrip() {
+    int[][] cases = { { 0, 0 }, { 64, 128 }, { -1, 5 }, { 5, -1 }, { Integer.MIN_VALUE,
+        Integer.MAX_VALUE } };
+    for (int[] c : cases) {
+      long packed = PackedPosition.pack(c[0], c[1]);
+      assertThat(PackedPosition.x(packed)).isEqualTo(c[0]);
+      assertThat(PackedPosition.y(packed)).isEqualTo(c[1]);
+    }
+    assertThat(PackedPosition.toPosition(PackedPosition.of(new Position(3, 4))))
+        .isEqualTo(new Position(3, 4));
+  }
+
+  @Test
+  @DisplayName("Should give different keys to swapped coordinates")
+  void testDistinct() {
+    assertThat(PackedPosition.pack(1, 2)).isNotEqualTo(PackedPosition.pack(2, 1));
+    assertThat(PackedPosition.pack(0, -1)).isNotEqualTo(PackedPosition.pack(-1, 0));
+  }
+}
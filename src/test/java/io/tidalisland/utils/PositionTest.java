@@ -110,6 +110,33 @@ class PositionTest {
     assertThat(pos.getY()).isEqualTo(100);
   }
 
+  @Test
+  @DisplayName("Should interpolate between positions")
+  void testLerp() {
+    Position from = new Position(10, 20);
+    Position to = new Position(20, 0);
+
+    assertThat(from.lerp(to, 0.0)).isEqualTo(from);
+    assertThat(from.lerp(to, 1.0)).isEqualTo(to);
+    assertThat(from.lerp(to, 0.5)).isEqualTo(new Position(15, 10));
+    assertThat(from.lerp(to, 0.25)).isEqualTo(new Position(12, 15));
+  }
+
+  @Test
+  @DisplayName("Should interpolate in place")
+  void testSetLerp() {
+    Position from = new Position(10, 20);
+    Position to = new Position(20, 0);
+    Position out = new Position(0, 0);
+
+    assertThat(out.setLerp(from, to, 0.25)).isSameAs(out).isEqualTo(new Position(12, 15));
+    assertThat(out.setLerp(from, to, 1.0)).isEqualTo(to);
+    assertThat(from).isEqualTo(new Position(10, 20));
+
+    // the output may be one of the inputs
+    assertThat(from.setLerp(from, to, 0.5)).isEqualTo(new Position(15, 10));
+  }
+
   @Test
   @DisplayName("Should implement equals correctly")
   void testEquals() {
@@ -0,0 +1,179 @@
+package io.tidalisland.worldobjects;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.tidalisland.collision.Collider;
+import io.tidalisland.config.Config;
+import io.tidalisland.graphics.Camera;
+import io.tidalisland.tiles.TestMaps;
+import io.tidalisland.tiles.WorldMap;
+import io.tidalisland.utils.Position;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WorldObjectManager Tests")
+class WorldObjectManagerTest {
+
+  private static final int SIZE = 20;
+
+  private int tileSize;
+  private WorldMap worldMap;
+  private WorldObjectManager manager;
+
+  /** A one-tile object that records when it is drawn. */
+  private static class Marker extends WorldObject {
+
+    private final List<Marker> drawn;
+
+    Marker(int col, int row, int height, List<Marker> drawn) {
+      super(new WorldObjectType("marker"), new Position(col * Config.tileSize(),
+          row * Config.tileSize()), false);
+      this.drawn = drawn;
+      collider = new Collider(position.getX(), position.getY(), Config.tileSize(), height);
+    }
+
+    @Override
+    public void update() {}
+
+    @Override
+    public void draw(Graphics g, Camera camera) {
+      drawn.add(this);
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    tileSize = Config.tileSize();
+    worldMap = TestMaps.filled(SIZE, "grass");
+    manager = new WorldObjectManager(worldMap, List.of());
+  }
+
+  @Test
+  @DisplayName("Should find objects on every tile they cover")
+  void testFootprint() {
+    // Off the grid, so the rock covers a 2x2 block of tiles
+    Rock rock = new Rock(new Position(3 * tileSize + tileSize / 2, 5 * tileSize + tileSize / 2));
+    assertThat(manager.add(rock)).isTrue();
+
+    assertThat(manager.getObjectAtTile(3, 5)).isSameAs(rock);
+    assertThat(manager.getObjectAtTile(4, 6)).isSameAs(rock);
+    assertThat(manager.isOccupied(5, 5)).isFalse();
+    assertThat(manager.isOccupied(-1, 0)).isFalse();
+
+    manager.move(rock, new Position(10 * tileSize, 10 * tileSize));
+    assertThat(manager.isOccupied(3, 5)).isFalse();
+    assertThat(manager.getObjectAtTile(10, 10)).isSameAs(rock);
+
+    manager.remove(rock);
+    assertThat(manager.isOccupied(10, 10)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should match the spatial grid after random changes")
+  void testMatchesSpatialGrid() {
+    Random random = new Random(9);
+    List<WorldObject> added = new ArrayList<>();
+    int span = (SIZE - 2) * tileSize;
+
+    for (int i = 0; i < 300; i++) {
+      int action = random.nextInt(3);
+      Position pos = new Position(random.nextInt(span), random.nextInt(span));
+      if (action == 0 || added.isEmpty()) {
+        Rock rock = new Rock(pos);
+        if (manager.add(rock)) {
+          added.add(rock);
+        }
+      } else if (action == 1) {
+        manager.move(added.get(random.nextInt(added.size())), pos);
+      } else {
+        manager.remove(added.remove(random.nextInt(added.size())));
+      }
+
+      for (int row = 0; row < SIZE; row++) {
+        for (int col = 0; col < SIZE; col++) {
+          WorldObject expected = manager.getSpatialGrid().findFirst(col * tileSize,
+              row * tileSize, tileSize, tileSize, obj -> true);
+          WorldObject actual = manager.getObjectAtTile(col, row);
+          assertThat(actual == null).as("tile %d,%d", col, row).isEqualTo(expected == null);
+          if (actual != null) {
+            assertThat(actual.getCollider().intersects(col * tileSize, row * tileSize, tileSize,
+                tileSize)).isTrue();
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should only update objects while they are active")
+  void testActiveSet() {
+    Raft raft = new Raft(new Position(2 * tileSize, 2 * tileSize));
+    raft.setWorldMap(worldMap);
+    manager.add(raft);
+    manager.add(new Rock(new Position(8 * tileSize, 8 * tileSize)));
+    assertThat(manager.getActiveCount()).isEqualTo(1);
+
+    // On land the raft settles after one update
+    manager.update();
+    assertThat(raft.isActive()).isFalse();
+    assertThat(manager.getActiveCount()).isZero();
+
+    // Flooding its tile wakes it, and it keeps floating
+    worldMap.setTile(2, 2, TestMaps.id("water"));
+    assertThat(raft.isActive()).isTrue();
+    manager.update();
+    assertThat(raft.isActive()).isTrue();
+
+    manager.remove(raft);
+    assertThat(manager.getActiveCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should skip active objects outside the update radius")
+  void testUpdateRadius() {
+    int chunkPixels = WorldMap.CHUNK_SIZE * tileSize;
+    Raft near = new Raft(new Position(tileSize, tileSize)); // chunk 0
+    Raft far = new Raft(new Position(chunkPixels + tileSize, tileSize)); // chunk 1
+    near.setWorldMap(worldMap);
+    far.setWorldMap(worldMap);
+    manager.add(near);
+    manager.add(far);
+
+    // Focus one chunk left of the map, so only the near raft is within one chunk
+    manager.setUpdateRadius(1);
+    manager.update(-chunkPixels, 0);
+    assertThat(near.isActive()).isFalse();
+    assertThat(far.isActive()).isTrue();
+
+    assertThatThrownBy(() -> manager.setUpdateRadius(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should draw objects in view from back to front")
+  void testDrawOrder() {
+    List<Marker> drawn = new ArrayList<>();
+    Marker front = new Marker(2, 4, tileSize, drawn);
+    Marker back = new Marker(3, 1, tileSize, drawn);
+    Marker tall = new Marker(4, 1, 2 * tileSize, drawn); // foot between the other two
+    Marker hidden = new Marker(2, SIZE - 1, tileSize, drawn); // below the screen
+    manager.add(front);
+    manager.add(back);
+    manager.add(tall);
+    manager.add(hidden);
+
+    BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+    Graphics g = image.createGraphics();
+    manager.draw(g, new Camera());
+    g.dispose();
+
+    assertThat(Config.screenHeight() + tileSize).isLessThan((SIZE - 1) * tileSize);
+    assertThat(drawn).containsExactly(back, tall, front);
+  }
+}